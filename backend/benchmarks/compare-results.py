@@ -0,0 +1,66 @@
+#!/usr/bin/env python3
+"""Compares two JMH JSON result files.
+
+Prints the change in average time and in allocated bytes per operation for
+every benchmark and parameter combination present in both files, and exits
+with status 1 if any benchmark got slower than the given threshold.
+
+Usage: compare-results.py results/baseline.json results/current.json [--threshold 10]
+"""
+import argparse
+import json
+import sys
+
+
+def load(path):
+    with open(path) as f:
+        runs = json.load(f)
+    results = {}
+    for run in runs:
+        params = ",".join(f"{k}={v}" for k, v in sorted((run.get("params") or {}).items()))
+        key = run["benchmark"].rsplit(".", 2)[-2:]
+        key = ".".join(key) + (f"[{params}]" if params else "")
+        primary = run["primaryMetric"]
+        alloc = run.get("secondaryMetrics", {}).get("gc.alloc.rate.norm", {}).get("score")
+        results[key] = (primary["score"], primary["scoreUnit"], alloc)
+    return results
+
+
+def change(old, new):
+    if old is None or new is None or old == 0:
+        return ""
+    return f"{(new - old) / old * 100:+.1f}%"
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=10.0,
+                        help="slowdown in percent that counts as a regression (default 10)")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+
+    regressions = []
+    print(f"{'benchmark':<60} {'baseline':>12} {'current':>12} {'time':>8} {'B/op':>10} {'alloc':>8}")
+    for key in sorted(baseline.keys() & current.keys()):
+        old_score, unit, old_alloc = baseline[key]
+        new_score, _, new_alloc = current[key]
+        alloc = f"{new_alloc:.0f}" if new_alloc is not None else "-"
+        print(f"{key:<60} {old_score:>10.3f}{unit[:2]:>2} {new_score:>10.3f}{unit[:2]:>2} "
+              f"{change(old_score, new_score):>8} {alloc:>10} {change(old_alloc, new_alloc):>8}")
+        if old_score and (new_score - old_score) / old_score * 100 > args.threshold:
+            regressions.append(key)
+
+    for key in sorted(baseline.keys() ^ current.keys()):
+        print(f"{key:<60} only in {'baseline' if key in baseline else 'current'}")
+
+    if regressions:
+        print(f"\n{len(regressions)} benchmark(s) slower than {args.threshold}%: {', '.join(regressions)}")
+        sys.exit(1)
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,20 @@
+#!/usr/bin/env bash
+# Builds the application and the benchmark jar, then runs JMH with the GC
+# profiler and writes machine-readable results.
+#
+# Usage: ./run-benchmarks.sh [output-name] [extra JMH arguments...]
+#   ./run-benchmarks.sh                       -> results/current.json
+#   ./run-benchmarks.sh baseline              -> results/baseline.json
+#   ./run-benchmarks.sh quick Grading -f 1    -> only GradingBenchmark, one fork
+set -euo pipefail
+
+cd "$(dirname "$0")"
+name="${1:-current}"
+shift || true
+
+(cd .. && ./mvnw -q -B install -DskipTests)
+../mvnw -q -B -f pom.xml package
+
+mkdir -p results
+java -jar target/benchmarks.jar -prof gc -rf json -rff "results/${name}.json" "$@"
+echo "Results written to results/${name}.json"
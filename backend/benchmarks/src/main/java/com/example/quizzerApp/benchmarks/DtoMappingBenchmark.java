@@ -0,0 +1,72 @@
+package com.example.quizzerApp.benchmarks;
+
+import com.example.quizzerApp.dto.AnswerResponseDTO;
+import com.example.quizzerApp.dto.DetailedQuizDTO;
+import com.example.quizzerApp.dto.QuizDTO;
+import com.example.quizzerApp.model.Answer;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping on the read paths: the quiz detail view, the quiz
+ * catalog listing and the answer history. {@code size} is the number of
+ * questions, quizzes or answers respectively.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int size;
+
+    private Quiz quiz;
+    private List<Question> questions;
+    private List<Quiz> quizzes;
+    private List<Answer> answers;
+
+    @Setup
+    public void setUp() {
+        quiz = SyntheticQuizzes.quiz(1L);
+        questions = SyntheticQuizzes.questions(quiz, size);
+        quizzes = SyntheticQuizzes.quizzes(size);
+        answers = SyntheticQuizzes.answers(questions, 42L);
+    }
+
+    @Benchmark
+    public DetailedQuizDTO detailedQuiz() {
+        return new DetailedQuizDTO(quiz, questions);
+    }
+
+    @Benchmark
+    public List<QuizDTO> quizCatalog() {
+        return QuizDTO.fromQuizList(quizzes, q -> 10);
+    }
+
+    @Benchmark
+    public List<AnswerResponseDTO> answerHistory() {
+        List<AnswerResponseDTO> dtos = new ArrayList<>(answers.size());
+        for (Answer answer : answers) {
+            dtos.add(new AnswerResponseDTO(answer));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.quizzerApp.benchmarks;
+
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.service.grading.CompiledAnswerKey;
+import com.example.quizzerApp.service.grading.GradingResult;
+import com.example.quizzerApp.service.grading.QuizGrader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grading of a full quiz submission.
+ * {@code entityScan} is the original grading loop, which searches the loaded
+ * question and option entities for every answer; {@code compiledKey} is the
+ * current {@link QuizGrader} path. {@code compileKey} measures the one-off
+ * cost of building the key on a cache miss.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class GradingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int questionCount;
+
+    private List<Question> questions;
+    private List<Map<String, Long>> submission;
+    private List<Object[]> answerKeyRows;
+    private CompiledAnswerKey answerKey;
+
+    @Setup
+    public void setUp() {
+        Quiz quiz = SyntheticQuizzes.quiz(1L);
+        questions = SyntheticQuizzes.questions(quiz, questionCount);
+        submission = SyntheticQuizzes.submission(questions, 42L);
+        answerKeyRows = SyntheticQuizzes.answerKeyRows(questions);
+        answerKey = SyntheticQuizzes.compile(answerKeyRows);
+    }
+
+    @Benchmark
+    public GradingResult compiledKey() {
+        return QuizGrader.grade(answerKey, submission);
+    }
+
+    @Benchmark
+    public GradingResult entityScan() {
+        int correctCount = 0;
+        List<Map<String, Object>> questionResults = new ArrayList<>();
+        for (Map<String, Long> answer : submission) {
+            Long questionId = answer.get("questionId");
+            Long selectedAnswerId = answer.get("selectedAnswerId");
+
+            Question question = questions.stream()
+                    .filter(q -> q.getId().equals(questionId))
+                    .findFirst()
+                    .orElseThrow();
+            AnswerOption selectedOption = question.getAnswers().stream()
+                    .filter(a -> a.getId().equals(selectedAnswerId))
+                    .findFirst()
+                    .orElseThrow();
+
+            boolean isCorrect = selectedOption.isCorrect();
+            if (isCorrect) {
+                correctCount++;
+            }
+            questionResults.add(Map.of(
+                    "questionId", questionId,
+                    "isCorrect", isCorrect,
+                    "correctAnswerId", question.getAnswers().stream()
+                            .filter(AnswerOption::isCorrect)
+                            .findFirst()
+                            .map(AnswerOption::getId)
+                            .orElse(null),
+                    "explanation", isCorrect ? "Correct answer!" : "The selected answer is incorrect."));
+        }
+        return new GradingResult(correctCount, questions.size(), questionResults);
+    }
+
+    @Benchmark
+    public CompiledAnswerKey compileKey() {
+        return SyntheticQuizzes.compile(answerKeyRows);
+    }
+}
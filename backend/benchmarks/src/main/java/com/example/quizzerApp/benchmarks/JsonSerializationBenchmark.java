@@ -0,0 +1,73 @@
+package com.example.quizzerApp.benchmarks;
+
+import com.example.quizzerApp.config.JacksonConfig;
+import com.example.quizzerApp.dto.DetailedQuizDTO;
+import com.example.quizzerApp.dto.QuizDTO;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.service.grading.GradingResult;
+import com.example.quizzerApp.service.grading.QuizGrader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialisation of the largest response bodies, using the application's
+ * configured ObjectMapper. Mapping is done in setup so only Jackson is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private DetailedQuizDTO detailedQuiz;
+    private List<QuizDTO> quizCatalog;
+    private GradingResult gradingResult;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        Quiz quiz = SyntheticQuizzes.quiz(1L);
+        List<Question> questions = SyntheticQuizzes.questions(quiz, size);
+        detailedQuiz = new DetailedQuizDTO(quiz, questions);
+        quizCatalog = QuizDTO.fromQuizList(SyntheticQuizzes.quizzes(size), q -> 10);
+        gradingResult = QuizGrader.grade(
+                SyntheticQuizzes.compile(SyntheticQuizzes.answerKeyRows(questions)),
+                SyntheticQuizzes.submission(questions, 42L));
+    }
+
+    @Benchmark
+    public byte[] detailedQuiz() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detailedQuiz);
+    }
+
+    @Benchmark
+    public byte[] quizCatalog() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(quizCatalog);
+    }
+
+    @Benchmark
+    public byte[] gradingResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(gradingResult);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.quizzerApp.benchmarks;
+
+import com.example.quizzerApp.model.Answer;
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Category;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.service.grading.CompiledAnswerKey;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builds detached entity graphs for the benchmarks.
+ * Ids are assigned the way the database would, and a fixed seed keeps every
+ * run on the same input.
+ */
+final class SyntheticQuizzes {
+
+    static final int OPTIONS_PER_QUESTION = 4;
+
+    private static final Category CATEGORY = category();
+
+    private SyntheticQuizzes() {
+    }
+
+    /**
+     * Creates a published quiz.
+     */
+    static Quiz quiz(long quizId) {
+        Quiz quiz = new Quiz();
+        quiz.setId(quizId);
+        quiz.setName("Synthetic quiz " + quizId);
+        quiz.setDescription("A generated quiz for benchmarking");
+        quiz.setCourseCode("BENCH-" + quizId);
+        quiz.setPublished(true);
+        quiz.setCategory(CATEGORY);
+        return quiz;
+    }
+
+    /**
+     * Creates a number of published quizzes, as listed by the catalog.
+     */
+    static List<Quiz> quizzes(int count) {
+        List<Quiz> quizzes = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            quizzes.add(quiz(id));
+        }
+        return quizzes;
+    }
+
+    /**
+     * Creates the questions of a quiz, each with {@link #OPTIONS_PER_QUESTION}
+     * options of which exactly one is correct.
+     */
+    static List<Question> questions(Quiz quiz, int count) {
+        long optionId = quiz.getId() * 1_000_000L;
+        List<Question> questions = new ArrayList<>(count);
+        for (int q = 0; q < count; q++) {
+            Question question = new Question();
+            question.setId(quiz.getId() * 100_000L + q);
+            question.setContent("Question " + q + " of quiz " + quiz.getId() + "?");
+            question.setDifficulty(switch (q % 3) {
+                case 0 -> "Easy";
+                case 1 -> "Normal";
+                default -> "Hard";
+            });
+            question.setQuiz(quiz);
+            for (int o = 0; o < OPTIONS_PER_QUESTION; o++) {
+                AnswerOption option = new AnswerOption();
+                option.setId(optionId++);
+                option.setText("Option " + o);
+                option.setCorrect(o == q % OPTIONS_PER_QUESTION);
+                question.addAnswerOption(option);
+            }
+            questions.add(question);
+        }
+        return questions;
+    }
+
+    /**
+     * Creates one saved answer per question, picking options at random.
+     */
+    static List<Answer> answers(List<Question> questions, long seed) {
+        Random random = new Random(seed);
+        List<Answer> answers = new ArrayList<>(questions.size());
+        long id = 1;
+        for (Question question : questions) {
+            List<AnswerOption> options = question.getAnswers();
+            Answer answer = new Answer("benchmark-user", question, options.get(random.nextInt(options.size())));
+            answer.setId(id++);
+            answers.add(answer);
+        }
+        return answers;
+    }
+
+    /**
+     * Creates a submission in the format of POST /api/quizzes/{id}/submit,
+     * answering every question with a random option.
+     */
+    static List<Map<String, Long>> submission(List<Question> questions, long seed) {
+        Random random = new Random(seed);
+        List<Map<String, Long>> submission = new ArrayList<>(questions.size());
+        for (Question question : questions) {
+            List<AnswerOption> options = question.getAnswers();
+            Map<String, Long> answer = new HashMap<>();
+            answer.put("questionId", question.getId());
+            answer.put("selectedAnswerId", options.get(random.nextInt(options.size())).getId());
+            submission.add(answer);
+        }
+        return submission;
+    }
+
+    /**
+     * Produces the rows an answer key is compiled from, in the shape returned
+     * by QuestionRepository.findAnswerKeyRowsByQuizId.
+     */
+    static List<Object[]> answerKeyRows(List<Question> questions) {
+        List<Object[]> rows = new ArrayList<>(questions.size() * OPTIONS_PER_QUESTION);
+        for (Question question : questions) {
+            for (AnswerOption option : question.getAnswers()) {
+                rows.add(new Object[] { question.getId(), option.getId(), option.isCorrect() });
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Compiles an answer key from its rows the same way AnswerKeyCache does.
+     */
+    static CompiledAnswerKey compile(List<Object[]> rows) {
+        CompiledAnswerKey.Builder builder = CompiledAnswerKey.builder();
+        for (Object[] row : rows) {
+            long questionId = (Long) row[0];
+            if (row[1] == null) {
+                builder.addQuestion(questionId);
+            } else {
+                builder.addOption(questionId, (Long) row[1], Boolean.TRUE.equals(row[2]));
+            }
+        }
+        return builder.build();
+    }
+
+    private static Category category() {
+        Category category = new Category("Benchmarks", "Synthetic benchmark data");
+        category.setId(1L);
+        return category;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.quizzerApp.cli;
+
+import com.example.quizzerApp.service.importer.QuestionBankImporter;
+import com.example.quizzerApp.service.importer.QuestionImportFormat;
+import com.example.quizzerApp.service.importer.QuestionImportReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command line import of a question bank, for migrations too large for an
+ * HTTP upload. Runs when {@code quizzer.import.file} is set and exits when
+ * the import ends:
+ *
+ * <pre>
+ * java -jar quizzerApp-exec.jar --spring.main.web-application-type=none \
+ *     --quizzer.import.file=bank.xml --quizzer.import.quiz-id=42 [--quizzer.import.format=moodle]
+ * </pre>
+ *
+ * The format is detected from the file extension if it is not given. The
+ * exit status is 0 if every question was imported, 1 otherwise.
+ */
+@Component
+@ConditionalOnProperty(name = "quizzer.import.file")
+public class QuestionImportCommand implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionImportCommand.class);
+
+    @Autowired
+    private QuestionBankImporter questionBankImporter;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Value("${quizzer.import.file}")
+    private String file;
+
+    @Value("${quizzer.import.quiz-id}")
+    private Long quizId;
+
+    @Value("${quizzer.import.format:}")
+    private String format;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        QuestionImportFormat importFormat = format.isEmpty()
+                ? QuestionImportFormat.detect(file)
+                : QuestionImportFormat.fromParameter(format);
+        if (importFormat == null) {
+            throw new IllegalArgumentException("Cannot tell the format of " + file
+                    + ", set quizzer.import.format to json, csv or moodle");
+        }
+
+        logger.info("Importing {} into quiz {} as {}", file, quizId, importFormat);
+        QuestionImportReport report = questionBankImporter.importQuestions(quizId, importFormat,
+                Files.newInputStream(Path.of(file)),
+                progress -> logger.info("{} questions read, {} imported, {} failed", progress.getRead(),
+                        progress.getImported(), progress.getFailed()));
+        for (QuestionImportReport.RecordError error : report.getErrors()) {
+            logger.warn("Question {}: {}", error.getRecord(), error.getMessage());
+        }
+        if (report.getFailed() > report.getErrors().size()) {
+            logger.warn("{} more questions failed", report.getFailed() - report.getErrors().size());
+        }
+        if (report.getError() != null) {
+            logger.error("Import stopped early: {}", report.getError());
+        }
+
+        boolean complete = report.getError() == null && report.getFailed() == 0;
+        System.exit(SpringApplication.exit(context, () -> complete ? 0 : 1));
+    }
+}
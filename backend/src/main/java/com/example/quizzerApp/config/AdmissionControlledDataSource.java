@@ -0,0 +1,132 @@
+package com.example.quizzerApp.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Data source that admits at most a fixed number of callers to the
+ * connection pool at a time.
+ *
+ * With virtual threads there can be thousands of concurrent requests, far more
+ * than pooled connections. Without admission control they all wait inside the
+ * pool, each running down the pool's connection timeout. Here they queue on a
+ * fair semaphore instead, which parks a virtual thread without holding its
+ * carrier, and enter the pool only when a connection is about to be free. A
+ * permit is held from getConnection() until the connection is closed.
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    /**
+     * Creates an admission-controlled data source.
+     *
+     * @param target        The pooled data source to protect
+     * @param maxConcurrent The number of connections that may be in use at once,
+     *                      normally the pool size
+     * @param timeoutMillis How long a caller waits for a permit before failing
+     */
+    public AdmissionControlledDataSource(DataSource target, int maxConcurrent, long timeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieves the number of callers waiting for a permit.
+     *
+     * @return The approximate queue length
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Retrieves the number of permits currently free.
+     *
+     * @return The number of connections that can be taken without waiting
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Timed out after " + timeoutMillis + " ms waiting for a database connection permit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection permit",
+                    e);
+        }
+    }
+
+    // Releases the permit when the connection is closed, exactly once
+    private Connection guard(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        InvocationHandler handler = (proxy, method, args) -> invoke(proxy, connection, released, method, args);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, handler);
+    }
+
+    private Object invoke(Object proxy, Connection connection, AtomicBoolean released, Method method,
+            Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                try {
+                    connection.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+                return null;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+        }
+    }
+}
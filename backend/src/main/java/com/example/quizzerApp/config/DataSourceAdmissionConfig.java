@@ -0,0 +1,67 @@
+package com.example.quizzerApp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Puts an {@link AdmissionControlledDataSource} in front of the connection
+ * pool when quizzer.datasource.admission.enabled is set, as it is in the
+ * virtual-threads profile. By default the number of permits equals the Hikari
+ * pool size, so admitted callers never wait inside the pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "quizzer.datasource.admission.enabled", havingValue = "true")
+public class DataSourceAdmissionConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceAdmissionConfig.class);
+
+    /**
+     * Wraps the application's data source.
+     *
+     * @param environment   The environment holding the admission settings
+     * @param meterRegistry The registry for the admission gauges, if any
+     * @return The post-processor wrapping the data source bean
+     */
+    @Bean
+    public static BeanPostProcessor admissionControlPostProcessor(Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlledDataSource) {
+                    return bean;
+                }
+                int permits = environment.getProperty("quizzer.datasource.admission.permits", Integer.class,
+                        dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10);
+                long timeoutMillis = environment.getProperty("quizzer.datasource.admission.timeout-ms", Long.class,
+                        30_000L);
+                AdmissionControlledDataSource admission = new AdmissionControlledDataSource(dataSource, permits,
+                        timeoutMillis);
+                meterRegistry.ifAvailable(registry -> {
+                    Gauge.builder("quizzer.datasource.admission.waiting", admission,
+                                    AdmissionControlledDataSource::getWaitingCount)
+                            .description("Callers queued for a database connection permit")
+                            .register(registry);
+                    Gauge.builder("quizzer.datasource.admission.available", admission,
+                                    AdmissionControlledDataSource::getAvailablePermits)
+                            .description("Free database connection permits")
+                            .register(registry);
+                });
+                logger.info("Admission control for data source '{}': {} permits, {} ms timeout", beanName,
+                        permits, timeoutMillis);
+                return admission;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.quizzerApp.config;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Creates the Ehcache manager behind Hibernate's second-level cache when
+ * hibernate.cache.use_second_level_cache is set, with the regions configured
+ * in ehcache.xml.
+ *
+ * The JCache provider hands out one manager per configuration URI, which
+ * would let two application contexts in the same JVM (as in the tests) share
+ * regions while their databases differ. Each context therefore gets a manager
+ * of its own.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    /**
+     * Creates the cache manager of this application context.
+     *
+     * @param configuration The Ehcache XML configuration
+     * @return The cache manager
+     * @throws IOException if the configuration cannot be read
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${quizzer.second-level-cache.config:classpath:ehcache.xml}") Resource configuration)
+            throws IOException {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        URI uri = URI.create("urn:quizzer:second-level-cache:" + UUID.randomUUID());
+        return provider.getCacheManager(uri, new XmlConfiguration(configuration.getURL()));
+    }
+
+    /**
+     * Hands the cache manager to Hibernate.
+     *
+     * @param secondLevelCacheManager The cache manager
+     * @return A customizer for the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
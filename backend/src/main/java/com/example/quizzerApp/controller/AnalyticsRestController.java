@@ -0,0 +1,87 @@
+package com.example.quizzerApp.controller;
+
+import com.example.quizzerApp.dto.OptionResultDTO;
+import com.example.quizzerApp.dto.QuestionResultDTO;
+import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.service.analytics.AnswerAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST Controller for answer results of a quiz.
+ * Results are read from counts maintained while answers are submitted, so
+ * each request is one query no matter how many answers a quiz has.
+ */
+@RestController
+@RequestMapping("/api/quizzes/{quizId}/results")
+@CrossOrigin(origins = { "http://localhost:5173", "https://quizzerapp-1knb.onrender.com" })
+@Tag(name = "Analytics", description = "The Analytics API. Contains operations for retrieving answer results of quizzes.")
+public class AnalyticsRestController {
+
+    /**
+     * Repository for Quiz entity operations
+     */
+    @Autowired
+    private QuizRepository quizRepository;
+
+    /**
+     * Service for reading the answer results
+     */
+    @Autowired
+    private AnswerAnalyticsService answerAnalyticsService;
+
+    /**
+     * Retrieves the correct and wrong answer counts of every question of a quiz
+     *
+     * @param quizId The ID of the quiz
+     * @return The results per question, ordered by question ID
+     */
+    @Operation(summary = "Get results per question", description = "Returns the correct and wrong answer counts and the correct rate of every question of a quiz")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved results", content = @Content(array = @ArraySchema(schema = @Schema(implementation = QuestionResultDTO.class)))),
+            @ApiResponse(responseCode = "404", description = "Quiz not found")
+    })
+    @GetMapping
+    public ResponseEntity<?> getQuestionResults(@PathVariable Long quizId) {
+        if (!quizRepository.existsById(quizId)) {
+            return quizNotFound(quizId);
+        }
+        return ResponseEntity.ok(answerAnalyticsService.getQuestionResults(quizId));
+    }
+
+    /**
+     * Retrieves how often every answer option of a quiz was selected
+     *
+     * @param quizId The ID of the quiz
+     * @return The results per option, ordered by question and option ID
+     */
+    @Operation(summary = "Get results per answer option", description = "Returns the selection count and rate of every answer option of a quiz")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved results", content = @Content(array = @ArraySchema(schema = @Schema(implementation = OptionResultDTO.class)))),
+            @ApiResponse(responseCode = "404", description = "Quiz not found")
+    })
+    @GetMapping("/options")
+    public ResponseEntity<?> getOptionResults(@PathVariable Long quizId) {
+        if (!quizRepository.existsById(quizId)) {
+            return quizNotFound(quizId);
+        }
+        return ResponseEntity.ok(answerAnalyticsService.getOptionResults(quizId));
+    }
+
+    private ResponseEntity<?> quizNotFound(Long quizId) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "Quiz not found with id " + quizId));
+    }
+}
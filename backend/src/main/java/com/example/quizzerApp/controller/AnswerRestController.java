@@ -1,5 +1,7 @@
 package com.example.quizzerApp.controller;
 
+import com.example.quizzerApp.dto.AnswerBatchResponseDTO;
+import com.example.quizzerApp.dto.AnswerBatchSubmissionDTO;
 import com.example.quizzerApp.dto.AnswerResponseDTO;
 import com.example.quizzerApp.dto.AnswerSubmissionDTO;
 import com.example.quizzerApp.exception.ResourceNotFoundException;
@@ -9,24 +11,42 @@ import com.example.quizzerApp.model.Question;
 import com.example.quizzerApp.repository.AnswerOptionRepository;
 import com.example.quizzerApp.repository.AnswerRepository;
 import com.example.quizzerApp.repository.QuestionRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.service.analytics.AnswerStatsCollector;
+import com.example.quizzerApp.service.answer.AnswerBatchWriter;
+import com.example.quizzerApp.service.answer.AnswerExportFormat;
+import com.example.quizzerApp.service.answer.AnswerExporter;
+import com.example.quizzerApp.service.answer.AnswerHistoryService;
+import com.example.quizzerApp.service.answer.AnswerPage;
+import com.example.quizzerApp.service.answer.AnswerWriteBehindLog;
+import com.example.quizzerApp.service.grading.GradingMetrics;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +59,10 @@ import java.util.stream.Collectors;
 @Tag(name = "Answer", description = "The Answer API. Contains operations for submitting and retrieving quiz answers.")
 public class AnswerRestController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private AnswerRepository answerRepository;
 
@@ -48,6 +72,46 @@ public class AnswerRestController {
     @Autowired
     private AnswerOptionRepository answerOptionRepository;
 
+    @Autowired
+    private QuizRepository quizRepository;
+
+    /**
+     * Writer for inserting validated answers in JDBC batches
+     */
+    @Autowired
+    private AnswerBatchWriter answerBatchWriter;
+
+    /**
+     * Service for reading paginated answer histories
+     */
+    @Autowired
+    private AnswerHistoryService answerHistoryService;
+
+    /**
+     * Exporter for streaming the answers of a quiz
+     */
+    @Autowired
+    private AnswerExporter answerExporter;
+
+    /**
+     * Write-behind log for answers; only present when
+     * quizzer.answers.write-behind.enabled is set
+     */
+    @Autowired(required = false)
+    private AnswerWriteBehindLog answerWriteBehindLog;
+
+    /**
+     * Counters for answer outcomes
+     */
+    @Autowired
+    private GradingMetrics gradingMetrics;
+
+    /**
+     * Collector for per-question answer counts
+     */
+    @Autowired
+    private AnswerStatsCollector answerStatsCollector;
+
     /**
      * Global exception handler for validation errors
      */
@@ -73,6 +137,7 @@ public class AnswerRestController {
             @ApiResponse(responseCode = "201", description = "Answer successfully submitted", content = @Content(schema = @Schema(implementation = AnswerResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
             @ApiResponse(responseCode = "404", description = "Question or answer option not found"),
+            @ApiResponse(responseCode = "503", description = "Answer queue is full, retry later"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @PostMapping
@@ -90,6 +155,7 @@ public class AnswerRestController {
 
             // Verify the answer option belongs to the question
             if (!selectedOption.getQuestion().getId().equals(question.getId())) {
+                gradingMetrics.recordRejectedAnswer(GradingMetrics.SINGLE);
                 return ResponseEntity
                         .status(HttpStatus.BAD_REQUEST)
                         .body(Map.of("error", "Answer option does not belong to the specified question"));
@@ -103,7 +169,24 @@ public class AnswerRestController {
 
             // Create and save the answer
             Answer answer = new Answer(userId, question, selectedOption);
+            gradingMetrics.recordAnswer(GradingMetrics.SINGLE, answer.isCorrect());
+
+            // In write-behind mode the answer is written later, so it has no ID yet;
+            // the log counts it in the answer statistics once it is written
+            if (answerWriteBehindLog != null) {
+                if (!answerWriteBehindLog.append(answer)) {
+                    return ResponseEntity
+                            .status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, "1")
+                            .body(Map.of("error", "Too many answers are being submitted, please retry"));
+                }
+                return ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(new AnswerResponseDTO(answer));
+            }
+
             Answer savedAnswer = answerRepository.save(answer);
+            answerStatsCollector.record(question.getId(), selectedOption.getId(), answer.isCorrect());
 
             // Return response with feedback
             return ResponseEntity
@@ -111,6 +194,7 @@ public class AnswerRestController {
                     .body(new AnswerResponseDTO(savedAnswer));
 
         } catch (ResourceNotFoundException e) {
+            gradingMetrics.recordRejectedAnswer(GradingMetrics.SINGLE);
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(Map.of("error", e.getMessage()));
@@ -125,32 +209,256 @@ public class AnswerRestController {
     }
 
     /**
-     * Retrieves all answers for a specific quiz submitted by a user
+     * Submits a batch of answers, typically a whole quiz attempt, in one request.
+     * All referenced questions and options are loaded with one query each, and
+     * the accepted answers are written with a single JDBC batch insert.
+     * Invalid items are reported individually and do not fail the batch.
+     *
+     * @param batch The answers to save
+     * @return Per-item feedback on the submitted answers, in submission order
+     */
+    @Operation(summary = "Submit a batch of answers", description = "Submits several answers at once and returns feedback for each of them")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed", content = @Content(schema = @Schema(implementation = AnswerBatchResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<?> submitAnswerBatch(@Valid @RequestBody AnswerBatchSubmissionDTO batch) {
+        try {
+            List<AnswerSubmissionDTO> submissions = batch.getAnswers();
+
+            // Prefetch every referenced question and option up front
+            Set<Long> questionIds = new HashSet<>();
+            Set<Long> optionIds = new HashSet<>();
+            for (AnswerSubmissionDTO submission : submissions) {
+                questionIds.add(submission.getQuestionId());
+                optionIds.add(submission.getAnswerOptionId());
+            }
+            Map<Long, Question> questions = questionRepository.findAllById(questionIds).stream()
+                    .collect(Collectors.toMap(Question::getId, Function.identity()));
+            Map<Long, AnswerOption> options = answerOptionRepository.findAllById(optionIds).stream()
+                    .collect(Collectors.toMap(AnswerOption::getId, Function.identity()));
+
+            // One temporary user ID for the whole batch if none is provided (for demo purposes)
+            String batchUserId = batch.getUserId();
+            if (batchUserId == null || batchUserId.isEmpty()) {
+                batchUserId = "temp-user-" + UUID.randomUUID().toString();
+            }
+
+            List<Answer> accepted = new ArrayList<>();
+            List<AnswerBatchResponseDTO.ItemResult> results = new ArrayList<>(submissions.size());
+            for (int i = 0; i < submissions.size(); i++) {
+                AnswerSubmissionDTO submission = submissions.get(i);
+                Long questionId = submission.getQuestionId();
+                Long optionId = submission.getAnswerOptionId();
+
+                Question question = questions.get(questionId);
+                AnswerOption selectedOption = options.get(optionId);
+                if (question == null) {
+                    results.add(AnswerBatchResponseDTO.ItemResult.rejected(i, questionId, optionId,
+                            "Question not found with id " + questionId));
+                } else if (selectedOption == null) {
+                    results.add(AnswerBatchResponseDTO.ItemResult.rejected(i, questionId, optionId,
+                            "Answer option not found with id " + optionId));
+                } else if (!selectedOption.getQuestion().getId().equals(questionId)) {
+                    results.add(AnswerBatchResponseDTO.ItemResult.rejected(i, questionId, optionId,
+                            "Answer option does not belong to the specified question"));
+                } else {
+                    String userId = submission.getUserId();
+                    if (userId == null || userId.isEmpty()) {
+                        userId = batchUserId;
+                    }
+                    Answer answer = new Answer(userId, question, selectedOption);
+                    accepted.add(answer);
+                    results.add(AnswerBatchResponseDTO.ItemResult.accepted(i, questionId, optionId,
+                            answer.isCorrect()));
+                }
+            }
+
+            answerBatchWriter.insertAll(accepted);
+            for (Answer answer : accepted) {
+                answerStatsCollector.record(answer.getQuestion().getId(), answer.getSelectedOption().getId(),
+                        answer.isCorrect());
+            }
+
+            for (AnswerBatchResponseDTO.ItemResult result : results) {
+                if (result.isAccepted()) {
+                    gradingMetrics.recordAnswer(GradingMetrics.BATCH, Boolean.TRUE.equals(result.getCorrect()));
+                } else {
+                    gradingMetrics.recordRejectedAnswer(GradingMetrics.BATCH);
+                }
+            }
+
+            return ResponseEntity.ok(new AnswerBatchResponseDTO(results));
+
+        } catch (Exception e) {
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                            "error", "Failed to submit answers",
+                            "message", e.getMessage(),
+                            "type", e.getClass().getName()));
+        }
+    }
+
+    /**
+     * Retrieves one page of the answers for a specific quiz, optionally from one user
      * 
      * @param quizId The ID of the quiz
      * @param userId The ID of the user (optional)
-     * @return List of answers for the specified quiz from the specified user
+     * @param cursor The cursor returned with the previous page (optional)
+     * @param size   The maximum number of answers on the page
+     * @return The answers in submission order, with the cursor of the next page
+     *         in the X-Next-Cursor header
      */
-    @Operation(summary = "Get answers for a quiz", description = "Returns all answers for a specific quiz, optionally filtered by user")
+    @Operation(summary = "Get answers for a quiz", description = "Returns a page of answers for a specific quiz in submission order, optionally filtered by user")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved answers")
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved answers; X-Next-Cursor holds the cursor of the next page, if any"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
     @GetMapping("/quiz/{quizId}")
-    public List<AnswerResponseDTO> getAnswersForQuiz(
+    public ResponseEntity<?> getAnswersForQuiz(
             @PathVariable Long quizId,
-            @RequestParam(required = false) String userId) {
-
-        List<Answer> answers;
-        if (userId != null && !userId.isEmpty()) {
-            // Get answers for specific user and quiz
-            answers = answerRepository.findByUserIdAndQuestionQuizId(userId, quizId);
-        } else {
-            // Get all answers for the quiz
-            answers = answerRepository.findByQuestionQuizId(quizId);
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return invalidSize();
+        }
+        try {
+            return pageResponse(answerHistoryService.listByQuiz(quizId, userId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Retrieves one page of the answers submitted by a user across all quizzes
+     * 
+     * @param userId The ID of the user
+     * @param cursor The cursor returned with the previous page (optional)
+     * @param size   The maximum number of answers on the page
+     * @return The answers in submission order, with the cursor of the next page
+     *         in the X-Next-Cursor header
+     */
+    @Operation(summary = "Get answers of a user", description = "Returns a page of a user's answers in submission order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved answers; X-Next-Cursor holds the cursor of the next page, if any"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<?> getAnswersByUser(
+            @PathVariable String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return invalidSize();
+        }
+        try {
+            return pageResponse(answerHistoryService.listByUser(userId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Retrieves one page of the answers to a question
+     * 
+     * @param questionId The ID of the question
+     * @param cursor     The cursor returned with the previous page (optional)
+     * @param size       The maximum number of answers on the page
+     * @return The answers in submission order, with the cursor of the next page
+     *         in the X-Next-Cursor header
+     */
+    @Operation(summary = "Get answers to a question", description = "Returns a page of answers to a question in submission order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved answers; X-Next-Cursor holds the cursor of the next page, if any"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    @GetMapping("/question/{questionId}")
+    public ResponseEntity<?> getAnswersByQuestion(
+            @PathVariable Long questionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return invalidSize();
         }
+        try {
+            return pageResponse(answerHistoryService.listByQuestion(questionId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
 
-        return answers.stream()
+    private ResponseEntity<?> invalidSize() {
+        return ResponseEntity.badRequest()
+                .body(Map.of("error", "size must be between 1 and " + MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Keeps the body a plain array, as it was before paging, and hands the
+     * cursor of the next page out in a header along with a Link to that page.
+     */
+    private ResponseEntity<?> pageResponse(AnswerPage page) {
+        List<AnswerResponseDTO> answers = page.getAnswers().stream()
                 .map(AnswerResponseDTO::new)
                 .collect(Collectors.toList());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor())
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(answers);
+    }
+
+    /**
+     * Exports all answers for a specific quiz as NDJSON or CSV
+     *
+     * Rows are written to the response while they are read from the database,
+     * so memory use is the same for ten answers or ten million.
+     *
+     * @param quizId   The ID of the quiz
+     * @param format   The export format, ndjson or csv
+     * @param response The response the rows are written to
+     * @return An error if the format or quiz is unknown; null once the rows
+     *         have been written
+     * @throws IOException if the rows cannot be written
+     */
+    @Operation(summary = "Export answers for a quiz", description = "Streams all answers for a specific quiz as NDJSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Answers streamed", content = {
+                    @Content(mediaType = "application/x-ndjson"),
+                    @Content(mediaType = "text/csv") }),
+            @ApiResponse(responseCode = "400", description = "Unknown format"),
+            @ApiResponse(responseCode = "404", description = "Quiz not found")
+    })
+    @GetMapping("/quiz/{quizId}/export")
+    public ResponseEntity<?> exportAnswersForQuiz(
+            @PathVariable Long quizId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        AnswerExportFormat exportFormat;
+        try {
+            exportFormat = AnswerExportFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        if (!quizRepository.existsById(quizId)) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Quiz not found with id " + quizId));
+        }
+
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("quiz-" + quizId + "-answers." + exportFormat.getExtension())
+                .build()
+                .toString());
+        answerExporter.export(quizId, exportFormat, response.getOutputStream());
+        return null;
     }
 }
@@ -0,0 +1,118 @@
+package com.example.quizzerApp.controller;
+
+import com.example.quizzerApp.dto.QuizAttemptDTO;
+import com.example.quizzerApp.exception.ResourceNotFoundException;
+import com.example.quizzerApp.model.QuizAttempt;
+import com.example.quizzerApp.service.attempt.QuizAttemptService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Controller for reading graded quiz attempts.
+ * Attempts are recorded by the quiz submit endpoint; every read here is a
+ * lookup by primary key or a limited scan of an index.
+ */
+@RestController
+@RequestMapping("/api/attempts")
+@CrossOrigin(origins = { "http://localhost:5173", "https://quizzerapp-1knb.onrender.com" })
+@Tag(name = "Attempt", description = "The Attempt API. Contains operations for retrieving graded quiz attempts.")
+public class AttemptRestController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Service for recording and reading quiz attempts
+     */
+    @Autowired
+    private QuizAttemptService quizAttemptService;
+
+    /**
+     * Retrieves a single attempt
+     *
+     * @param id The ID of the attempt
+     * @return The attempt with the outcome of every answered question
+     */
+    @Operation(summary = "Get an attempt", description = "Returns a graded quiz attempt by its ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved attempt", content = @Content(schema = @Schema(implementation = QuizAttemptDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Attempt not found")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getAttempt(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(new QuizAttemptDTO(quizAttemptService.getAttempt(id)));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Retrieves the newest attempts of a user
+     *
+     * @param userId The ID of the user
+     * @param quizId The ID of a quiz to restrict the attempts to (optional)
+     * @param size   The maximum number of attempts
+     * @return The attempts, newest first
+     */
+    @Operation(summary = "Get attempts of a user", description = "Returns a user's newest attempts, optionally at one quiz")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved attempts"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size")
+    })
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<?> getAttemptsByUser(
+            @PathVariable String userId,
+            @RequestParam(required = false) Long quizId,
+            @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return invalidSize();
+        }
+        return ResponseEntity.ok(toDTOs(quizAttemptService.listByUser(userId, quizId, size)));
+    }
+
+    /**
+     * Retrieves the newest attempts at a quiz
+     *
+     * @param quizId The ID of the quiz
+     * @param size   The maximum number of attempts
+     * @return The attempts, newest first
+     */
+    @Operation(summary = "Get attempts at a quiz", description = "Returns the newest attempts at a quiz by all users")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved attempts"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size")
+    })
+    @GetMapping("/quiz/{quizId}")
+    public ResponseEntity<?> getAttemptsByQuiz(
+            @PathVariable Long quizId,
+            @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return invalidSize();
+        }
+        return ResponseEntity.ok(toDTOs(quizAttemptService.listByQuiz(quizId, size)));
+    }
+
+    private ResponseEntity<?> invalidSize() {
+        return ResponseEntity.badRequest()
+                .body(Map.of("error", "size must be between 1 and " + MAX_PAGE_SIZE));
+    }
+
+    private List<QuizAttemptDTO> toDTOs(List<QuizAttempt> attempts) {
+        return attempts.stream()
+                .map(QuizAttemptDTO::new)
+                .toList();
+    }
+}
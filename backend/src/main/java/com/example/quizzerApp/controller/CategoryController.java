@@ -9,6 +9,7 @@ import com.example.quizzerApp.dto.CategoryDTO;
 import com.example.quizzerApp.exception.ResourceNotFoundException;
 import com.example.quizzerApp.model.Category;
 import com.example.quizzerApp.repository.CategoryRepository;
+import com.example.quizzerApp.service.catalog.QuizChangeTracker;
 
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -22,9 +23,11 @@ import org.springframework.http.ResponseEntity;
 public class CategoryController {
 
     private final CategoryRepository categoryRepository;
+    private final QuizChangeTracker quizChangeTracker;
 
-    public CategoryController(CategoryRepository categoryRepository) {
+    public CategoryController(CategoryRepository categoryRepository, QuizChangeTracker quizChangeTracker) {
         this.categoryRepository = categoryRepository;
+        this.quizChangeTracker = quizChangeTracker;
     }
 
     @GetMapping("/new")
@@ -36,12 +39,13 @@ public class CategoryController {
     @PostMapping
     public String addCategory(@ModelAttribute Category category) {
         categoryRepository.save(category);
+        quizChangeTracker.catalogChanged();
         return "redirect:/categories"; // Or another page
     }
 
     @GetMapping
     public String listCategories(Model model) {
-        List<Category> categories = categoryRepository.findAll();
+        List<Category> categories = categoryRepository.findAllByOrderByNameAsc();
         model.addAttribute("categories", categories);
         return "categories/category-list";
     }
@@ -49,6 +53,7 @@ public class CategoryController {
     @PostMapping("/{id}/delete")
     public String deleteCategory(@PathVariable Long id) {
         categoryRepository.deleteById(id);
+        quizChangeTracker.catalogChanged();
         return "redirect:/categories";
     }
 
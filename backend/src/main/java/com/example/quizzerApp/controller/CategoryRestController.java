@@ -1,11 +1,13 @@
 package com.example.quizzerApp.controller;
 
 import com.example.quizzerApp.dto.CategoryDTO;
+import com.example.quizzerApp.dto.QuizDTO;
 import com.example.quizzerApp.exception.ResourceNotFoundException;
 import com.example.quizzerApp.model.Category;
 import com.example.quizzerApp.model.Quiz;
 import com.example.quizzerApp.repository.CategoryRepository;
 import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.service.catalog.QuizChangeTracker;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -38,63 +41,96 @@ public class CategoryRestController {
     @Autowired
     private QuizRepository quizRepository;
 
+    @Autowired
+    private QuizChangeTracker quizChangeTracker;
+
     /**
-     * Retrieves all categories
+     * Retrieves all categories, ordered by name
      * 
-     * @return List of all categories
+     * @param ifNoneMatch The entity tag of the client's copy, if any
+     * @return List of all categories, or 304 if the catalog has not changed
      */
     @Operation(summary = "Get all categories", description = "Returns a list of all categories")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved all categories")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved all categories"),
+            @ApiResponse(responseCode = "304", description = "The client's copy is current")
+    })
     @GetMapping
-    public List<CategoryDTO> getAllCategories() {
-        List<Category> categories = categoryRepository.findAll();
-        return CategoryDTO.fromCategoryList(categories);
+    public ResponseEntity<List<CategoryDTO>> getAllCategories(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = EntityTags.catalog(quizChangeTracker.currentCatalogVersion());
+        if (EntityTags.isNotModified(ifNoneMatch, etag)) {
+            return EntityTags.notModified(etag);
+        }
+        List<Category> categories = categoryRepository.findAllByOrderByNameAsc();
+        return EntityTags.ok(etag, CategoryDTO.fromCategoryList(categories));
     }
 
     /**
      * Retrieves a specific category by its ID
      * 
-     * @param id The ID of the category to retrieve
-     * @return The category with the specified ID
+     * @param id          The ID of the category to retrieve
+     * @param ifNoneMatch The entity tag of the client's copy, if any
+     * @return The category with the specified ID, or 304 if the client's copy is current
      * @throws ResourceNotFoundException if no category exists with the given ID
      */
     @Operation(summary = "Get a category by ID", description = "Returns a single category identified by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the category"),
+            @ApiResponse(responseCode = "304", description = "The client's copy is current"),
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryDTO> getCategory(@PathVariable Long id) {
+    public ResponseEntity<CategoryDTO> getCategory(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long version = categoryRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id " + id));
+        String etag = EntityTags.category(id, version);
+        if (EntityTags.isNotModified(ifNoneMatch, etag)) {
+            return EntityTags.notModified(etag);
+        }
+
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found with id " + id));
-        return ResponseEntity.ok(CategoryDTO.fromCategory(category));
+        return EntityTags.ok(etag, CategoryDTO.fromCategory(category));
     }
 
     /**
-     * Retrieves quizzes belonging to a specific category
+     * Retrieves quizzes belonging to a specific category as catalog rows with
+     * question count and review summary, read in a single query
      * 
      * @param id        The ID of the category
-     * @param published Optional parameter to filter by published status
-     * @return List of quizzes belonging to the specified category
+     * @param published   Optional parameter to filter by published status
+     * @param ifNoneMatch The entity tag of the client's copy, if any
+     * @return List of quizzes belonging to the specified category, or 304 if
+     *         the catalog has not changed
      * @throws ResourceNotFoundException if no category exists with the given ID
      */
     @Operation(summary = "Get quizzes for a category", description = "Returns quizzes belonging to a specific category")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved quizzes"),
+            @ApiResponse(responseCode = "304", description = "The client's copy is current"),
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
     @GetMapping("/{id}/quizzes")
-    public ResponseEntity<List<Quiz>> getQuizzesByCategory(
+    public ResponseEntity<List<QuizDTO>> getQuizzesByCategory(
             @PathVariable Long id,
-            @RequestParam(required = false) Boolean published) {
+            @RequestParam(required = false) Boolean published,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id " + id));
+        // The rows carry review aggregates, so only the catalog version covers them
+        String etag = EntityTags.catalog(quizChangeTracker.currentCatalogVersion());
+        if (!categoryRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Category not found with id " + id);
+        }
+        if (EntityTags.isNotModified(ifNoneMatch, etag)) {
+            return EntityTags.notModified(etag);
+        }
 
         if (Boolean.TRUE.equals(published)) {
-            return ResponseEntity.ok(quizRepository.findByCategoryIdAndPublishedTrue(id));
+            return EntityTags.ok(etag, quizRepository.findPublishedCatalogByCategoryId(id));
         } else {
-            return ResponseEntity.ok(quizRepository.findByCategoryId(id));
+            return EntityTags.ok(etag, quizRepository.findCatalogByCategoryId(id));
         }
     }
 
@@ -122,6 +158,7 @@ public class CategoryRestController {
 
             Category category = categoryDTO.toEntity();
             Category savedCategory = categoryRepository.save(category);
+            quizChangeTracker.catalogChanged();
             return ResponseEntity.status(HttpStatus.CREATED).body(CategoryDTO.fromCategory(savedCategory));
         } catch (Exception e) {
             return ResponseEntity
@@ -161,6 +198,7 @@ public class CategoryRestController {
                     category.setName(categoryDTO.getName());
                     category.setDescription(categoryDTO.getDescription());
                     Category updatedCategory = categoryRepository.save(category);
+                    quizChangeTracker.catalogChanged();
                     return ResponseEntity.ok(CategoryDTO.fromCategory(updatedCategory));
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -191,6 +229,7 @@ public class CategoryRestController {
                     }
 
                     categoryRepository.delete(category);
+                    quizChangeTracker.catalogChanged();
                     return ResponseEntity.ok(Map.of("success", true));
                 })
                 .orElse(ResponseEntity.notFound().build());
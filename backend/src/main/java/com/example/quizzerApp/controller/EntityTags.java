@@ -0,0 +1,179 @@
+package com.example.quizzerApp.controller;
+
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Strong entity tags for quiz, question and category responses, built from
+ * version columns instead of from the response body.
+ *
+ * Because a tag only needs the versions, a conditional GET can be answered
+ * with 304 after reading a single row, before any DTO is built. A tag must
+ * cover every row its response is built from: quiz responses include the
+ * category name, so they carry the category version as well; list responses
+ * carry the catalog-wide version.
+ */
+final class EntityTags {
+
+    private static final String NO_VERSION = "x";
+
+    private EntityTags() {
+    }
+
+    /**
+     * Tag of a response built from the whole catalog.
+     *
+     * @param catalogVersion The catalog version
+     * @return The quoted entity tag
+     */
+    static String catalog(long catalogVersion) {
+        return "\"catalog-" + catalogVersion + "\"";
+    }
+
+    /**
+     * Tag of a single category.
+     *
+     * @param id      The ID of the category
+     * @param version The version of the category
+     * @return The quoted entity tag
+     */
+    static String category(Long id, long version) {
+        return "\"category-" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Tag of a quiz, with or without its questions.
+     *
+     * @param id              The ID of the quiz
+     * @param quizVersion     The version of the quiz
+     * @param categoryVersion The version of its category, or null if it has none
+     * @param withQuestions   Whether the response includes questions and answer options
+     * @return The quoted entity tag
+     */
+    static String quiz(Long id, long quizVersion, Long categoryVersion, boolean withQuestions) {
+        return "\"quiz-" + id + "-" + quizVersion + "-" + orNone(categoryVersion)
+                + (withQuestions ? "-full" : "") + "\"";
+    }
+
+    /**
+     * Tag of a loaded quiz, with or without its questions.
+     *
+     * @param quiz          The quiz
+     * @param withQuestions Whether the response includes questions and answer options
+     * @return The quoted entity tag
+     */
+    static String quiz(Quiz quiz, boolean withQuestions) {
+        Long categoryVersion = quiz.getCategory() != null ? quiz.getCategory().getVersion() : null;
+        return quiz(quiz.getId(), quiz.getVersion(), categoryVersion, withQuestions);
+    }
+
+    /**
+     * Tag of a question. Question responses embed the quiz and its category.
+     *
+     * @param id              The ID of the question
+     * @param questionVersion The version of the question
+     * @param quizVersion     The version of its quiz, or null if it has none
+     * @param categoryVersion The version of the quiz's category, or null if it has none
+     * @return The quoted entity tag
+     */
+    static String question(Long id, long questionVersion, Long quizVersion, Long categoryVersion) {
+        return "\"question-" + id + "-" + questionVersion + "-" + orNone(quizVersion) + "-"
+                + orNone(categoryVersion) + "\"";
+    }
+
+    /**
+     * Tag of a loaded question.
+     *
+     * @param question The question
+     * @return The quoted entity tag
+     */
+    static String question(Question question) {
+        Quiz quiz = question.getQuiz();
+        Long quizVersion = quiz != null ? quiz.getVersion() : null;
+        Long categoryVersion = quiz != null && quiz.getCategory() != null ? quiz.getCategory().getVersion() : null;
+        return question(question.getId(), question.getVersion(), quizVersion, categoryVersion);
+    }
+
+    /**
+     * Evaluates an If-None-Match header with weak comparison.
+     *
+     * @param ifNoneMatch The header value, or null if absent
+     * @param etag        The current entity tag
+     * @return true if the client's copy is current and 304 can be returned
+     */
+    static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Evaluates an If-Match header with strong comparison.
+     * A missing header matches, so that unconditional updates keep working.
+     *
+     * @param ifMatch The header value, or null if absent
+     * @param etags   The current entity tags of the resource's representations
+     * @return true if the update may proceed
+     */
+    static boolean matches(String ifMatch, String... etags) {
+        if (ifMatch == null) {
+            return true;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            for (String etag : etags) {
+                if (tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds a 304 response for a current client copy.
+     *
+     * @param etag The current entity tag
+     * @return The response
+     */
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .build();
+    }
+
+    /**
+     * Builds a 200 response that clients may cache but must revalidate.
+     *
+     * @param etag The current entity tag
+     * @param body The response body
+     * @return The response
+     */
+    static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(body);
+    }
+
+    private static String orNone(Long version) {
+        return version != null ? version.toString() : NO_VERSION;
+    }
+}
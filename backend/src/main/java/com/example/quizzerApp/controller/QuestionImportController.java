@@ -0,0 +1,87 @@
+package com.example.quizzerApp.controller;
+
+import com.example.quizzerApp.exception.ResourceNotFoundException;
+import com.example.quizzerApp.service.importer.QuestionBankImporter;
+import com.example.quizzerApp.service.importer.QuestionImportFormat;
+import com.example.quizzerApp.service.importer.QuestionImportReport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * REST Controller for importing question banks into a quiz.
+ * The request body is the file itself and is parsed while it is received,
+ * so files of any size can be imported without buffering them.
+ */
+@RestController
+@RequestMapping("/api/quizzes/{quizId}/questions/import")
+@CrossOrigin(origins = { "http://localhost:5173", "https://quizzerapp-1knb.onrender.com" })
+@Tag(name = "Import", description = "The Import API. Contains operations for importing question banks.")
+public class QuestionImportController {
+
+    /**
+     * Importer for question banks
+     */
+    @Autowired
+    private QuestionBankImporter questionBankImporter;
+
+    /**
+     * Imports the questions of a JSON, CSV or Moodle XML file into a quiz
+     *
+     * @param quizId      The ID of the quiz
+     * @param format      The format of the file; detected from the content type if omitted
+     * @param contentType The content type of the request
+     * @param body        The file contents
+     * @return The import report, with the reason of every rejected record
+     */
+    @Operation(summary = "Import questions", description = "Imports a question bank in JSON, CSV or Moodle XML format into a quiz. Invalid questions are reported and skipped.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "File imported; see the report for rejected questions", content = @Content(schema = @Schema(implementation = QuestionImportReport.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown format, or a malformed file; questions before the malformed part are imported"),
+            @ApiResponse(responseCode = "404", description = "Quiz not found")
+    })
+    @PostMapping
+    public ResponseEntity<?> importQuestions(
+            @PathVariable Long quizId,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        QuestionImportFormat importFormat;
+        try {
+            importFormat = format != null
+                    ? QuestionImportFormat.fromParameter(format)
+                    : QuestionImportFormat.detect(contentType);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        if (importFormat == null) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "Specify format=json, csv or moodle, or a matching content type"));
+        }
+
+        QuestionImportReport report;
+        try {
+            report = questionBankImporter.importQuestions(quizId, importFormat, body, progress -> {
+            });
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", e.getMessage()));
+        }
+        if (report.getError() != null) {
+            return ResponseEntity.badRequest().body(report);
+        }
+        return ResponseEntity.ok(report);
+    }
+}
@@ -2,15 +2,21 @@ package com.example.quizzerApp.controller;
 
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -19,6 +25,7 @@ import com.example.quizzerApp.model.AnswerOption;
 import com.example.quizzerApp.model.Question;
 import com.example.quizzerApp.repository.QuestionRepository;
 import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.service.catalog.QuizChangeTracker;
 
 /**
  * REST Controller for handling Question-related operations.
@@ -29,6 +36,7 @@ import com.example.quizzerApp.repository.QuizRepository;
 @RestController
 @RequestMapping("/api/questions")
 public class QuestionRestController {
+    private static final Logger logger = LoggerFactory.getLogger(QuestionRestController.class);
 
     /**
      * Repository for Question entity operations
@@ -42,53 +50,85 @@ public class QuestionRestController {
     @Autowired
     private QuizRepository quizRepository;
 
+    /**
+     * Tracker of catalog and quiz versions, notified when a question changes
+     */
+    @Autowired
+    private QuizChangeTracker quizChangeTracker;
+
     /**
      * Retrieves a specific question by its ID
      * 
-     * @param id The ID of the question to retrieve
-     * @return The question with the specified ID
+     * @param id          The ID of the question to retrieve
+     * @param ifNoneMatch The entity tag of the client's copy, if any
+     * @return The question with the specified ID, or 304 if the client's copy
+     *         is current
      * @throws ResourceNotFoundException if no question exists with the given ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Question> getQuestionById(@PathVariable Long id) {
-        Question question = questionRepository.findById(id)
+    public ResponseEntity<Question> getQuestionById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        QuestionRepository.QuestionVersions versions = questionRepository.findVersionsById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Question not found with id " + id));
+        String etag = EntityTags.question(id, versions.getQuestionVersion(), versions.getQuizVersion(),
+                versions.getCategoryVersion());
+        if (EntityTags.isNotModified(ifNoneMatch, etag)) {
+            return EntityTags.notModified(etag);
+        }
+
+        Question question = questionRepository.findWithQuizAndAnswersById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Question not found with id " + id));
-        return ResponseEntity.ok(question);
+        return EntityTags.ok(etag, question);
     }
 
     /**
-     * Updates an existing question
+     * Updates an existing question.
+     * With an If-Match header, the update is only applied if the question
+     * still matches the entity tag the client read it with. The quiz version
+     * is incremented in the same transaction, so of two concurrent edits of
+     * the same quiz only the first one commits; the other gets a 409.
      * 
      * @param id              The ID of the question to update
      * @param questionDetails The updated question data
-     * @return The updated question
+     * @param ifMatch         The entity tag the client's copy was read with, if any
+     * @return The updated question, or 412 if the question has changed in the meantime
      * @throws ResourceNotFoundException if no question exists with the given ID
      */
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateQuestion(@PathVariable Long id, @RequestBody Question questionDetails) {
+    @Transactional
+    public ResponseEntity<?> updateQuestion(@PathVariable Long id, @RequestBody Question questionDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            System.out.println("Updating question: " + id);
-            System.out.println("Answer options count: " +
-                    (questionDetails.getAnswers() != null ? questionDetails.getAnswers().size() : 0));
+            logger.debug("Updating question {} with {} answer options", id,
+                    questionDetails.getAnswers() != null ? questionDetails.getAnswers().size() : 0);
 
             Question question = questionRepository.findById(id)
                     .orElseThrow(() -> new ResourceNotFoundException("Question not found with id " + id));
 
+            if (!EntityTags.matches(ifMatch, EntityTags.question(question))) {
+                return ResponseEntity
+                        .status(HttpStatus.PRECONDITION_FAILED)
+                        .eTag(EntityTags.question(question))
+                        .body(Map.of("error", "Question has been modified since it was read"));
+            }
+
+            // Validate before changing anything, as the changes would be committed
+            boolean replaceAnswers = questionDetails.getAnswers() != null && !questionDetails.getAnswers().isEmpty();
+            if (replaceAnswers && questionDetails.getAnswers().stream().noneMatch(AnswerOption::isCorrect)) {
+                return ResponseEntity
+                        .status(HttpStatus.BAD_REQUEST)
+                        .body(Map.of("error", "At least one answer must be marked as correct"));
+            }
+
             question.setContent(questionDetails.getContent());
             question.setDifficulty(questionDetails.getDifficulty());
 
             // Handle answer options if they are present in the request
-            if (questionDetails.getAnswers() != null && !questionDetails.getAnswers().isEmpty()) {
+            if (replaceAnswers) {
                 // Clear existing answers and re-add them all
                 question.getAnswers().clear();
 
-                // Ensure at least one answer is marked as correct
-                boolean hasCorrectAnswer = false;
                 for (AnswerOption answerOption : questionDetails.getAnswers()) {
-                    if (answerOption.isCorrect()) {
-                        hasCorrectAnswer = true;
-                    }
-
                     // Create a new answer option to avoid ID conflicts
                     AnswerOption newOption = new AnswerOption();
                     newOption.setText(answerOption.getText());
@@ -96,20 +136,22 @@ public class QuestionRestController {
                     newOption.setQuestion(question);
                     question.getAnswers().add(newOption);
                 }
-
-                // Validate that at least one answer is marked as correct
-                if (!hasCorrectAnswer && !question.getAnswers().isEmpty()) {
-                    return ResponseEntity
-                            .status(HttpStatus.BAD_REQUEST)
-                            .body(Map.of("error", "At least one answer must be marked as correct"));
-                }
             }
 
-            Question updatedQuestion = questionRepository.save(question);
-            return ResponseEntity.ok(updatedQuestion);
+            Question updatedQuestion = questionRepository.saveAndFlush(question);
+            if (updatedQuestion.getQuiz() != null) {
+                quizChangeTracker.quizContentChanged(updatedQuestion.getQuiz());
+            } else {
+                quizChangeTracker.catalogChanged();
+            }
+            return ResponseEntity.ok()
+                    .eTag(EntityTags.question(updatedQuestion))
+                    .body(updatedQuestion);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // Answered with 409 by the global exception handler
+            throw e;
         } catch (Exception e) {
-            System.err.println("Error updating question: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Failed to update question {}", id, e);
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of(
@@ -131,6 +173,7 @@ public class QuestionRestController {
                 .orElseThrow(() -> new ResourceNotFoundException("Question not found with id " + id));
 
         questionRepository.delete(question);
+        quizChangeTracker.quizContentChanged(question.getQuiz() != null ? question.getQuiz().getId() : null);
         return ResponseEntity.ok().build();
     }
 }
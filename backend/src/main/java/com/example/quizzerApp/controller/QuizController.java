@@ -7,12 +7,17 @@ import com.example.quizzerApp.model.Quiz;
 import com.example.quizzerApp.repository.AnswerOptionRepository;
 import com.example.quizzerApp.repository.QuestionRepository;
 import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.service.catalog.QuizChangeTracker;
+import com.example.quizzerApp.service.deletion.BulkDeleteJob;
+import com.example.quizzerApp.service.deletion.QuizBulkDeleter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -43,6 +48,19 @@ public class QuizController {
     @Autowired
     private AnswerOptionRepository answerOptionRepository;
 
+    /**
+     * Tracker of catalog and quiz versions, notified when quizzes, questions
+     * or options change
+     */
+    @Autowired
+    private QuizChangeTracker quizChangeTracker;
+
+    /**
+     * Deleter that removes a quiz together with the rows referencing it
+     */
+    @Autowired
+    private QuizBulkDeleter quizBulkDeleter;
+
     /**
      * Displays the form for creating a new quiz
      * 
@@ -64,6 +82,7 @@ public class QuizController {
     @PostMapping("/quizzes")
     public String saveQuiz(@ModelAttribute Quiz quiz) {
         quizRepository.save(quiz);
+        quizChangeTracker.catalogChanged();
         return "redirect:/quizzes";
     }
 
@@ -115,6 +134,7 @@ public class QuizController {
         quiz.setPublished(quizDto.isPublished());
 
         quizRepository.save(quiz);
+        quizChangeTracker.quizChanged(id);
 
         return "redirect:/quizzes";
     }
@@ -157,6 +177,7 @@ public class QuizController {
         question.setQuiz(quiz);
 
         questionRepository.save(question);
+        quizChangeTracker.quizContentChanged(id);
 
         return "redirect:/quizzes";
     }
@@ -182,6 +203,7 @@ public class QuizController {
         option.setQuestion(question);
 
         answerOptionRepository.save(option);
+        quizChangeTracker.quizContentChanged(question.getQuiz() != null ? question.getQuiz().getId() : null);
 
         return "redirect:/quizzes";
     }
@@ -235,7 +257,7 @@ public class QuizController {
      */
     @GetMapping("/quizzes/{id}/questions")
     public String listQuestionsForQuiz(@PathVariable Long id, Model model) {
-        Quiz quiz = quizRepository.findById(id)
+        Quiz quiz = quizRepository.findWithCategoryById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid quiz ID: " + id));
 
         model.addAttribute("quiz", quiz);
@@ -252,12 +274,16 @@ public class QuizController {
     @DeleteMapping("/answers/{id}")
     public ResponseEntity<?> deleteAnswerOption(@PathVariable Long id) {
         // Check if answer exists
-        if (!answerOptionRepository.existsById(id)) {
+        AnswerOption option = answerOptionRepository.findById(id).orElse(null);
+        if (option == null) {
             return ResponseEntity.notFound().build();
         }
 
         // Delete the answer
         answerOptionRepository.deleteById(id);
+        Question question = option.getQuestion();
+        quizChangeTracker.quizContentChanged(
+                question != null && question.getQuiz() != null ? question.getQuiz().getId() : null);
         return ResponseEntity.ok().build();
     }
 
@@ -280,6 +306,7 @@ public class QuizController {
 
         // Delete the question (this will cascade delete answer options)
         questionRepository.deleteById(id);
+        quizChangeTracker.quizContentChanged(quizId);
 
         return ResponseEntity.ok().body(Map.of("quizId", quizId));
     }
@@ -288,7 +315,7 @@ public class QuizController {
      * Handles the deletion of a quiz
      * 
      * @param id The ID of the quiz to delete
-     * @return Response entity with success or not found status
+     * @return Response entity with success, not found or error status
      */
     @DeleteMapping("/quizzes/{id}")
     public ResponseEntity<?> deleteQuiz(@PathVariable Long id) {
@@ -297,8 +324,13 @@ public class QuizController {
             return ResponseEntity.notFound().build();
         }
 
-        // Delete the quiz (this will cascade delete questions and answers)
-        quizRepository.deleteById(id);
+        // Delete the quiz with its questions, options, answers, statistics and reviews
+        BulkDeleteJob job = quizBulkDeleter.deleteNow(List.of(id));
+        if (job.getStatus() != BulkDeleteJob.Status.COMPLETED) {
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to delete quiz", "message", String.valueOf(job.getError())));
+        }
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
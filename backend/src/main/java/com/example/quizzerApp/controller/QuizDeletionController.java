@@ -0,0 +1,116 @@
+package com.example.quizzerApp.controller;
+
+import com.example.quizzerApp.dto.QuizBulkDeleteDTO;
+import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.service.deletion.BulkDeleteJob;
+import com.example.quizzerApp.service.deletion.QuizBulkDeleter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * REST Controller for deleting quizzes in bulk.
+ * A deletion runs as a background job that removes each quiz with its
+ * questions, answer options, answers, reviews and attempts in chunked,
+ * set-based deletes; clients poll the job until it has finished.
+ */
+@RestController
+@RequestMapping("/api/quizzes/bulk-delete")
+@CrossOrigin(origins = { "http://localhost:5173", "https://quizzerapp-1knb.onrender.com" })
+@Tag(name = "Bulk delete", description = "The Bulk delete API. Contains operations for deleting quizzes with all of their data.")
+public class QuizDeletionController {
+
+    /**
+     * Repository for Quiz entity operations
+     */
+    @Autowired
+    private QuizRepository quizRepository;
+
+    /**
+     * Runner of bulk deletion jobs
+     */
+    @Autowired
+    private QuizBulkDeleter quizBulkDeleter;
+
+    /**
+     * Starts the deletion of one or many quizzes
+     *
+     * @param request The IDs of the quizzes to delete
+     * @return The queued job, with its location in the Location header
+     */
+    @Operation(summary = "Delete quizzes", description = "Queues the deletion of quizzes with their questions, answer options, answers, reviews and attempts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Deletion queued", content = @Content(schema = @Schema(implementation = BulkDeleteJob.class))),
+            @ApiResponse(responseCode = "400", description = "No quiz IDs, or too many"),
+            @ApiResponse(responseCode = "404", description = "Some of the quizzes do not exist"),
+            @ApiResponse(responseCode = "503", description = "Too many deletions are queued, retry later")
+    })
+    @PostMapping
+    public ResponseEntity<?> deleteQuizzes(@RequestBody QuizBulkDeleteDTO request) {
+        List<Long> requested = request.getQuizIds();
+        if (requested == null || requested.isEmpty() || requested.contains(null)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "quizIds must list at least one quiz ID"));
+        }
+        Set<Long> quizIds = new LinkedHashSet<>(requested);
+        if (quizIds.size() > QuizBulkDeleteDTO.MAX_QUIZZES) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "At most " + QuizBulkDeleteDTO.MAX_QUIZZES + " quizzes can be deleted at once"));
+        }
+        Set<Long> missing = new LinkedHashSet<>(quizIds);
+        missing.removeAll(new HashSet<>(quizRepository.findExistingIds(quizIds)));
+        if (!missing.isEmpty()) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Quizzes not found with ids " + missing));
+        }
+
+        BulkDeleteJob job = quizBulkDeleter.submit(List.copyOf(quizIds));
+        if (job == null) {
+            return ResponseEntity
+                    .status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body(Map.of("error", "Too many deletions are queued, please retry"));
+        }
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/quizzes/bulk-delete/" + job.getId()))
+                .body(job);
+    }
+
+    /**
+     * Retrieves the state of a deletion
+     *
+     * @param jobId The ID of the job
+     * @return The job with the number of rows deleted so far
+     */
+    @Operation(summary = "Get a deletion", description = "Returns the state of a recent bulk deletion")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the deletion", content = @Content(schema = @Schema(implementation = BulkDeleteJob.class))),
+            @ApiResponse(responseCode = "404", description = "Deletion not found")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getDeletion(@PathVariable String jobId) {
+        BulkDeleteJob job = quizBulkDeleter.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Deletion not found with id " + jobId));
+        }
+        return ResponseEntity.ok(job);
+    }
+}
@@ -1,13 +1,23 @@
 package com.example.quizzerApp.controller;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,20 +25,41 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.quizzerApp.dto.DetailedQuizDTO;
 import com.example.quizzerApp.dto.QuizDTO;
+import com.example.quizzerApp.dto.QuizSubmissionDTO;
 import com.example.quizzerApp.exception.ResourceNotFoundException;
+import com.example.quizzerApp.logging.RequestLogContext;
 import com.example.quizzerApp.model.AnswerOption;
 import com.example.quizzerApp.model.Question;
 import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.model.QuizAttempt;
 import com.example.quizzerApp.repository.CategoryRepository;
 import com.example.quizzerApp.repository.QuestionRepository;
 import com.example.quizzerApp.repository.QuizRepository;
-
+import com.example.quizzerApp.service.analytics.AnswerStatsCollector;
+import com.example.quizzerApp.service.attempt.QuizAttemptService;
+import com.example.quizzerApp.service.catalog.QuizChangeTracker;
+import com.example.quizzerApp.service.catalog.QuizCloner;
+import com.example.quizzerApp.service.catalog.QuizExporter;
+import com.example.quizzerApp.service.catalog.QuizPayloadCache;
+import com.example.quizzerApp.service.catalog.QuizPayloadCache.QuizPayload;
+import com.example.quizzerApp.service.deletion.BulkDeleteJob;
+import com.example.quizzerApp.service.deletion.QuizBulkDeleter;
+import com.example.quizzerApp.service.grading.AnswerKeyCache;
+import com.example.quizzerApp.service.grading.CompiledAnswerKey;
+import com.example.quizzerApp.service.grading.GradingMetrics;
+import com.example.quizzerApp.service.grading.GradingResult;
+import com.example.quizzerApp.service.grading.QuizGrader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -39,6 +70,7 @@ import jakarta.validation.Valid;
 @RestController
 @RequestMapping("/api/quizzes")
 public class QuizRestController {
+    private static final Logger logger = LoggerFactory.getLogger(QuizRestController.class);
 
     /**
      * Repository for Quiz entity operations
@@ -58,39 +90,147 @@ public class QuizRestController {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    /**
+     * Cache of compiled answer keys used for grading
+     */
+    @Autowired
+    private AnswerKeyCache answerKeyCache;
+
+    /**
+     * Tracker of catalog and quiz versions
+     */
+    @Autowired
+    private QuizChangeTracker quizChangeTracker;
+
+    /**
+     * Cache of encoded detail responses of published quizzes
+     */
+    @Autowired
+    private QuizPayloadCache quizPayloadCache;
+
+    /**
+     * Mapper used to encode cached quiz detail responses
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Counters for grading outcomes
+     */
+    @Autowired
+    private GradingMetrics gradingMetrics;
+
+    /**
+     * Service for recording graded submissions as attempts
+     */
+    @Autowired
+    private QuizAttemptService quizAttemptService;
+
+    /**
+     * Collector for per-question answer counts
+     */
+    @Autowired
+    private AnswerStatsCollector answerStatsCollector;
+
+    /**
+     * Service for copying quizzes inside the database
+     */
+    @Autowired
+    private QuizCloner quizCloner;
+
+    /**
+     * Writer of whole-quiz exports
+     */
+    @Autowired
+    private QuizExporter quizExporter;
+
+    /**
+     * Chunked deletion of quizzes with their data
+     */
+    @Autowired
+    private QuizBulkDeleter quizBulkDeleter;
+
     /**
      * Retrieves all quizzes
      * 
-     * @return List of all quizzes with their question counts
+     * @param ifNoneMatch The entity tag of the client's copy, if any
+     * @return List of all quizzes with their question counts, or 304 if the
+     *         catalog has not changed
      */
     @GetMapping
-    public List<QuizDTO> getAllQuizzes() {
-        List<Quiz> quizzes = quizRepository.findAll();
-        return QuizDTO.fromQuizList(quizzes, quiz -> questionRepository.countByQuizId(quiz.getId()));
+    public ResponseEntity<List<QuizDTO>> getAllQuizzes(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = EntityTags.catalog(quizChangeTracker.currentCatalogVersion());
+        if (EntityTags.isNotModified(ifNoneMatch, etag)) {
+            return EntityTags.notModified(etag);
+        }
+        return EntityTags.ok(etag, quizRepository.findCatalog());
     }
 
     /**
      * Retrieves a specific quiz by its ID including questions and answer options
      * 
-     * @param id The ID of the quiz to retrieve
-     * @return The quiz with the specified ID including questions and answer options
+     * The detail view of a published quiz is served from the payload cache,
+     * written to the response as encoded bytes.
+     * 
+     * @param id             The ID of the quiz to retrieve
+     * @param ifNoneMatch    The entity tag of the client's copy, if any
+     * @param acceptEncoding The content codings the client accepts, if any
+     * @param response       The response cached payloads are written to
+     * @return The quiz with the specified ID including questions and answer
+     *         options, or 304 if the client's copy is current; null if a cached
+     *         payload was written
      * @throws ResourceNotFoundException if no quiz exists with the given ID
+     * @throws IOException               if the payload cannot be encoded or written
      */
     @GetMapping("/{id}")
     public ResponseEntity<?> getQuiz(@PathVariable Long id,
-            @RequestParam(value = "includeQuestions", required = false, defaultValue = "false") boolean includeQuestions) {
+            @RequestParam(value = "includeQuestions", required = false, defaultValue = "false") boolean includeQuestions,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        // The tag is read before the content, so a concurrent edit can only
+        // make the tag older than the body, never newer
+        QuizRepository.QuizVersions versions = quizRepository.findVersionsById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id " + id));
+        String etag = EntityTags.quiz(id, versions.getQuizVersion(), versions.getCategoryVersion(), includeQuestions);
+        if (EntityTags.isNotModified(ifNoneMatch, etag)) {
+            return EntityTags.notModified(etag);
+        }
+
+        // Published content is identical for every student, serve it pre-encoded
+        if (includeQuestions && versions.getPublished()) {
+            QuizPayload payload = quizPayloadCache.get(id, etag);
+            if (payload == null) {
+                // Queried rather than read from the second-level cache, which
+                // may hold older content on a multi-instance deployment
+                Quiz quiz = quizRepository.findWithCategoryById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id " + id));
+                List<Question> questions = questionRepository.findWithAnswersByQuizId(id);
+                payload = QuizPayload.of(etag, objectMapper.writeValueAsBytes(new DetailedQuizDTO(quiz, questions)));
+                // Only content of exactly the tagged versions is kept under the tag
+                Long categoryVersion = quiz.getCategory() != null ? quiz.getCategory().getVersion() : null;
+                if (quiz.getVersion() == versions.getQuizVersion()
+                        && Objects.equals(categoryVersion, versions.getCategoryVersion())) {
+                    quizPayloadCache.put(id, payload);
+                }
+            }
+            writePayload(payload, acceptEncoding, response);
+            return null;
+        }
+
         Quiz quiz = quizRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id " + id));
 
         // If detailed view is requested, return quiz with questions and answer options
         if (includeQuestions) {
             List<Question> questions = questionRepository.findByQuizId(id);
-            return ResponseEntity.ok(new DetailedQuizDTO(quiz, questions));
+            return EntityTags.ok(etag, new DetailedQuizDTO(quiz, questions));
         }
 
         // Otherwise, return the standard quiz DTO
         int questionCount = questionRepository.countByQuizId(id);
-        return ResponseEntity.ok(QuizDTO.fromQuiz(quiz, questionCount));
+        return EntityTags.ok(etag, QuizDTO.fromQuiz(quiz, questionCount));
     }
 
     /**
@@ -120,12 +260,13 @@ public class QuizRestController {
             }
 
             Quiz savedQuiz = quizRepository.save(quiz);
+            quizChangeTracker.catalogChanged();
 
             // Create and return a QuizDTO to avoid serialization issues
             QuizDTO quizDTO = new QuizDTO(savedQuiz, 0);
             return ResponseEntity.ok(quizDTO);
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.error("Failed to create quiz", e);
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of(
@@ -136,16 +277,28 @@ public class QuizRestController {
     }
 
     /**
-     * Updates an existing quiz
+     * Updates an existing quiz.
+     * With an If-Match header, the update is only applied if the quiz still
+     * matches the entity tag the client read it with.
      * 
      * @param id          The ID of the quiz to update
      * @param quizDetails The updated quiz data
-     * @return The updated quiz
+     * @param ifMatch     The entity tag the client's copy was read with, if any
+     * @return The updated quiz, or 412 if the quiz has changed in the meantime
      */
     @PutMapping("/{id}")
-    public ResponseEntity<QuizDTO> updateQuiz(@PathVariable Long id, @Valid @RequestBody Quiz quizDetails) {
+    @Transactional
+    public ResponseEntity<?> updateQuiz(@PathVariable Long id, @Valid @RequestBody Quiz quizDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         return quizRepository.findById(id)
                 .map(quiz -> {
+                    if (!EntityTags.matches(ifMatch, EntityTags.quiz(quiz, false), EntityTags.quiz(quiz, true))) {
+                        return ResponseEntity
+                                .status(HttpStatus.PRECONDITION_FAILED)
+                                .eTag(EntityTags.quiz(quiz, false))
+                                .body(Map.of("error", "Quiz has been modified since it was read"));
+                    }
+
                     quiz.setName(quizDetails.getName());
                     quiz.setDescription(quizDetails.getDescription());
                     quiz.setCourseCode(quizDetails.getCourseCode());
@@ -159,39 +312,104 @@ public class QuizRestController {
                         quiz.setCategory(null); // Remove category if not provided
                     }
 
-                    Quiz updatedQuiz = quizRepository.save(quiz);
-                    int questionCount = questionRepository.findByQuizId(quiz.getId()).size();
-                    return ResponseEntity.ok(new QuizDTO(updatedQuiz, questionCount));
+                    // Flushing applies the version check and increment now,
+                    // so the response carries the new tag
+                    Quiz updatedQuiz = quizRepository.saveAndFlush(quiz);
+                    quizChangeTracker.quizChanged(id);
+                    int questionCount = questionRepository.countByQuizId(quiz.getId());
+                    return ResponseEntity.ok()
+                            .eTag(EntityTags.quiz(updatedQuiz, false))
+                            .body(new QuizDTO(updatedQuiz, questionCount));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
-     * Deletes a quiz by its ID
+     * Deletes a quiz by its ID, with its questions, answer options, answers,
+     * reviews and attempts. Uses the same chunked deletes as a bulk deletion,
+     * run within the request; very large quizzes are better deleted through
+     * the bulk delete API.
      * 
      * @param id The ID of the quiz to delete
      * @return Success message if deletion is successful
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteQuiz(@PathVariable Long id) {
-        return quizRepository.findById(id)
-                .map(quiz -> {
-                    quizRepository.delete(quiz);
-                    return ResponseEntity.ok(Map.of("success", true));
-                })
-                .orElse(ResponseEntity.notFound().build());
+        if (!quizRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        BulkDeleteJob job = quizBulkDeleter.deleteNow(List.of(id));
+        if (job.getStatus() != BulkDeleteJob.Status.COMPLETED) {
+            return ResponseEntity
+                    .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to delete quiz", "message", String.valueOf(job.getError())));
+        }
+        return ResponseEntity.ok(Map.of("success", true));
+    }
+
+    /**
+     * Copies a quiz with its questions and answer options into a new,
+     * unpublished quiz
+     *
+     * @param id         The ID of the quiz to copy
+     * @param categoryId The ID of the category of the copy; the quiz's category if omitted
+     * @param name       The name of the copy; the quiz's name if omitted
+     * @return The new quiz, or 400 if the category does not exist
+     * @throws ResourceNotFoundException if no quiz exists with the given ID
+     */
+    @PostMapping("/{id}/clone")
+    public ResponseEntity<?> cloneQuiz(@PathVariable Long id,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String name) {
+        QuizCloner.QuizCopy copy;
+        try {
+            copy = quizCloner.cloneQuiz(id, categoryId, name);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        logger.info("Copied quiz {} to quiz {} with {} questions and {} answer options", id,
+                copy.getQuiz().getId(), copy.getQuestionCount(), copy.getOptionCount());
+        return ResponseEntity.ok(new QuizDTO(copy.getQuiz(), copy.getQuestionCount()));
+    }
+
+    /**
+     * Exports a quiz with all of its questions and answer options as one JSON
+     * document, written to the response as it is read. Its "questions" can be
+     * imported into another quiz as they are.
+     *
+     * @param id       The ID of the quiz
+     * @param response The response the document is written to
+     * @return null, the document has been written to the response
+     * @throws ResourceNotFoundException if no quiz exists with the given ID
+     * @throws IOException               if the document cannot be written
+     */
+    @GetMapping("/{id}/export")
+    public ResponseEntity<?> exportQuiz(@PathVariable Long id, HttpServletResponse response) throws IOException {
+        if (!quizRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Quiz not found with id " + id);
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"quiz-" + id + ".json\"");
+        quizExporter.export(id, response.getOutputStream());
+        return null;
     }
 
     /**
      * Retrieves all published quizzes
      * 
-     * @return List of all published quizzes with their question counts
+     * @param ifNoneMatch The entity tag of the client's copy, if any
+     * @return List of all published quizzes with their question counts, or
+     *         304 if the catalog has not changed
      */
     @GetMapping("/published")
-    public List<QuizDTO> getPublishedQuizzes() {
-        List<Quiz> publishedQuizzes = quizRepository.findByPublishedTrue();
-        return QuizDTO.fromQuizList(publishedQuizzes,
-                quiz -> questionRepository.findByQuizId(quiz.getId()).size());
+    public ResponseEntity<List<QuizDTO>> getPublishedQuizzes(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = EntityTags.catalog(quizChangeTracker.currentCatalogVersion());
+        if (EntityTags.isNotModified(ifNoneMatch, etag)) {
+            return EntityTags.notModified(etag);
+        }
+        return EntityTags.ok(etag, quizRepository.findPublishedCatalog());
     }
 
     /**
@@ -203,7 +421,8 @@ public class QuizRestController {
      */
     @GetMapping("/{id}/questions")
     public List<Question> getQuizQuestions(@PathVariable Long id) {
-        Quiz quiz = quizRepository.findById(id)
+        // The questions embed their quiz and its category
+        Quiz quiz = quizRepository.findWithCategoryById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id " + id));
         return questionRepository.findByQuizId(id);
     }
@@ -219,9 +438,8 @@ public class QuizRestController {
     @PostMapping("/{id}/questions")
     public ResponseEntity<?> addQuestionToQuiz(@PathVariable Long id, @RequestBody Question question) {
         try {
-            System.out.println("Received question data: " + question.getContent());
-            System.out.println("Answer options count: " +
-                    (question.getAnswers() != null ? question.getAnswers().size() : 0));
+            logger.debug("Adding question to quiz {} with {} answer options", id,
+                    question.getAnswers() != null ? question.getAnswers().size() : 0);
 
             // Find the quiz
             Quiz quiz = quizRepository.findById(id)
@@ -246,11 +464,11 @@ public class QuizRestController {
 
             // Save the question (cascades to answer options)
             Question savedQuestion = questionRepository.save(newQuestion);
+            quizChangeTracker.quizContentChanged(id);
 
             return ResponseEntity.ok(savedQuestion);
         } catch (Exception e) {
-            System.err.println("Error creating question: " + e.getClass().getName() + ": " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Failed to add question to quiz {}", id, e);
 
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -264,117 +482,104 @@ public class QuizRestController {
     /**
      * Submits answers for a quiz and returns the results
      * 
+     * The graded submission is recorded as an attempt of the user.
+     * 
      * @param id         The ID of the quiz
      * @param submission The submitted answers
-     * @return Quiz results including score and feedback
+     * @return Quiz results including score, feedback and the ID of the recorded attempt
      */
     @PostMapping("/{id}/submit")
     public ResponseEntity<?> submitQuizAnswers(
             @PathVariable Long id,
-            @RequestBody Map<String, List<Map<String, Long>>> submission) {
+            @RequestBody QuizSubmissionDTO submission) {
         try {
-            System.out.println("Received submission for quiz " + id + ": " + submission);
-
-            List<Map<String, Long>> answers = submission.get("answers");
+            List<Map<String, Long>> answers = submission.getAnswers();
             if (answers == null || answers.isEmpty()) {
-                System.out.println("No answers provided in submission");
+                logger.debug("Rejected submission for quiz {}: no answers", id);
+                gradingMetrics.recordRejected(GradingMetrics.NO_ANSWERS);
                 return ResponseEntity
                         .status(HttpStatus.BAD_REQUEST)
                         .body(Map.of("error", "No answers provided"));
             }
+            // A repeated question would be graded and counted in the analytics twice
+            Long repeatedQuestionId = findRepeatedQuestionId(answers);
+            if (repeatedQuestionId != null) {
+                logger.debug("Rejected submission for quiz {}: question {} answered twice", id, repeatedQuestionId);
+                gradingMetrics.recordRejected(GradingMetrics.INVALID_ANSWER);
+                return ResponseEntity
+                        .status(HttpStatus.BAD_REQUEST)
+                        .body(Map.of("error", "Question " + repeatedQuestionId + " is answered more than once"));
+            }
 
             // Verify quiz exists and is published
             Quiz quiz = quizRepository.findById(id)
-                    .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id " + id));
-
-            System.out.println("Found quiz: " + quiz.getName() + " (published: " + quiz.isPublished() + ")");
+                    .orElseThrow(() -> {
+                        gradingMetrics.recordRejected(GradingMetrics.QUIZ_NOT_FOUND);
+                        return new ResourceNotFoundException("Quiz not found with id " + id);
+                    });
 
             if (!quiz.isPublished()) {
-                System.out.println("Quiz is not published");
+                logger.debug("Rejected submission for quiz {}: not published", id);
+                gradingMetrics.recordRejected(GradingMetrics.NOT_PUBLISHED);
                 return ResponseEntity
                         .status(HttpStatus.BAD_REQUEST)
                         .body(Map.of("error", "Quiz is not published"));
             }
 
-            // Get all questions for the quiz
-            List<Question> questions = questionRepository.findByQuizId(id);
-            System.out.println("Found " + questions.size() + " questions for quiz");
-
-            if (questions.isEmpty()) {
-                System.out.println("Quiz has no questions");
+            // Get the compiled answer key for the quiz
+            CompiledAnswerKey answerKey = answerKeyCache.get(id);
+            if (answerKey.getQuestionCount() == 0) {
+                logger.debug("Rejected submission for quiz {}: no questions", id);
+                gradingMetrics.recordRejected(GradingMetrics.NO_QUESTIONS);
                 return ResponseEntity
                         .status(HttpStatus.BAD_REQUEST)
                         .body(Map.of("error", "Quiz has no questions"));
             }
 
-            // Process each answer
-            int correctCount = 0;
-            List<Map<String, Object>> questionResults = new ArrayList<>();
-
-            for (Map<String, Long> answer : answers) {
-                Long questionId = answer.get("questionId");
-                Long selectedAnswerId = answer.get("selectedAnswerId");
-
-                System.out.println(
-                        "Processing answer - Question ID: " + questionId + ", Selected Answer ID: " + selectedAnswerId);
-
-                // Find the question
-                Question question = questions.stream()
-                        .filter(q -> q.getId().equals(questionId))
-                        .findFirst()
-                        .orElseThrow(() -> new ResourceNotFoundException("Question not found with id " + questionId));
-
-                // Find the selected answer option
-                AnswerOption selectedOption = question.getAnswers().stream()
-                        .filter(a -> a.getId().equals(selectedAnswerId))
-                        .findFirst()
-                        .orElseThrow(() -> new ResourceNotFoundException(
-                                "Answer option not found with id " + selectedAnswerId));
-
-                // Check if the answer is correct
-                boolean isCorrect = selectedOption.isCorrect();
-                if (isCorrect) {
-                    correctCount++;
-                }
-
-                System.out.println("Answer is " + (isCorrect ? "correct" : "incorrect"));
-
-                // Add result for this question
-                questionResults.add(Map.of(
-                        "questionId", questionId,
-                        "isCorrect", isCorrect,
-                        "correctAnswerId", question.getAnswers().stream()
-                                .filter(AnswerOption::isCorrect)
-                                .findFirst()
-                                .map(AnswerOption::getId)
-                                .orElse(null),
-                        "explanation", isCorrect ? "Correct answer!" : "The selected answer is incorrect."));
+            // Grade the answers against the key
+            GradingResult result;
+            try {
+                result = QuizGrader.grade(answerKey, answers);
+            } catch (ResourceNotFoundException e) {
+                gradingMetrics.recordRejected(GradingMetrics.INVALID_ANSWER);
+                throw e;
             }
+            gradingMetrics.recordGraded(result);
+            int score = result.getScore();
 
-            // Calculate score
-            int totalQuestions = questions.size();
-            int score = totalQuestions > 0 ? Math.round((float) correctCount / totalQuestions * 100) : 0;
+            logger.debug(RequestLogContext.HOT_PATH, "Graded {} answers for quiz {}: score {}%, {}/{} correct",
+                    answers.size(), id, score, result.getCorrectAnswers(), result.getTotalQuestions());
 
-            System.out.println(
-                    "Quiz completed - Score: " + score + "%, Correct answers: " + correctCount + "/" + totalQuestions);
+            // Generate temporary user ID if not provided (for demo purposes)
+            String userId = submission.getUserId();
+            if (userId == null || userId.isEmpty()) {
+                userId = "temp-user-" + UUID.randomUUID().toString();
+            }
+            QuizAttempt attempt = quizAttemptService.record(quiz, userId, submission.getStartedAt(), result);
+            long[] answeredQuestionIds = result.getAnsweredQuestionIds();
+            boolean[] answeredCorrectly = result.getAnsweredCorrectly();
+            for (int i = 0; i < answeredQuestionIds.length; i++) {
+                answerStatsCollector.record(answeredQuestionIds[i], answers.get(i).get("selectedAnswerId"),
+                        answeredCorrectly[i]);
+            }
 
             // Return results
             return ResponseEntity.ok(Map.of(
+                    "attemptId", attempt.getId(),
+                    "userId", userId,
                     "quizId", id,
                     "score", score,
-                    "totalQuestions", totalQuestions,
-                    "correctAnswers", correctCount,
-                    "questionResults", questionResults));
+                    "totalQuestions", result.getTotalQuestions(),
+                    "correctAnswers", result.getCorrectAnswers(),
+                    "questionResults", result.getQuestionResults()));
 
         } catch (ResourceNotFoundException e) {
-            System.err.println("Resource not found: " + e.getMessage());
-            e.printStackTrace();
+            logger.debug("Rejected submission for quiz {}: {}", id, e.getMessage());
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            System.err.println("Error processing quiz submission: " + e.getClass().getName() + ": " + e.getMessage());
-            e.printStackTrace();
+            logger.error("Failed to grade submission for quiz {}", id, e);
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of(
@@ -383,4 +588,51 @@ public class QuizRestController {
                             "type", e.getClass().getName()));
         }
     }
-}
\ No newline at end of file
+
+    private void writePayload(QuizPayload payload, String acceptEncoding, HttpServletResponse response)
+            throws IOException {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        byte[] body = gzip ? payload.getGzip() : payload.getIdentity();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, payload.getEtag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" explicitly refuses the coding
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the first question that a submission answers more than once.
+     *
+     * @param answers The submitted answers
+     * @return The ID of the repeated question, or null if every question is answered once
+     */
+    private static Long findRepeatedQuestionId(List<Map<String, Long>> answers) {
+        Set<Long> questionIds = new HashSet<>(answers.size() * 2);
+        for (Map<String, Long> answer : answers) {
+            Long questionId = answer.get("questionId");
+            if (questionId != null && !questionIds.add(questionId)) {
+                return questionId;
+            }
+        }
+        return null;
+    }
+}
@@ -5,6 +5,7 @@ import com.example.quizzerApp.model.Quiz;
 import com.example.quizzerApp.model.review.Review;
 import com.example.quizzerApp.repository.QuizRepository;
 import com.example.quizzerApp.repository.ReviewRepository;
+import com.example.quizzerApp.service.review.ReviewService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +27,9 @@ public class ReviewMutationController {
     @Autowired
     private QuizRepository quizRepository;
 
+    @Autowired
+    private ReviewService reviewService;
+
     @PostMapping("/quizzes/{quizId}/reviews")
     public ResponseEntity<?> createReview(
             @PathVariable Long quizId,
@@ -56,26 +60,11 @@ public class ReviewMutationController {
                         .body(Map.of("error", "Rating must be between 1 and 5"));
             }
 
-            // Create and save the review
-            Review review = new Review();
-            review.setNickname(reviewRequest.getNickname());
-            review.setRating(reviewRequest.getRating());
-            review.setText(reviewRequest.getText());
-            review.setQuiz(quiz);
-
-            logger.debug("Created review object: {}", review);
-
-            // Add the review to the quiz's reviews collection
-            quiz.addReview(review);
-
-            // Save the review
-            Review savedReview = reviewRepository.save(review);
+            // Create and save the review together with the quiz's review statistics
+            Review savedReview = reviewService.createReview(quiz, reviewRequest.getNickname(),
+                    reviewRequest.getRating(), reviewRequest.getText());
             logger.debug("Saved review: {}", savedReview);
 
-            // Save the quiz to update the reviews collection
-            quizRepository.save(quiz);
-            logger.debug("Updated quiz with new review");
-
             return ResponseEntity.status(HttpStatus.CREATED).body(savedReview);
         } catch (ResourceNotFoundException e) {
             logger.error("Resource not found while creating review", e);
@@ -93,8 +82,9 @@ public class ReviewMutationController {
             @PathVariable Long id,
             @Valid @RequestBody ReviewUpdateRequest updateRequest) {
 
-        Review review = reviewRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Review not found with id " + id));
+        if (!reviewRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Review not found with id " + id);
+        }
 
         // Validate rating range (1-5)
         if (updateRequest.getRating() < 1 || updateRequest.getRating() > 5) {
@@ -102,19 +92,13 @@ public class ReviewMutationController {
                     .body(Map.of("error", "Rating must be between 1 and 5"));
         }
 
-        review.setRating(updateRequest.getRating());
-        review.setText(updateRequest.getText());
-
-        Review updatedReview = reviewRepository.save(review);
+        Review updatedReview = reviewService.updateReview(id, updateRequest.getRating(), updateRequest.getText());
         return ResponseEntity.ok(updatedReview);
     }
 
     @DeleteMapping("/reviews/{id}")
     public ResponseEntity<?> deleteReview(@PathVariable Long id) {
-        if (!reviewRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Review not found with id " + id);
-        }
-        reviewRepository.deleteById(id);
+        reviewService.deleteReview(id);
         return ResponseEntity.noContent().build();
     }
 
@@ -1,41 +1,68 @@
 package com.example.quizzerApp.controller.review.query;
 
-import com.example.quizzerApp.model.review.Review;
-import com.example.quizzerApp.repository.ReviewRepository;
+import com.example.quizzerApp.model.review.QuizReviewStats;
 import com.example.quizzerApp.repository.QuizRepository;
-import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.service.review.ReviewPage;
+import com.example.quizzerApp.service.review.ReviewService;
+import com.example.quizzerApp.service.review.ReviewSort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/quizzes/{quizId}/reviews")
 public class ReviewQueryController {
-    private final ReviewRepository reviewRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final QuizRepository quizRepository;
+    private final ReviewService reviewService;
 
-    public ReviewQueryController(ReviewRepository reviewRepository, QuizRepository quizRepository) {
-        this.reviewRepository = reviewRepository;
+    public ReviewQueryController(QuizRepository quizRepository, ReviewService reviewService) {
         this.quizRepository = quizRepository;
+        this.reviewService = reviewService;
     }
 
     @GetMapping
-    public ResponseEntity<?> getReviewsByQuiz(@PathVariable Long quizId) {
-        Optional<Quiz> quizOpt = quizRepository.findById(quizId);
-        if (quizOpt.isEmpty()) {
+    public ResponseEntity<?> getReviewsByQuiz(
+            @PathVariable Long quizId,
+            @RequestParam(defaultValue = "newest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (!quizRepository.existsById(quizId)) {
             return ResponseEntity.status(404).body(Map.of("error", "Quiz not found"));
         }
-        List<Review> reviews = reviewRepository.findByQuizId(quizId);
-        double avgRating = reviews.stream().mapToInt(Review::getRating).average().orElse(0.0);
-        int total = reviews.size();
-        Map<String, Object> response = new HashMap<>();
-        response.put("avgRating", avgRating);
-        response.put("total", total);
-        response.put("reviews", reviews);
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "size must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        ReviewPage page;
+        try {
+            page = reviewService.listReviews(quizId, ReviewSort.fromParameter(sort), cursor, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        Map<String, Object> response = statsResponse(reviewService.getStats(quizId));
+        response.put("reviews", page.getReviews());
+        response.put("nextCursor", page.getNextCursor());
+        response.put("size", size);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/stats")
+    public ResponseEntity<?> getReviewStats(@PathVariable Long quizId) {
+        if (!quizRepository.existsById(quizId)) {
+            return ResponseEntity.status(404).body(Map.of("error", "Quiz not found"));
+        }
+        return ResponseEntity.ok(statsResponse(reviewService.getStats(quizId)));
+    }
+
+    private Map<String, Object> statsResponse(QuizReviewStats stats) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("avgRating", stats.getAverageRating());
+        response.put("total", stats.getReviewCount());
+        response.put("histogram", stats.getHistogram());
+        return response;
+    }
 }
@@ -0,0 +1,125 @@
+package com.example.quizzerApp.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for the outcome of a batch answer submission.
+ * Reports one result per submitted answer, in submission order.
+ */
+public class AnswerBatchResponseDTO {
+
+    private int accepted;
+    private int rejected;
+    private List<ItemResult> results;
+
+    /**
+     * Constructs an AnswerBatchResponseDTO from the per-item results.
+     *
+     * @param results The results, one per submitted answer
+     */
+    public AnswerBatchResponseDTO(List<ItemResult> results) {
+        this.results = results;
+        for (ItemResult result : results) {
+            if (result.isAccepted()) {
+                accepted++;
+            } else {
+                rejected++;
+            }
+        }
+    }
+
+    /**
+     * The outcome of a single answer in a batch.
+     */
+    public static class ItemResult {
+        private int index;
+        private Long questionId;
+        private Long answerOptionId;
+        private boolean accepted;
+        private Boolean correct;
+        private String feedback;
+        private String error;
+
+        private ItemResult(int index, Long questionId, Long answerOptionId) {
+            this.index = index;
+            this.questionId = questionId;
+            this.answerOptionId = answerOptionId;
+        }
+
+        /**
+         * Creates the result of an answer that was stored.
+         *
+         * @param index          The position of the answer in the batch
+         * @param questionId     The ID of the answered question
+         * @param answerOptionId The ID of the selected option
+         * @param correct        Whether the selected option is correct
+         * @return The item result
+         */
+        public static ItemResult accepted(int index, Long questionId, Long answerOptionId, boolean correct) {
+            ItemResult result = new ItemResult(index, questionId, answerOptionId);
+            result.accepted = true;
+            result.correct = correct;
+            result.feedback = correct ? "Correct! Well done!" : "Incorrect. Please review the question and try again.";
+            return result;
+        }
+
+        /**
+         * Creates the result of an answer that was rejected.
+         *
+         * @param index          The position of the answer in the batch
+         * @param questionId     The ID of the answered question
+         * @param answerOptionId The ID of the selected option
+         * @param error          Why the answer was rejected
+         * @return The item result
+         */
+        public static ItemResult rejected(int index, Long questionId, Long answerOptionId, String error) {
+            ItemResult result = new ItemResult(index, questionId, answerOptionId);
+            result.error = error;
+            return result;
+        }
+
+        // Getters
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Long getQuestionId() {
+            return questionId;
+        }
+
+        public Long getAnswerOptionId() {
+            return answerOptionId;
+        }
+
+        public boolean isAccepted() {
+            return accepted;
+        }
+
+        public Boolean getCorrect() {
+            return correct;
+        }
+
+        public String getFeedback() {
+            return feedback;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+
+    // Getters
+
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public List<ItemResult> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.quizzerApp.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for submitting a whole attempt's worth of answers
+ * in one request.
+ */
+public class AnswerBatchSubmissionDTO {
+
+    /**
+     * The maximum number of answers accepted in a single batch.
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+
+    /**
+     * The answers to submit. Each one is validated on its own.
+     */
+    @NotEmpty(message = "At least one answer is required")
+    @Size(max = MAX_BATCH_SIZE, message = "A batch cannot contain more than " + MAX_BATCH_SIZE + " answers")
+    @Valid
+    private List<AnswerSubmissionDTO> answers;
+
+    /**
+     * The ID of the user submitting the answers.
+     * Used for every answer that does not carry its own user ID.
+     */
+    private String userId;
+
+    // Getters and Setters
+
+    public List<AnswerSubmissionDTO> getAnswers() {
+        return answers;
+    }
+
+    public void setAnswers(List<AnswerSubmissionDTO> answers) {
+        this.answers = answers;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+}
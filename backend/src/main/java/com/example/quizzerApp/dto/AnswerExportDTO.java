@@ -0,0 +1,78 @@
+package com.example.quizzerApp.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) for one exported answer.
+ * Read directly by a constructor expression, so exporting answers never
+ * loads Answer, Question or AnswerOption entities.
+ */
+public class AnswerExportDTO {
+
+    private final Long id;
+    private final String userId;
+    private final Long questionId;
+    private final String questionContent;
+    private final Long selectedOptionId;
+    private final String selectedOptionText;
+    private final boolean correct;
+    private final LocalDateTime submittedAt;
+
+    /**
+     * Constructs an AnswerExportDTO from the columns of an answer row.
+     *
+     * @param id                 The ID of the answer
+     * @param userId             The ID of the user who submitted the answer
+     * @param questionId         The ID of the answered question
+     * @param questionContent    The question text
+     * @param selectedOptionId   The ID of the selected answer option
+     * @param selectedOptionText The selected option text
+     * @param correct            Whether the answer was correct
+     * @param submittedAt        When the answer was submitted
+     */
+    public AnswerExportDTO(Long id, String userId, Long questionId, String questionContent,
+            Long selectedOptionId, String selectedOptionText, boolean correct, LocalDateTime submittedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.questionId = questionId;
+        this.questionContent = questionContent;
+        this.selectedOptionId = selectedOptionId;
+        this.selectedOptionText = selectedOptionText;
+        this.correct = correct;
+        this.submittedAt = submittedAt;
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public String getQuestionContent() {
+        return questionContent;
+    }
+
+    public Long getSelectedOptionId() {
+        return selectedOptionId;
+    }
+
+    public String getSelectedOptionText() {
+        return selectedOptionText;
+    }
+
+    public boolean isCorrect() {
+        return correct;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+}
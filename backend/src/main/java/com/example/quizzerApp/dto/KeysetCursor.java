@@ -0,0 +1,91 @@
+package com.example.quizzerApp.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for keyset (seek) pagination.
+ * Holds the sort keys of the last row of a page, so the next page can be read
+ * with a range predicate on an index instead of an offset. Encoded as URL-safe
+ * base64 so that clients pass it back unchanged.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String sort;
+    private final LocalDateTime timestamp;
+    private final long id;
+    private final Integer rank;
+
+    /**
+     * Creates a cursor.
+     *
+     * @param sort      The sort order the cursor was issued for
+     * @param timestamp The timestamp key of the last row
+     * @param id        The ID of the last row, used as a tie-breaker
+     * @param rank      An optional leading sort key of the last row, or null
+     */
+    public KeysetCursor(String sort, LocalDateTime timestamp, long id, Integer rank) {
+        this.sort = sort;
+        this.timestamp = timestamp;
+        this.id = id;
+        this.rank = rank;
+    }
+
+    /**
+     * Encodes the cursor for a client.
+     *
+     * @return The opaque cursor string
+     */
+    public String encode() {
+        String raw = sort + SEPARATOR + timestamp + SEPARATOR + id + SEPARATOR + (rank == null ? "" : rank);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor received from a client.
+     *
+     * @param encoded      The opaque cursor string
+     * @param expectedSort The sort order of the current request
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed or was issued
+     *                                  for a different sort order
+     */
+    public static KeysetCursor decode(String encoded, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            if (!parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort order");
+            }
+            Integer rank = parts[3].isEmpty() ? null : Integer.valueOf(parts[3]);
+            return new KeysetCursor(parts[0], LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]), rank);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    // Getters
+
+    public String getSort() {
+        return sort;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Integer getRank() {
+        return rank;
+    }
+}
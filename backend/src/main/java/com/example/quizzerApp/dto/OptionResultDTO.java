@@ -0,0 +1,80 @@
+package com.example.quizzerApp.dto;
+
+/**
+ * Data Transfer Object (DTO) for the number of times one answer option of a
+ * quiz was selected.
+ */
+public class OptionResultDTO {
+
+    private Long questionId;
+    private Long optionId;
+    private String text;
+    private boolean correct;
+    private long selectedCount;
+    private long questionAnswerCount;
+
+    /**
+     * Constructs an OptionResultDTO from a rolled-up count.
+     *
+     * @param questionId    The ID of the question the option belongs to
+     * @param optionId      The ID of the option
+     * @param text          The option text
+     * @param correct       Whether the option is correct
+     * @param selectedCount The number of answers that selected the option
+     */
+    public OptionResultDTO(Long questionId, Long optionId, String text, boolean correct, long selectedCount) {
+        this.questionId = questionId;
+        this.optionId = optionId;
+        this.text = text;
+        this.correct = correct;
+        this.selectedCount = selectedCount;
+    }
+
+    /**
+     * Adds selections that are not rolled up yet.
+     *
+     * @param selections The number of selections to add
+     */
+    public void add(long selections) {
+        selectedCount += selections;
+    }
+
+    /**
+     * Calculates the proportion of the question's answers that selected the option.
+     *
+     * @return The proportion between 0 and 1, or 0 if the question has no answers
+     */
+    public double getSelectionRate() {
+        return questionAnswerCount > 0 ? (double) selectedCount / questionAnswerCount : 0.0;
+    }
+
+    // Getters and Setters
+
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public Long getOptionId() {
+        return optionId;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isCorrect() {
+        return correct;
+    }
+
+    public long getSelectedCount() {
+        return selectedCount;
+    }
+
+    public long getQuestionAnswerCount() {
+        return questionAnswerCount;
+    }
+
+    public void setQuestionAnswerCount(long questionAnswerCount) {
+        this.questionAnswerCount = questionAnswerCount;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.quizzerApp.dto;
+
+/**
+ * Data Transfer Object (DTO) for the answer counts of one question of a quiz.
+ */
+public class QuestionResultDTO {
+
+    private Long questionId;
+    private String content;
+    private long correctCount;
+    private long wrongCount;
+
+    /**
+     * Constructs a QuestionResultDTO from rolled-up counts.
+     *
+     * @param questionId   The ID of the question
+     * @param content      The question text
+     * @param correctCount The number of correct answers
+     * @param wrongCount   The number of wrong answers
+     */
+    public QuestionResultDTO(Long questionId, String content, long correctCount, long wrongCount) {
+        this.questionId = questionId;
+        this.content = content;
+        this.correctCount = correctCount;
+        this.wrongCount = wrongCount;
+    }
+
+    /**
+     * Adds answers that are not rolled up yet.
+     *
+     * @param correct The number of correct answers to add
+     * @param wrong   The number of wrong answers to add
+     */
+    public void add(long correct, long wrong) {
+        correctCount += correct;
+        wrongCount += wrong;
+    }
+
+    /**
+     * Calculates the proportion of correct answers.
+     *
+     * @return The proportion between 0 and 1, or 0 if the question has no answers
+     */
+    public double getCorrectRate() {
+        long total = correctCount + wrongCount;
+        return total > 0 ? (double) correctCount / total : 0.0;
+    }
+
+    // Getters
+
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public long getCorrectCount() {
+        return correctCount;
+    }
+
+    public long getWrongCount() {
+        return wrongCount;
+    }
+}
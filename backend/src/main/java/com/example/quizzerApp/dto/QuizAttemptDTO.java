@@ -0,0 +1,106 @@
+package com.example.quizzerApp.dto;
+
+import com.example.quizzerApp.model.QuizAttempt;
+import com.example.quizzerApp.service.attempt.AttemptResultCodec;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for a graded quiz attempt, with the outcome of
+ * every answered question.
+ */
+public class QuizAttemptDTO {
+
+    private Long id;
+    private Long quizId;
+    private String userId;
+    private int score;
+    private int correctAnswers;
+    private int totalQuestions;
+    private LocalDateTime startedAt;
+    private LocalDateTime submittedAt;
+    private List<QuestionOutcome> questionResults;
+
+    /**
+     * Constructs a QuizAttemptDTO from a QuizAttempt entity.
+     * The quiz is not loaded; only its ID is read.
+     *
+     * @param attempt The QuizAttempt entity to convert
+     */
+    public QuizAttemptDTO(QuizAttempt attempt) {
+        this.id = attempt.getId();
+        this.quizId = attempt.getQuiz().getId();
+        this.userId = attempt.getUserId();
+        this.score = attempt.getScore();
+        this.correctAnswers = attempt.getCorrectAnswers();
+        this.totalQuestions = attempt.getTotalQuestions();
+        this.startedAt = attempt.getStartedAt();
+        this.submittedAt = attempt.getSubmittedAt();
+
+        AttemptResultCodec.Outcomes outcomes = AttemptResultCodec.decode(attempt.getResults());
+        this.questionResults = new ArrayList<>(outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            questionResults.add(new QuestionOutcome(outcomes.questionId(i), outcomes.isCorrect(i)));
+        }
+    }
+
+    /**
+     * The outcome of one answered question.
+     */
+    public static class QuestionOutcome {
+        private final Long questionId;
+        private final boolean correct;
+
+        public QuestionOutcome(Long questionId, boolean correct) {
+            this.questionId = questionId;
+            this.correct = correct;
+        }
+
+        public Long getQuestionId() {
+            return questionId;
+        }
+
+        public boolean isCorrect() {
+            return correct;
+        }
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public List<QuestionOutcome> getQuestionResults() {
+        return questionResults;
+    }
+}
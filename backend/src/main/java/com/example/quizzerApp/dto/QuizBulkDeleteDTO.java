@@ -0,0 +1,29 @@
+package com.example.quizzerApp.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for deleting one or many quizzes in one request.
+ */
+public class QuizBulkDeleteDTO {
+
+    /**
+     * The maximum number of quizzes accepted in a single request.
+     */
+    public static final int MAX_QUIZZES = 500;
+
+    /**
+     * The IDs of the quizzes to delete.
+     */
+    private List<Long> quizIds;
+
+    // Getters and Setters
+
+    public List<Long> getQuizIds() {
+        return quizIds;
+    }
+
+    public void setQuizIds(List<Long> quizIds) {
+        this.quizIds = quizIds;
+    }
+}
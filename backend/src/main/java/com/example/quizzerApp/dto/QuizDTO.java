@@ -58,6 +58,49 @@ public class QuizDTO {
      */
     private String categoryName;
 
+    /**
+     * The number of reviews left for this quiz.
+     */
+    private long reviewCount;
+
+    /**
+     * The average review rating, or null if the quiz has no reviews.
+     */
+    private Double averageRating;
+
+    /**
+     * Constructs a QuizDTO from a catalog projection row.
+     * Used by the JPQL constructor expressions in QuizRepository so that the
+     * catalog can be read in a single grouped query.
+     *
+     * @param id            The quiz ID
+     * @param name          The quiz name
+     * @param description   The quiz description
+     * @param courseCode    The course code
+     * @param published     Whether the quiz is published
+     * @param dateAdded     The creation date and time
+     * @param categoryId    The category ID, or null if uncategorised
+     * @param categoryName  The category name, or null if uncategorised
+     * @param questionCount The number of questions in the quiz
+     * @param reviewCount   The number of reviews for the quiz
+     * @param averageRating The average review rating, or null if there are none
+     */
+    public QuizDTO(Long id, String name, String description, String courseCode, Boolean published,
+            LocalDateTime dateAdded, Long categoryId, String categoryName, Long questionCount,
+            Long reviewCount, Double averageRating) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.courseCode = courseCode;
+        this.published = Boolean.TRUE.equals(published);
+        this.dateAdded = dateAdded;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.questionCount = questionCount != null ? questionCount.intValue() : 0;
+        this.reviewCount = reviewCount != null ? reviewCount : 0L;
+        this.averageRating = averageRating;
+    }
+
     /**
      * Constructs a QuizDTO from a Quiz entity and its question count.
      *
@@ -269,4 +312,40 @@ public class QuizDTO {
     public void setCategoryName(String categoryName) {
         this.categoryName = categoryName;
     }
+
+    /**
+     * Retrieves the number of reviews for the quiz.
+     *
+     * @return The review count
+     */
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    /**
+     * Sets the number of reviews for the quiz.
+     *
+     * @param reviewCount The review count to set
+     */
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    /**
+     * Retrieves the average review rating.
+     *
+     * @return The average rating, or null if the quiz has no reviews
+     */
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    /**
+     * Sets the average review rating.
+     *
+     * @param averageRating The average rating to set
+     */
+    public void setAverageRating(Double averageRating) {
+        this.averageRating = averageRating;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.example.quizzerApp.dto;
+
+/**
+ * Data Transfer Object (DTO) for one row of a quiz export: a question with
+ * one of its answer options, or with null option columns if it has none.
+ * Read directly by a constructor expression, so exporting a quiz never
+ * loads Question or AnswerOption entities.
+ */
+public class QuizExportRowDTO {
+
+    private final Long questionId;
+    private final String content;
+    private final String difficulty;
+    private final String optionText;
+    private final Boolean correct;
+
+    /**
+     * Constructs a QuizExportRowDTO from the columns of a question and option row.
+     *
+     * @param questionId The ID of the question
+     * @param content    The question text
+     * @param difficulty The difficulty of the question
+     * @param optionText The answer option text, or null if the question has no options
+     * @param correct    Whether the answer option is correct, or null if the question has no options
+     */
+    public QuizExportRowDTO(Long questionId, String content, String difficulty, String optionText,
+            Boolean correct) {
+        this.questionId = questionId;
+        this.content = content;
+        this.difficulty = difficulty;
+        this.optionText = optionText;
+        this.correct = correct;
+    }
+
+    // Getters
+
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public String getOptionText() {
+        return optionText;
+    }
+
+    public Boolean getCorrect() {
+        return correct;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.quizzerApp.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) for submitting a whole quiz for grading.
+ */
+public class QuizSubmissionDTO {
+
+    /**
+     * The answers, each with questionId and selectedAnswerId.
+     */
+    private List<Map<String, Long>> answers;
+
+    /**
+     * The ID of the user submitting the quiz.
+     * This could be expanded when user authentication is implemented.
+     */
+    private String userId;
+
+    /**
+     * When the user started the quiz, as reported by the client.
+     */
+    private Instant startedAt;
+
+    // Getters and Setters
+
+    public List<Map<String, Long>> getAnswers() {
+        return answers;
+    }
+
+    public void setAnswers(List<Map<String, Long>> answers) {
+        this.answers = answers;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+}
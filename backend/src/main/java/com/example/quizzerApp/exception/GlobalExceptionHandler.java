@@ -1,5 +1,8 @@
 package com.example.quizzerApp.exception;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -14,6 +17,7 @@ import java.util.Map;
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
     /**
      * Handles all uncaught exceptions in the application.
@@ -32,11 +36,26 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    /**
+     * Handles writes that lost a race against a concurrent change of the same
+     * entity. The client should read the entity again and reapply its change.
+     *
+     * @param ex The exception that was thrown
+     * @return A ResponseEntity with status 409
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        logger.debug("Concurrent modification: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of(
+                        "error", "Conflict",
+                        "message", "The resource was modified concurrently, read it again and retry"));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGlobalException(Exception ex) {
         // Log the exception
-        System.err.println("Global exception handler caught: " + ex.getMessage());
-        ex.printStackTrace();
+        logger.error("Unhandled exception", ex);
 
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
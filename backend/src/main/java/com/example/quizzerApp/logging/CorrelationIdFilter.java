@@ -0,0 +1,54 @@
+package com.example.quizzerApp.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Gives every request a correlation id, taken from the X-Request-Id header
+ * when the client sends a well-formed one. The id is put in the MDC for all
+ * log events of the request and echoed in the response.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+
+    private static final Logger logger = LoggerFactory.getLogger(CorrelationIdFilter.class);
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(HEADER);
+        if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+        MDC.put(RequestLogContext.REQUEST_ID, requestId);
+        response.setHeader(HEADER, requestId);
+        RequestLogContext.begin(requestId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int dropped = RequestLogContext.end();
+            if (dropped > 0) {
+                logger.warn("Dropped {} log events of {} {} over the per-request budget",
+                        dropped, request.getMethod(), request.getRequestURI());
+            }
+            MDC.remove(RequestLogContext.REQUEST_ID);
+        }
+    }
+}
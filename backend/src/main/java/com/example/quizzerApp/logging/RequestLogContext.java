@@ -0,0 +1,91 @@
+package com.example.quizzerApp.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Per-request logging state shared by {@link CorrelationIdFilter} and
+ * {@link RequestLogTurboFilter}: the correlation id, whether the request is
+ * sampled for hot-path debug events, and how much of its log budget is used.
+ */
+public final class RequestLogContext {
+
+    /**
+     * MDC key holding the correlation id of the current request.
+     */
+    public static final String REQUEST_ID = "requestId";
+
+    /**
+     * Marks debug events on hot paths, which are only logged for sampled requests.
+     */
+    public static final Marker HOT_PATH = MarkerFactory.getMarker("HOT_PATH");
+
+    private static final ThreadLocal<RequestLogContext> CURRENT = new ThreadLocal<>();
+
+    private final String requestId;
+    private Boolean sampled;
+    private int events;
+    private int dropped;
+
+    private RequestLogContext(String requestId) {
+        this.requestId = requestId;
+    }
+
+    /**
+     * Starts the logging context of a request on the current thread.
+     *
+     * @param requestId The correlation id of the request
+     */
+    static void begin(String requestId) {
+        CURRENT.set(new RequestLogContext(requestId));
+    }
+
+    /**
+     * Ends the logging context of the current thread.
+     *
+     * @return The number of events dropped over the budget
+     */
+    static int end() {
+        RequestLogContext context = CURRENT.get();
+        CURRENT.remove();
+        return context == null ? 0 : context.dropped;
+    }
+
+    /**
+     * Retrieves the logging context of the current thread.
+     *
+     * @return The context, or null outside of a request
+     */
+    static RequestLogContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Decides whether this request is sampled. The decision is derived from
+     * the correlation id, so it is the same for every event of the request.
+     *
+     * @param rate The fraction of requests to sample, between 0 and 1
+     * @return true if hot-path debug events of this request are logged
+     */
+    boolean isSampled(double rate) {
+        if (sampled == null) {
+            sampled = (requestId.hashCode() & Integer.MAX_VALUE) % 10_000 < rate * 10_000;
+        }
+        return sampled;
+    }
+
+    /**
+     * Takes one event from the budget.
+     *
+     * @param budget The maximum number of events per request
+     * @return true if the event fits the budget, false if it is dropped
+     */
+    boolean tryAcquire(int budget) {
+        if (events >= budget) {
+            dropped++;
+            return false;
+        }
+        events++;
+        return true;
+    }
+}
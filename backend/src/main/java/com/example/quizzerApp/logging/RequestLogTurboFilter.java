@@ -0,0 +1,65 @@
+package com.example.quizzerApp.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logback turbo filter that keeps request logging cheap and bounded.
+ *
+ * With a sample rate below 1, debug and trace events marked
+ * {@link RequestLogContext#HOT_PATH} are logged for that fraction of requests
+ * only, whatever the logger level; at rate 1 they follow the logger level. Every
+ * request may log at most {@code budget} events below ERROR; events over the
+ * budget are dropped before a log event is even created, and counted so
+ * {@link CorrelationIdFilter} can report them. A budget of 0 means unlimited.
+ */
+public class RequestLogTurboFilter extends TurboFilter {
+
+    private int budget;
+    private double debugSampleRate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        boolean hotPath = debugSampleRate < 1.0 && marker != null && marker.contains(RequestLogContext.HOT_PATH)
+                && !level.isGreaterOrEqual(Level.INFO);
+        RequestLogContext context = RequestLogContext.current();
+
+        if (hotPath && !isSampled(context)) {
+            return FilterReply.DENY;
+        }
+        // isXxxEnabled() checks pass no format; only real events use the budget
+        if (format == null && params == null && t == null) {
+            return hotPath ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+        }
+        boolean enabled = hotPath || level.isGreaterOrEqual(logger.getEffectiveLevel());
+        if (!enabled) {
+            return FilterReply.NEUTRAL;
+        }
+        if (context != null && budget > 0 && !level.isGreaterOrEqual(Level.ERROR)
+                && !context.tryAcquire(budget)) {
+            return FilterReply.DENY;
+        }
+        return hotPath ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+
+    private boolean isSampled(RequestLogContext context) {
+        if (context == null) {
+            return ThreadLocalRandom.current().nextDouble() < debugSampleRate;
+        }
+        return context.isSampled(debugSampleRate);
+    }
+
+    public void setBudget(int budget) {
+        this.budget = budget;
+    }
+
+    public void setDebugSampleRate(double debugSampleRate) {
+        this.debugSampleRate = debugSampleRate;
+    }
+}
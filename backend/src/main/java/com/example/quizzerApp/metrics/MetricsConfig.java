@@ -0,0 +1,56 @@
+package com.example.quizzerApp.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration for the application's own metrics.
+ * Request timers ({@code http.server.requests}) and repository timers
+ * ({@code spring.data.repository.invocations}) come from Spring Boot; this adds
+ * the per-request SQL statement count.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Creates the statement counter shared by Hibernate and the request filter.
+     *
+     * @return The statement counter
+     */
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    /**
+     * Registers the statement counter as Hibernate's statement inspector.
+     *
+     * @param statementCounter The statement counter
+     * @return A customizer for the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    /**
+     * Registers the filter recording statements per request, after the CORS filter.
+     *
+     * @param statementCounter The statement counter
+     * @param meterRegistry    The registry to record to
+     * @return The filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter(StatementCounter statementCounter,
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<StatementCountFilter> registration = new FilterRegistrationBean<>(
+                new StatementCountFilter(statementCounter, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
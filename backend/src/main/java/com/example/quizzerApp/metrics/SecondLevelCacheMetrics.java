@@ -0,0 +1,101 @@
+package com.example.quizzerApp.metrics;
+
+import com.example.quizzerApp.model.CacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Exports hits, misses, puts and the hit ratio of every second-level cache
+ * region, read from Hibernate's statistics. The counters stay at zero while
+ * statistics or the cache are disabled, and for regions that have not been
+ * used yet.
+ */
+@Component
+public class SecondLevelCacheMetrics {
+
+    /**
+     * Registry the region meters are registered with
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    /**
+     * Registers the meters of every region.
+     */
+    @PostConstruct
+    public void register() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : CacheRegions.ALL) {
+            requestCounter(region, "hit", CacheRegionStatistics::getHitCount);
+            requestCounter(region, "miss", CacheRegionStatistics::getMissCount);
+            FunctionCounter.builder("quizzer.cache.puts", this,
+                            metrics -> metrics.count(region, CacheRegionStatistics::getPutCount))
+                    .description("Entries written to a second-level cache region")
+                    .tag("region", region)
+                    .register(meterRegistry);
+            Gauge.builder("quizzer.cache.hit.ratio", this, metrics -> metrics.hitRatio(region))
+                    .description("Share of second-level cache lookups answered by the region")
+                    .tag("region", region)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Computes the hit ratio of a region since startup.
+     *
+     * @param region The name of the region
+     * @return The ratio between 0 and 1, or 0 before the first lookup
+     */
+    public double hitRatio(String region) {
+        long hits = count(region, CacheRegionStatistics::getHitCount);
+        long lookups = hits + count(region, CacheRegionStatistics::getMissCount);
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Reads one statistic of a region.
+     *
+     * @param region    The name of the region
+     * @param statistic The statistic to read
+     * @return The value, or 0 if the region has no statistics yet
+     */
+    public long count(String region, ToLongFunction<CacheRegionStatistics> statistic) {
+        if (!statistics.isStatisticsEnabled()) {
+            return 0;
+        }
+        CacheRegionStatistics regionStatistics;
+        try {
+            regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics == null) {
+                regionStatistics = statistics.getQueryRegionStatistics(region);
+            }
+        } catch (IllegalArgumentException e) {
+            // Query regions are created on their first use
+            return 0;
+        }
+        return regionStatistics != null ? statistic.applyAsLong(regionStatistics) : 0;
+    }
+
+    private void requestCounter(String region, String result, ToLongFunction<CacheRegionStatistics> statistic) {
+        FunctionCounter.builder("quizzer.cache.requests", this, metrics -> metrics.count(region, statistic))
+                .description("Second-level cache lookups")
+                .tag("region", region)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.quizzerApp.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * Registered as Hibernate's statement inspector; counting only happens between
+ * {@link #begin()} and {@link #end()}, so statements from background threads
+ * such as the answer write-behind log are ignored.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    /**
+     * Starts counting on the current thread.
+     */
+    public void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Stops counting on the current thread.
+     *
+     * @return The number of statements since {@link #begin()}, or 0 if counting was not started
+     */
+    public int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
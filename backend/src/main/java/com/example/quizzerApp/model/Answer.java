@@ -3,20 +3,30 @@ package com.example.quizzerApp.model;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Entity representing a student's answer to a quiz question.
  * Stores the selected answer option, timestamp, and correctness.
  */
 @Entity
+@Table(name = "answer", indexes = {
+        @Index(name = "idx_answer_question_submitted", columnList = "question_id, submitted_at, id"),
+        @Index(name = "idx_answer_answer_option", columnList = "answer_option_id"),
+        @Index(name = "idx_answer_quiz_submitted", columnList = "quiz_id, submitted_at, id"),
+        @Index(name = "idx_answer_user_submitted", columnList = "user_id, submitted_at, id"),
+        @Index(name = "idx_answer_user_quiz_submitted", columnList = "user_id, quiz_id, submitted_at, id")
+})
 public class Answer {
 
     /**
      * Unique identifier for the answer.
-     * Automatically generated by the database.
+     * Drawn from the answer_seq sequence in pooled blocks, so that inserts can be
+     * batched by Hibernate.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_seq")
+    @SequenceGenerator(name = "answer_seq", sequenceName = "answer_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -27,18 +37,25 @@ public class Answer {
 
     /**
      * The question this answer is for.
-     * Many-to-one relationship with Question entity.
+     * Many-to-one relationship with Question entity, loaded on first access.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "question_id")
     @JsonIgnoreProperties("answers")
     private Question question;
 
+    /**
+     * The ID of the quiz the question belongs to, copied from the question so
+     * that a quiz's answers can be read from one index without a join.
+     */
+    @Column(name = "quiz_id")
+    private Long quizId;
+
     /**
      * The selected answer option.
-     * Many-to-one relationship with AnswerOption entity.
+     * Many-to-one relationship with AnswerOption entity, loaded on first access.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "answer_option_id")
     @JsonIgnoreProperties("answers")
     private AnswerOption selectedOption;
@@ -51,7 +68,9 @@ public class Answer {
     private boolean correct;
 
     /**
-     * The date and time when this answer was submitted.
+     * The date and time when this answer was submitted, at the microsecond
+     * precision the database stores, so that history cursors taken from a
+     * saved answer match its row.
      */
     private LocalDateTime submittedAt;
 
@@ -59,7 +78,7 @@ public class Answer {
      * Default constructor required by JPA.
      */
     public Answer() {
-        this.submittedAt = LocalDateTime.now();
+        this.submittedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     /**
@@ -71,10 +90,10 @@ public class Answer {
      */
     public Answer(String userId, Question question, AnswerOption selectedOption) {
         this.userId = userId;
-        this.question = question;
+        setQuestion(question);
         this.selectedOption = selectedOption;
         this.correct = selectedOption.isCorrect();
-        this.submittedAt = LocalDateTime.now();
+        this.submittedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     // Getters and Setters
@@ -101,6 +120,12 @@ public class Answer {
 
     public void setQuestion(Question question) {
         this.question = question;
+        // Keep the copied quiz ID in step with the question
+        this.quizId = question != null && question.getQuiz() != null ? question.getQuiz().getId() : null;
+    }
+
+    public Long getQuizId() {
+        return quizId;
     }
 
     public AnswerOption getSelectedOption() {
@@ -1,7 +1,10 @@
 package com.example.quizzerApp.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Entity representing an answer option for a quiz question.
@@ -9,16 +12,30 @@ import jakarta.persistence.*;
  * correct.
  */
 @Entity
+@Table(name = "answer_option", indexes = @Index(name = "idx_answer_option_question", columnList = "question_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ANSWER_OPTION)
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" }) // Lazy proxies
 public class AnswerOption {
 
     /**
      * Unique identifier for the answer option.
-     * Automatically generated by the database.
+     * Drawn from the answer_option_seq sequence in pooled blocks, so that inserts can be
+     * batched by Hibernate.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_option_seq")
+    @SequenceGenerator(name = "answer_option_seq", sequenceName = "answer_option_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Optimistic locking version of the answer option.
+     * Incremented by Hibernate on every update of the answer option row.
+     */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+
     /**
      * The text content of the answer option.
      */
@@ -32,10 +49,10 @@ public class AnswerOption {
 
     /**
      * The question that this answer option belongs to.
-     * Many-to-one relationship with Question entity.
+     * Many-to-one relationship with Question entity, loaded on first access.
      * JsonIgnoreProperties prevents infinite recursion during serialization.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "question_id")
     @JsonIgnoreProperties("answers") // Prevents circular references
     private Question question;
@@ -58,6 +75,15 @@ public class AnswerOption {
         this.id = id;
     }
 
+    /**
+     * Retrieves the optimistic locking version of the answer option.
+     *
+     * @return The version
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Retrieves the text content of the answer option.
      *
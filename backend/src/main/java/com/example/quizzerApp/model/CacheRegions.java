@@ -0,0 +1,33 @@
+package com.example.quizzerApp.model;
+
+/**
+ * Names of the Hibernate second-level cache regions.
+ * Every region is configured with its size and time-to-live in ehcache.xml;
+ * Hibernate fails at startup if a region used here is missing there.
+ */
+public final class CacheRegions {
+
+    public static final String CATEGORY = "quizzer.category";
+    public static final String QUIZ = "quizzer.quiz";
+    public static final String QUESTION = "quizzer.question";
+    public static final String QUESTION_ANSWERS = "quizzer.question.answers";
+    public static final String ANSWER_OPTION = "quizzer.answer-option";
+
+    /**
+     * Query result regions. A cached query result holds entity IDs only; the
+     * entities themselves are read from their entity regions.
+     */
+    public static final String PUBLISHED_QUIZZES_QUERY = "quizzer.query.published-quizzes";
+    public static final String QUIZ_QUESTIONS_QUERY = "quizzer.query.quiz-questions";
+    public static final String CATEGORIES_BY_NAME_QUERY = "quizzer.query.categories-by-name";
+
+    /**
+     * Every region, for metrics.
+     */
+    public static final String[] ALL = {
+            CATEGORY, QUIZ, QUESTION, QUESTION_ANSWERS, ANSWER_OPTION,
+            PUBLISHED_QUIZZES_QUERY, QUIZ_QUESTIONS_QUERY, CATEGORIES_BY_NAME_QUERY };
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.quizzerApp.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Single-row counter of changes to the quiz catalog.
+ * Incremented whenever a quiz, question, answer option, category or review
+ * changes, so that list endpoints can tag their responses with one number
+ * instead of hashing the rows they return.
+ */
+@Entity
+@Table(name = "catalog_version")
+public class CatalogVersion {
+
+    /**
+     * The ID of the only row.
+     */
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    /**
+     * The number of catalog changes so far.
+     */
+    @Column(nullable = false)
+    private long version;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public CatalogVersion() {
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.quizzerApp.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -9,16 +13,29 @@ import jakarta.validation.constraints.Size;
  * Categories allow organizing quizzes by subject or topic.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CATEGORY)
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" }) // Lazy proxies
 public class Category {
 
     /**
      * Unique identifier for the category.
-     * Automatically generated by the database.
+     * Drawn from the category_seq sequence in pooled blocks, so that inserts can be
+     * batched by Hibernate.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_seq")
+    @SequenceGenerator(name = "category_seq", sequenceName = "category_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Optimistic locking version of the category.
+     * Incremented by Hibernate on every update of the category row.
+     */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+
     /**
      * The name of the category.
      * Required and must be between 2 and 100 characters.
@@ -70,6 +87,15 @@ public class Category {
         this.id = id;
     }
 
+    /**
+     * Retrieves the optimistic locking version of the category.
+     *
+     * @return The version
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Retrieves the name of the category.
      *
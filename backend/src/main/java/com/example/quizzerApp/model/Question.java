@@ -1,7 +1,10 @@
 package com.example.quizzerApp.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,16 +15,30 @@ import java.util.List;
  * AnswerOption.
  */
 @Entity
+@Table(name = "question", indexes = @Index(name = "idx_question_quiz", columnList = "quiz_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.QUESTION)
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" }) // Lazy proxies
 public class Question {
 
     /**
      * Unique identifier for the question.
-     * Automatically generated by the database.
+     * Drawn from the question_seq sequence in pooled blocks, so that inserts can be
+     * batched by Hibernate.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_seq")
+    @SequenceGenerator(name = "question_seq", sequenceName = "question_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Optimistic locking version of the question.
+     * Incremented by Hibernate on every update of the question row.
+     */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+
     /**
      * The text content of the question.
      */
@@ -34,12 +51,13 @@ public class Question {
 
     /**
      * The quiz that this question belongs to.
-     * Many-to-one relationship with Quiz entity.
-     * JsonIgnoreProperties prevents infinite recursion during serialization.
+     * Many-to-one relationship with Quiz entity, loaded on first access.
+     * JsonIgnoreProperties prevents infinite recursion during serialization,
+     * and keeps the quiz's reviews out of question responses.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "quiz_id")
-    @JsonIgnoreProperties("questions") // Prevents circular references
+    @JsonIgnoreProperties({ "questions", "reviews" }) // Prevents circular references
     private Quiz quiz;
 
     /**
@@ -48,9 +66,10 @@ public class Question {
      * Cascade type ALL ensures that operations on the question cascade to its
      * answers.
      * OrphanRemoval ensures that answer options are deleted when removed from this
-     * list.
+     * list. The collection is second-level cached as a list of option IDs.
      */
     @OneToMany(mappedBy = "question", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.QUESTION_ANSWERS)
     @JsonIgnoreProperties("question") // Prevents circular references
     private List<AnswerOption> answers = new ArrayList<>();
 
@@ -72,6 +91,15 @@ public class Question {
         this.id = id;
     }
 
+    /**
+     * Retrieves the optimistic locking version of the question.
+     *
+     * @return The version
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Retrieves the content of the question.
      *
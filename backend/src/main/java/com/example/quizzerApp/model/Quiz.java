@@ -3,7 +3,10 @@ package com.example.quizzerApp.model;
 import com.example.quizzerApp.model.review.Review;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -13,16 +16,35 @@ import java.util.Set;
  * Contains basic quiz metadata and can have multiple questions.
  */
 @Entity
+@Table(name = "quiz", indexes = {
+        @Index(name = "idx_quiz_category", columnList = "category_id"),
+        @Index(name = "idx_quiz_published_category", columnList = "published, category_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.QUIZ)
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" }) // Lazy proxies
 public class Quiz {
 
     /**
      * Unique identifier for the quiz.
-     * Automatically generated by the database.
+     * Drawn from the quiz_seq sequence in pooled blocks, so that inserts can be
+     * batched by Hibernate.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_seq")
+    @SequenceGenerator(name = "quiz_seq", sequenceName = "quiz_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Optimistic locking version of the quiz.
+     * Incremented by Hibernate on every update of the quiz row, and forced up
+     * when its questions or answer options change, so that it identifies the
+     * content of the quiz as a whole.
+     */
+    @Version
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+
     /**
      * The name of the quiz.
      */
@@ -52,9 +74,9 @@ public class Quiz {
 
     /**
      * The category this quiz belongs to.
-     * Many-to-one relationship with Category entity.
+     * Many-to-one relationship with Category entity, loaded on first access.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     @JsonIgnoreProperties("quizzes")
     private Category category;
@@ -93,6 +115,15 @@ public class Quiz {
         this.id = id;
     }
 
+    /**
+     * Retrieves the optimistic locking version of the quiz.
+     *
+     * @return The version
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Retrieves the name of the quiz.
      *
@@ -0,0 +1,159 @@
+package com.example.quizzerApp.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Entity representing one graded submission of a whole quiz.
+ * Stores the score together with the outcome of every answered question, so
+ * that results can be read back without the individual answers.
+ */
+@Entity
+@Table(name = "quiz_attempt", indexes = {
+        @Index(name = "idx_quiz_attempt_user_quiz_submitted", columnList = "user_id, quiz_id, submitted_at, id"),
+        @Index(name = "idx_quiz_attempt_quiz_submitted", columnList = "quiz_id, submitted_at, id")
+})
+public class QuizAttempt {
+
+    /**
+     * Unique identifier for the attempt.
+     * Drawn from the quiz_attempt_seq sequence in pooled blocks.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_attempt_seq")
+    @SequenceGenerator(name = "quiz_attempt_seq", sequenceName = "quiz_attempt_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The user ID of the student who made the attempt.
+     */
+    @Column(nullable = false)
+    private String userId;
+
+    /**
+     * The quiz that was attempted, loaded on first access.
+     * Attempts are deleted together with their quiz.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "quiz_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Quiz quiz;
+
+    /**
+     * The score as a percentage of the quiz's questions.
+     */
+    private int score;
+
+    /**
+     * Number of correctly answered questions.
+     */
+    private int correctAnswers;
+
+    /**
+     * Number of questions the quiz had when it was graded.
+     */
+    private int totalQuestions;
+
+    /**
+     * Question ID and correctness of every answer, packed by
+     * {@link com.example.quizzerApp.service.attempt.AttemptResultCodec}.
+     */
+    @Column(nullable = false)
+    private byte[] results;
+
+    /**
+     * The date and time the student started the quiz, if the client reported it.
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * The date and time when the attempt was submitted.
+     */
+    @Column(nullable = false)
+    private LocalDateTime submittedAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public QuizAttempt() {
+        // Same precision as the submitted_at column, which attempt listings are ordered by
+        this.submittedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    // Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public Quiz getQuiz() {
+        return quiz;
+    }
+
+    public void setQuiz(Quiz quiz) {
+        this.quiz = quiz;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public int getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    public void setCorrectAnswers(int correctAnswers) {
+        this.correctAnswers = correctAnswers;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    public void setTotalQuestions(int totalQuestions) {
+        this.totalQuestions = totalQuestions;
+    }
+
+    public byte[] getResults() {
+        return results;
+    }
+
+    public void setResults(byte[] results) {
+        this.results = results;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+}
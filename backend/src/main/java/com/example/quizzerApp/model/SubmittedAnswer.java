@@ -3,13 +3,14 @@ package com.example.quizzerApp.model;
 import jakarta.persistence.*;
 
 @Entity
+@Table(name = "submitted_answer", indexes = @Index(name = "idx_submitted_answer_answer_option", columnList = "answer_option_id"))
 public class SubmittedAnswer {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "answer_option_id")
     private AnswerOption answerOption;
 
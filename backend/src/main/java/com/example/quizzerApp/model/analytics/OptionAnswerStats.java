@@ -0,0 +1,41 @@
+package com.example.quizzerApp.model.analytics;
+
+import jakarta.persistence.*;
+
+/**
+ * Rolled-up number of times one answer option was selected.
+ * Maintained together with {@link QuestionAnswerStats}.
+ */
+@Entity
+@Table(name = "option_answer_stats")
+public class OptionAnswerStats {
+
+    /**
+     * The ID of the answer option this count belongs to.
+     */
+    @Id
+    @Column(name = "answer_option_id")
+    private Long answerOptionId;
+
+    /**
+     * The number of answers that selected the option.
+     */
+    @Column(name = "selected_count", nullable = false)
+    private long selectedCount;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public OptionAnswerStats() {
+    }
+
+    // Getters
+
+    public Long getAnswerOptionId() {
+        return answerOptionId;
+    }
+
+    public long getSelectedCount() {
+        return selectedCount;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.quizzerApp.model.analytics;
+
+import jakarta.persistence.*;
+
+/**
+ * Rolled-up answer counts of one question.
+ * Incremented by the answer statistics collector with the deltas it gathers
+ * in memory, so that per-question results are read from a single row
+ * instead of from every answer.
+ */
+@Entity
+@Table(name = "question_answer_stats")
+public class QuestionAnswerStats {
+
+    /**
+     * The ID of the question these counts belong to.
+     */
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    /**
+     * The number of correct answers to the question.
+     */
+    @Column(name = "correct_count", nullable = false)
+    private long correctCount;
+
+    /**
+     * The number of wrong answers to the question.
+     */
+    @Column(name = "wrong_count", nullable = false)
+    private long wrongCount;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public QuestionAnswerStats() {
+    }
+
+    // Getters
+
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public long getCorrectCount() {
+        return correctCount;
+    }
+
+    public long getWrongCount() {
+        return wrongCount;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.quizzerApp.model.review;
+
+import jakarta.persistence.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Materialised rating aggregate for the reviews of one quiz.
+ * Kept up to date by the review service on every review create, update and
+ * delete, so that average, total and the rating histogram are read from a
+ * single row instead of from every review.
+ */
+@Entity
+@Table(name = "quiz_review_stats")
+public class QuizReviewStats {
+
+    /**
+     * The ID of the quiz these statistics belong to.
+     */
+    @Id
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    /**
+     * The number of reviews of the quiz.
+     */
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    /**
+     * The sum of all ratings of the quiz.
+     */
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_1", nullable = false)
+    private long rating1;
+
+    @Column(name = "rating_2", nullable = false)
+    private long rating2;
+
+    @Column(name = "rating_3", nullable = false)
+    private long rating3;
+
+    @Column(name = "rating_4", nullable = false)
+    private long rating4;
+
+    @Column(name = "rating_5", nullable = false)
+    private long rating5;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public QuizReviewStats() {
+    }
+
+    /**
+     * Creates empty statistics for a quiz.
+     *
+     * @param quizId The ID of the quiz
+     */
+    public QuizReviewStats(Long quizId) {
+        this.quizId = quizId;
+    }
+
+    /**
+     * Adds a number of reviews with the given rating.
+     *
+     * @param rating The rating, between 1 and 5
+     * @param count  The number of reviews with that rating
+     */
+    public void add(int rating, long count) {
+        reviewCount += count;
+        ratingSum += rating * count;
+        switch (rating) {
+            case 1 -> rating1 += count;
+            case 2 -> rating2 += count;
+            case 3 -> rating3 += count;
+            case 4 -> rating4 += count;
+            case 5 -> rating5 += count;
+            default -> throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+    }
+
+    /**
+     * Calculates the average rating.
+     *
+     * @return The average rating, or 0 if the quiz has no reviews
+     */
+    public double getAverageRating() {
+        return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+    }
+
+    /**
+     * Retrieves the number of reviews per rating.
+     *
+     * @return Map from rating 1..5 to review count, in rating order
+     */
+    public Map<Integer, Long> getHistogram() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(1, rating1);
+        histogram.put(2, rating2);
+        histogram.put(3, rating3);
+        histogram.put(4, rating4);
+        histogram.put(5, rating5);
+        return histogram;
+    }
+
+    // Getters
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public long getRatingSum() {
+        return ratingSum;
+    }
+}
@@ -1,9 +1,19 @@
 package com.example.quizzerApp.repository;
 
+import com.example.quizzerApp.dto.AnswerExportDTO;
 import com.example.quizzerApp.model.Answer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Answer data access operations.
@@ -11,36 +21,63 @@ import java.util.List;
  */
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
 
-    /**
-     * Finds all answers submitted by a specific user.
-     * 
-     * @param userId The ID of the user
-     * @return List of answers from the specified user
-     */
-    List<Answer> findByUserId(String userId);
+    // Answer histories, ordered by submission time and ID. Each scope has a
+    // first-page query and one that seeks past the last row of the previous
+    // page; both read an index on (scope columns, submitted_at, id) in order.
 
-    /**
-     * Finds all answers for a specific question.
-     * 
-     * @param questionId The ID of the question
-     * @return List of answers for the specified question
-     */
-    List<Answer> findByQuestionId(Long questionId);
+    @EntityGraph(attributePaths = { "question", "selectedOption" })
+    List<Answer> findByQuizIdOrderBySubmittedAtAscIdAsc(Long quizId, Limit limit);
 
-    /**
-     * Finds all answers for questions in a specific quiz.
-     * 
-     * @param quizId The ID of the quiz
-     * @return List of answers for questions in the specified quiz
-     */
-    List<Answer> findByQuestionQuizId(Long quizId);
+    @EntityGraph(attributePaths = { "question", "selectedOption" })
+    @Query("SELECT a FROM Answer a WHERE a.quizId = :quizId "
+            + "AND (a.submittedAt > :submittedAt OR (a.submittedAt = :submittedAt AND a.id > :id)) "
+            + "ORDER BY a.submittedAt ASC, a.id ASC")
+    List<Answer> findByQuizIdAfter(@Param("quizId") Long quizId,
+            @Param("submittedAt") LocalDateTime submittedAt, @Param("id") Long id, Limit limit);
+
+    @EntityGraph(attributePaths = { "question", "selectedOption" })
+    List<Answer> findByUserIdOrderBySubmittedAtAscIdAsc(String userId, Limit limit);
+
+    @EntityGraph(attributePaths = { "question", "selectedOption" })
+    @Query("SELECT a FROM Answer a WHERE a.userId = :userId "
+            + "AND (a.submittedAt > :submittedAt OR (a.submittedAt = :submittedAt AND a.id > :id)) "
+            + "ORDER BY a.submittedAt ASC, a.id ASC")
+    List<Answer> findByUserIdAfter(@Param("userId") String userId,
+            @Param("submittedAt") LocalDateTime submittedAt, @Param("id") Long id, Limit limit);
+
+    @EntityGraph(attributePaths = { "question", "selectedOption" })
+    List<Answer> findByUserIdAndQuizIdOrderBySubmittedAtAscIdAsc(String userId, Long quizId, Limit limit);
+
+    @EntityGraph(attributePaths = { "question", "selectedOption" })
+    @Query("SELECT a FROM Answer a WHERE a.userId = :userId AND a.quizId = :quizId "
+            + "AND (a.submittedAt > :submittedAt OR (a.submittedAt = :submittedAt AND a.id > :id)) "
+            + "ORDER BY a.submittedAt ASC, a.id ASC")
+    List<Answer> findByUserIdAndQuizIdAfter(@Param("userId") String userId, @Param("quizId") Long quizId,
+            @Param("submittedAt") LocalDateTime submittedAt, @Param("id") Long id, Limit limit);
+
+    @EntityGraph(attributePaths = { "question", "selectedOption" })
+    List<Answer> findByQuestionIdOrderBySubmittedAtAscIdAsc(Long questionId, Limit limit);
+
+    @EntityGraph(attributePaths = { "question", "selectedOption" })
+    @Query("SELECT a FROM Answer a WHERE a.question.id = :questionId "
+            + "AND (a.submittedAt > :submittedAt OR (a.submittedAt = :submittedAt AND a.id > :id)) "
+            + "ORDER BY a.submittedAt ASC, a.id ASC")
+    List<Answer> findByQuestionIdAfter(@Param("questionId") Long questionId,
+            @Param("submittedAt") LocalDateTime submittedAt, @Param("id") Long id, Limit limit);
 
     /**
-     * Finds all answers submitted by a specific user for a specific quiz.
-     * 
-     * @param userId The ID of the user
+     * Streams the answers for questions in a specific quiz for export.
+     * Rows are read through a forward-only cursor 500 at a time and mapped
+     * straight to DTOs, so the persistence context stays empty however many
+     * answers the quiz has. Must be consumed, and closed, inside a transaction.
+     *
      * @param quizId The ID of the quiz
-     * @return List of answers from the specified user for the specified quiz
+     * @return The answers, in submission order
      */
-    List<Answer> findByUserIdAndQuestionQuizId(String userId, Long quizId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.quizzerApp.dto.AnswerExportDTO("
+            + "a.id, a.userId, q.id, q.content, o.id, o.text, a.correct, a.submittedAt) "
+            + "FROM Answer a JOIN a.question q JOIN a.selectedOption o "
+            + "WHERE a.quizId = :quizId ORDER BY a.submittedAt, a.id")
+    Stream<AnswerExportDTO> streamExportByQuizId(@Param("quizId") Long quizId);
 }
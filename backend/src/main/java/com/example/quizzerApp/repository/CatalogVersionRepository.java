@@ -0,0 +1,61 @@
+package com.example.quizzerApp.repository;
+
+import com.example.quizzerApp.model.CatalogVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for the catalog-wide change counter.
+ */
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, Long> {
+
+    /**
+     * Reads the current catalog version.
+     *
+     * @return The version, if the counter row exists
+     */
+    @Query("SELECT c.version FROM CatalogVersion c WHERE c.id = " + CatalogVersion.ID)
+    Optional<Long> findCurrent();
+
+    /**
+     * Atomically increments the catalog version.
+     *
+     * @return Number of updated rows; 0 if the counter row does not exist
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CatalogVersion c SET c.version = c.version + 1 WHERE c.id = " + CatalogVersion.ID)
+    int increment();
+
+    /**
+     * Creates the counter row if it does not exist yet. The statement declares
+     * the only table it writes, so that Hibernate does not evict every
+     * second-level cache region for it.
+     *
+     * @return Number of inserted rows
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "catalog_version"))
+    @Query(value = "INSERT INTO catalog_version (id, version) SELECT 1, 0 "
+            + "WHERE NOT EXISTS (SELECT 1 FROM catalog_version WHERE id = 1)", nativeQuery = true)
+    int insertIfMissing();
+
+    /**
+     * Increments the catalog version, creating the counter row on first use in
+     * a schema that was not set up by the migration scripts.
+     */
+    default void incrementOrCreate() {
+        if (increment() == 0) {
+            insertIfMissing();
+            increment();
+        }
+    }
+}
@@ -1,12 +1,37 @@
 package com.example.quizzerApp.repository;
 
+import com.example.quizzerApp.model.CacheRegions;
 import com.example.quizzerApp.model.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    /**
+     * Finds all categories ordered by name. The result is kept in the query
+     * cache until a category is written.
+     *
+     * @return List of categories
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATEGORIES_BY_NAME_QUERY) })
     List<Category> findAllByOrderByNameAsc();
 
     boolean existsByName(String name);
+
+    /**
+     * Reads the version of a category without loading it.
+     *
+     * @param id ID of the category
+     * @return The version, if the category exists
+     */
+    @Query("SELECT c.version FROM Category c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
\ No newline at end of file
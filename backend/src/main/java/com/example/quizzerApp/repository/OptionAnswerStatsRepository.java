@@ -0,0 +1,59 @@
+package com.example.quizzerApp.repository;
+
+import com.example.quizzerApp.dto.OptionResultDTO;
+import com.example.quizzerApp.model.analytics.OptionAnswerStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository interface for the rolled-up per-option selection counts.
+ */
+public interface OptionAnswerStatsRepository extends JpaRepository<OptionAnswerStats, Long> {
+
+    /**
+     * Reads the selection counts of every answer option of a quiz.
+     * Options that were never selected are included with a zero count.
+     *
+     * @param quizId The ID of the quiz
+     * @return One row per option, ordered by question and option ID
+     */
+    @Query("SELECT new com.example.quizzerApp.dto.OptionResultDTO("
+            + "q.id, o.id, o.text, o.isCorrect, COALESCE(s.selectedCount, 0)) "
+            + "FROM AnswerOption o JOIN o.question q "
+            + "LEFT JOIN OptionAnswerStats s ON s.answerOptionId = o.id "
+            + "WHERE q.quiz.id = :quizId ORDER BY q.id, o.id")
+    List<OptionResultDTO> findResultsByQuizId(@Param("quizId") Long quizId);
+
+    /**
+     * Atomically adds to the selection count of an option.
+     *
+     * @param optionId   The ID of the answer option
+     * @param selections The number of selections to add
+     * @return Number of updated rows; 0 if the option has no counts row yet
+     */
+    @Modifying
+    @Query("UPDATE OptionAnswerStats s SET s.selectedCount = s.selectedCount + :selections "
+            + "WHERE s.answerOptionId = :optionId")
+    int applyDelta(@Param("optionId") Long optionId, @Param("selections") long selections);
+
+    /**
+     * Creates the counts row of an option, unless the option was deleted.
+     * The query space keeps Hibernate from evicting the second-level cache.
+     *
+     * @param optionId   The ID of the answer option
+     * @param selections The initial number of selections
+     * @return 1 if the row was created, 0 if the option does not exist
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "option_answer_stats"))
+    @Query(value = "INSERT INTO option_answer_stats (answer_option_id, selected_count) "
+            + "SELECT o.id, :selections FROM answer_option o WHERE o.id = :optionId", nativeQuery = true)
+    int insertIfOptionExists(@Param("optionId") Long optionId, @Param("selections") long selections);
+}
@@ -0,0 +1,62 @@
+package com.example.quizzerApp.repository;
+
+import com.example.quizzerApp.dto.QuestionResultDTO;
+import com.example.quizzerApp.model.analytics.QuestionAnswerStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository interface for the rolled-up per-question answer counts.
+ */
+public interface QuestionAnswerStatsRepository extends JpaRepository<QuestionAnswerStats, Long> {
+
+    /**
+     * Reads the answer counts of every question of a quiz.
+     * Questions without answers are included with zero counts.
+     *
+     * @param quizId The ID of the quiz
+     * @return One row per question, ordered by question ID
+     */
+    @Query("SELECT new com.example.quizzerApp.dto.QuestionResultDTO("
+            + "q.id, q.content, COALESCE(s.correctCount, 0), COALESCE(s.wrongCount, 0)) "
+            + "FROM Question q LEFT JOIN QuestionAnswerStats s ON s.questionId = q.id "
+            + "WHERE q.quiz.id = :quizId ORDER BY q.id")
+    List<QuestionResultDTO> findResultsByQuizId(@Param("quizId") Long quizId);
+
+    /**
+     * Atomically adds to the counts of a question.
+     *
+     * @param questionId The ID of the question
+     * @param correct    The number of correct answers to add
+     * @param wrong      The number of wrong answers to add
+     * @return Number of updated rows; 0 if the question has no counts row yet
+     */
+    @Modifying
+    @Query("UPDATE QuestionAnswerStats s SET s.correctCount = s.correctCount + :correct, "
+            + "s.wrongCount = s.wrongCount + :wrong WHERE s.questionId = :questionId")
+    int applyDelta(@Param("questionId") Long questionId, @Param("correct") long correct,
+            @Param("wrong") long wrong);
+
+    /**
+     * Creates the counts row of a question, unless the question was deleted.
+     * The query space keeps Hibernate from evicting the second-level cache.
+     *
+     * @param questionId The ID of the question
+     * @param correct    The initial number of correct answers
+     * @param wrong      The initial number of wrong answers
+     * @return 1 if the row was created, 0 if the question does not exist
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "question_answer_stats"))
+    @Query(value = "INSERT INTO question_answer_stats (question_id, correct_count, wrong_count) "
+            + "SELECT q.id, :correct, :wrong FROM question q WHERE q.id = :questionId", nativeQuery = true)
+    int insertIfQuestionExists(@Param("questionId") Long questionId, @Param("correct") long correct,
+            @Param("wrong") long wrong);
+}
@@ -1,9 +1,19 @@
 package com.example.quizzerApp.repository;
 
+import com.example.quizzerApp.dto.QuizExportRowDTO;
+import com.example.quizzerApp.model.CacheRegions;
 import com.example.quizzerApp.model.Question;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Question data access operations.
@@ -12,13 +22,54 @@ import java.util.List;
 public interface QuestionRepository extends JpaRepository<Question, Long> {
 
     /**
-     * Finds all questions belonging to a specific quiz.
+     * Versions that identify the representation of a question, which embeds
+     * its quiz and the quiz's category.
+     */
+    interface QuestionVersions {
+        long getQuestionVersion();
+
+        Long getQuizVersion();
+
+        Long getCategoryVersion();
+    }
+
+    /**
+     * Finds all questions belonging to a specific quiz, with their answer
+     * options fetched in the same query. Used by the student quiz view and the
+     * admin question lists.
+     * The result is kept in the query cache until a question is written.
      * 
      * @param quizId The ID of the quiz to retrieve questions for
      * @return List of questions associated with the specified quiz
      */
+    @EntityGraph(attributePaths = "answers")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUIZ_QUESTIONS_QUERY) })
     List<Question> findByQuizId(Long quizId);
 
+    /**
+     * Finds all questions of a quiz with their answer options, always from
+     * the database rather than from the query or second-level cache. Used
+     * for content that is cached under the versions read from the database.
+     *
+     * @param quizId The ID of the quiz to retrieve questions for
+     * @return List of questions associated with the specified quiz
+     */
+    @EntityGraph(attributePaths = "answers")
+    List<Question> findWithAnswersByQuizId(Long quizId);
+
+    /**
+     * Finds a question with its quiz, the quiz's category and its answer
+     * options in a single query, for the admin edit views that render all of
+     * them.
+     *
+     * @param id The ID of the question
+     * @return The question, if it exists
+     */
+    @EntityGraph(attributePaths = { "quiz", "quiz.category", "answers" })
+    Optional<Question> findWithQuizAndAnswersById(Long id);
+
     /**
      * Counts the number of questions belonging to a specific quiz.
      * 
@@ -26,4 +77,41 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
      * @return The number of questions associated with the specified quiz
      */
     int countByQuizId(Long quizId);
-}
\ No newline at end of file
+
+    /**
+     * Reads the answer key rows of a quiz: one row per answer option, or a
+     * single row with null option columns for a question without options.
+     * Each row is {questionId, optionId, correct}, ordered by question and
+     * option ID.
+     * 
+     * @param quizId The ID of the quiz
+     * @return The answer key rows of the quiz
+     */
+    @Query("SELECT q.id, o.id, o.isCorrect FROM Question q LEFT JOIN q.answers o "
+            + "WHERE q.quiz.id = :quizId ORDER BY q.id, o.id")
+    List<Object[]> findAnswerKeyRowsByQuizId(@Param("quizId") Long quizId);
+
+    /**
+     * Streams the questions and answer options of a quiz for export, ordered
+     * by question and option ID, from a forward-only cursor.
+     * Must be called in a transaction and the stream must be closed.
+     *
+     * @param quizId The ID of the quiz
+     * @return One row per answer option, or per question without options
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.example.quizzerApp.dto.QuizExportRowDTO(q.id, q.content, q.difficulty, o.text, o.isCorrect) "
+            + "FROM Question q LEFT JOIN q.answers o WHERE q.quiz.id = :quizId ORDER BY q.id, o.id")
+    Stream<QuizExportRowDTO> streamExportByQuizId(@Param("quizId") Long quizId);
+
+    /**
+     * Reads the versions of a question, its quiz and the quiz's category
+     * without loading any of them.
+     *
+     * @param id The ID of the question
+     * @return The versions, if the question exists
+     */
+    @Query("SELECT qs.version AS questionVersion, q.version AS quizVersion, c.version AS categoryVersion "
+            + "FROM Question qs LEFT JOIN qs.quiz q LEFT JOIN q.category c WHERE qs.id = :id")
+    Optional<QuestionVersions> findVersionsById(@Param("id") Long id);
+}
@@ -0,0 +1,50 @@
+package com.example.quizzerApp.repository;
+
+import com.example.quizzerApp.model.QuizAttempt;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository interface for QuizAttempt data access operations.
+ * Every listing reads the newest attempts first from one of the
+ * (user_id, quiz_id, submitted_at, id) and (quiz_id, submitted_at, id) indexes.
+ */
+public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Long> {
+
+    /**
+     * Finds the newest attempts of a user across all quizzes.
+     *
+     * @param userId The ID of the user
+     * @param limit  The maximum number of attempts
+     * @return The attempts, newest first
+     */
+    List<QuizAttempt> findByUserIdOrderBySubmittedAtDescIdDesc(String userId, Limit limit);
+
+    /**
+     * Finds the newest attempts of a user at one quiz.
+     * Compares the quiz_id column directly: the derived query joined quiz
+     * and was planned on the quiz index with a filter on the user.
+     *
+     * @param userId The ID of the user
+     * @param quizId The ID of the quiz
+     * @param limit  The maximum number of attempts
+     * @return The attempts, newest first
+     */
+    @Query("SELECT a FROM QuizAttempt a WHERE a.userId = :userId AND a.quiz.id = :quizId "
+            + "ORDER BY a.submittedAt DESC, a.id DESC")
+    List<QuizAttempt> findByUserIdAndQuizIdOrderBySubmittedAtDescIdDesc(@Param("userId") String userId,
+            @Param("quizId") Long quizId, Limit limit);
+
+    /**
+     * Finds the newest attempts at a quiz by all users.
+     *
+     * @param quizId The ID of the quiz
+     * @param limit  The maximum number of attempts
+     * @return The attempts, newest first
+     */
+    List<QuizAttempt> findByQuizIdOrderBySubmittedAtDescIdDesc(Long quizId, Limit limit);
+}
@@ -1,9 +1,21 @@
 package com.example.quizzerApp.repository;
 
+import com.example.quizzerApp.dto.QuizDTO;
+import com.example.quizzerApp.model.CacheRegions;
 import com.example.quizzerApp.model.Quiz;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Quiz data access operations.
@@ -11,28 +23,133 @@ import java.util.List;
  */
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
 
+    /**
+     * Select clause shared by the catalog projections.
+     * Questions are joined and counted per quiz; review aggregates come from
+     * the materialised per-quiz statistics row.
+     */
+    String CATALOG_SELECT = "SELECT new com.example.quizzerApp.dto.QuizDTO("
+            + "q.id, q.name, q.description, q.courseCode, q.published, q.dateAdded, c.id, c.name, "
+            + "COUNT(qs.id), "
+            + "COALESCE(rs.reviewCount, 0), "
+            + "CASE WHEN rs.reviewCount > 0 THEN rs.ratingSum * 1.0 / rs.reviewCount END) "
+            + "FROM Quiz q LEFT JOIN q.category c LEFT JOIN Question qs ON qs.quiz.id = q.id "
+            + "LEFT JOIN QuizReviewStats rs ON rs.quizId = q.id ";
+
+    /**
+     * Group by clause shared by the catalog projections.
+     */
+    String CATALOG_GROUP_BY = "GROUP BY q.id, q.name, q.description, q.courseCode, q.published, "
+            + "q.dateAdded, c.id, c.name, rs.reviewCount, rs.ratingSum ORDER BY q.id";
+
+    /**
+     * Versions that identify the representation of a quiz.
+     */
+    interface QuizVersions {
+        long getQuizVersion();
+
+        Long getCategoryVersion();
+
+        boolean getPublished();
+    }
+
     /**
      * Finds all quizzes that are marked as published.
      * Published quizzes are available for users to take.
-     * 
+     * The result is kept in the query cache until a quiz is written.
+     *
      * @return List of published quizzes
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PUBLISHED_QUIZZES_QUERY) })
     List<Quiz> findByPublishedTrue();
 
+    /**
+     * Finds a quiz with its category in a single query, for the admin views
+     * that render the category with the quiz's questions.
+     *
+     * @param id ID of the quiz
+     * @return The quiz, if it exists
+     */
+    @EntityGraph(attributePaths = "category")
+    Optional<Quiz> findWithCategoryById(Long id);
+
     /**
      * Finds all quizzes by category ID.
-     * 
+     *
      * @param categoryId ID of the category
      * @return List of quizzes in the specified category
      */
     List<Quiz> findByCategoryId(Long categoryId);
 
     /**
-     * Finds all published quizzes by category ID.
-     * Published quizzes are available for users to take.
-     * 
+     * Reads the whole quiz catalog as DTO rows in a single grouped query,
+     * including question count, category name and review aggregates.
+     *
+     * @return List of catalog rows for every quiz
+     */
+    @Query(CATALOG_SELECT + CATALOG_GROUP_BY)
+    List<QuizDTO> findCatalog();
+
+    /**
+     * Reads the published part of the quiz catalog as DTO rows in a single
+     * grouped query.
+     *
+     * @return List of catalog rows for every published quiz
+     */
+    @Query(CATALOG_SELECT + "WHERE q.published = true " + CATALOG_GROUP_BY)
+    List<QuizDTO> findPublishedCatalog();
+
+    /**
+     * Reads the catalog rows of a category's quizzes in a single grouped query.
+     *
      * @param categoryId ID of the category
-     * @return List of published quizzes in the specified category
+     * @return List of catalog rows for every quiz in the category
+     */
+    @Query(CATALOG_SELECT + "WHERE c.id = :categoryId " + CATALOG_GROUP_BY)
+    List<QuizDTO> findCatalogByCategoryId(@Param("categoryId") Long categoryId);
+
+    /**
+     * Reads the catalog rows of a category's published quizzes in a single
+     * grouped query.
+     *
+     * @param categoryId ID of the category
+     * @return List of catalog rows for every published quiz in the category
+     */
+    @Query(CATALOG_SELECT + "WHERE c.id = :categoryId AND q.published = true " + CATALOG_GROUP_BY)
+    List<QuizDTO> findPublishedCatalogByCategoryId(@Param("categoryId") Long categoryId);
+
+    /**
+     * Finds a quiz and locks its row until the end of the transaction.
+     * Used to serialise the first write of a quiz's review statistics.
+     *
+     * @param id ID of the quiz
+     * @return The locked quiz, if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM Quiz q WHERE q.id = :id")
+    Optional<Quiz> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Reads the version of a quiz and of its category, and whether the quiz is
+     * published, without loading either.
+     * Quiz responses include the category name, so both identify a response.
+     *
+     * @param id ID of the quiz
+     * @return The versions, if the quiz exists
+     */
+    @Query("SELECT q.version AS quizVersion, c.version AS categoryVersion, q.published AS published "
+            + "FROM Quiz q LEFT JOIN q.category c WHERE q.id = :id")
+    Optional<QuizVersions> findVersionsById(@Param("id") Long id);
+
+    /**
+     * Reads which of the given IDs belong to existing quizzes, without
+     * loading them.
+     *
+     * @param ids IDs of quizzes
+     * @return The IDs of the quizzes that exist
      */
-    List<Quiz> findByCategoryIdAndPublishedTrue(Long categoryId);
-}
\ No newline at end of file
+    @Query("SELECT q.id FROM Quiz q WHERE q.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
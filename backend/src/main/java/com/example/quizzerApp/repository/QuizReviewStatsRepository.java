@@ -0,0 +1,38 @@
+package com.example.quizzerApp.repository;
+
+import com.example.quizzerApp.model.review.QuizReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository interface for the materialised per-quiz review statistics.
+ */
+public interface QuizReviewStatsRepository extends JpaRepository<QuizReviewStats, Long> {
+
+    /**
+     * Atomically applies a change to the statistics of a quiz.
+     * The update runs in the database, so concurrent reviews of the same quiz
+     * never overwrite each other's changes.
+     *
+     * @param quizId ID of the quiz
+     * @param count  Change in review count
+     * @param sum    Change in rating sum
+     * @param d1     Change in the number of 1-star reviews
+     * @param d2     Change in the number of 2-star reviews
+     * @param d3     Change in the number of 3-star reviews
+     * @param d4     Change in the number of 4-star reviews
+     * @param d5     Change in the number of 5-star reviews
+     * @return Number of updated rows; 0 if the quiz has no statistics row yet
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE QuizReviewStats s SET s.reviewCount = s.reviewCount + :count, "
+            + "s.ratingSum = s.ratingSum + :sum, "
+            + "s.rating1 = s.rating1 + :d1, s.rating2 = s.rating2 + :d2, s.rating3 = s.rating3 + :d3, "
+            + "s.rating4 = s.rating4 + :d4, s.rating5 = s.rating5 + :d5 "
+            + "WHERE s.quizId = :quizId")
+    int applyDelta(@Param("quizId") Long quizId, @Param("count") long count, @Param("sum") long sum,
+            @Param("d1") long d1, @Param("d2") long d2, @Param("d3") long d3,
+            @Param("d4") long d4, @Param("d5") long d5);
+}
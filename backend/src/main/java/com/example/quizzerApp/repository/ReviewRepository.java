@@ -1,12 +1,65 @@
 package com.example.quizzerApp.repository;
 
 import com.example.quizzerApp.model.review.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByQuizId(Long quizId);
+
+    // Keyset pagination: the first page of each sort order is a plain ordered
+    // read, later pages seek past the last row of the previous page. Every sort
+    // scans one of the (quiz_id, created_at, id) and (quiz_id, rating,
+    // created_at, id) indexes in a single direction.
+
+    List<Review> findByQuizIdOrderByCreatedAtDescIdDesc(Long quizId, Limit limit);
+
+    List<Review> findByQuizIdOrderByCreatedAtAscIdAsc(Long quizId, Limit limit);
+
+    List<Review> findByQuizIdOrderByRatingDescCreatedAtDescIdDesc(Long quizId, Limit limit);
+
+    List<Review> findByQuizIdOrderByRatingAscCreatedAtAscIdAsc(Long quizId, Limit limit);
+
+    @Query("SELECT r FROM Review r WHERE r.quiz.id = :quizId "
+            + "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findNewestAfter(@Param("quizId") Long quizId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Limit limit);
+
+    @Query("SELECT r FROM Review r WHERE r.quiz.id = :quizId "
+            + "AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.id > :id)) "
+            + "ORDER BY r.createdAt ASC, r.id ASC")
+    List<Review> findOldestAfter(@Param("quizId") Long quizId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Limit limit);
+
+    @Query("SELECT r FROM Review r WHERE r.quiz.id = :quizId "
+            + "AND (r.rating < :rating OR (r.rating = :rating AND (r.createdAt < :createdAt "
+            + "OR (r.createdAt = :createdAt AND r.id < :id)))) "
+            + "ORDER BY r.rating DESC, r.createdAt DESC, r.id DESC")
+    List<Review> findHighestAfter(@Param("quizId") Long quizId, @Param("rating") int rating,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT r FROM Review r WHERE r.quiz.id = :quizId "
+            + "AND (r.rating > :rating OR (r.rating = :rating AND (r.createdAt > :createdAt "
+            + "OR (r.createdAt = :createdAt AND r.id > :id)))) "
+            + "ORDER BY r.rating ASC, r.createdAt ASC, r.id ASC")
+    List<Review> findLowestAfter(@Param("quizId") Long quizId, @Param("rating") int rating,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    /**
+     * Counts a quiz's reviews per rating.
+     * Used to (re)build the materialised review statistics.
+     *
+     * @param quizId ID of the quiz
+     * @return Rows of [rating, count]
+     */
+    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.quiz.id = :quizId GROUP BY r.rating")
+    List<Object[]> countByRating(@Param("quizId") Long quizId);
 }
@@ -0,0 +1,80 @@
+package com.example.quizzerApp.service.analytics;
+
+import com.example.quizzerApp.dto.OptionResultDTO;
+import com.example.quizzerApp.dto.QuestionResultDTO;
+import com.example.quizzerApp.repository.OptionAnswerStatsRepository;
+import com.example.quizzerApp.repository.QuestionAnswerStatsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads per-question and per-option answer results of a quiz.
+ *
+ * Results come from the rollup tables plus the counts the collector has not
+ * flushed yet, so they include every answer accepted so far while costing
+ * one query regardless of the number of answers.
+ */
+@Service
+public class AnswerAnalyticsService {
+
+    /**
+     * Repository for QuestionAnswerStats entity operations
+     */
+    @Autowired
+    private QuestionAnswerStatsRepository questionAnswerStatsRepository;
+
+    /**
+     * Repository for OptionAnswerStats entity operations
+     */
+    @Autowired
+    private OptionAnswerStatsRepository optionAnswerStatsRepository;
+
+    /**
+     * Collector of the counts that are not rolled up yet
+     */
+    @Autowired
+    private AnswerStatsCollector answerStatsCollector;
+
+    /**
+     * Retrieves the answer counts and correct rate of every question of a quiz.
+     *
+     * @param quizId The ID of the quiz
+     * @return One result per question, ordered by question ID
+     */
+    @Transactional(readOnly = true)
+    public List<QuestionResultDTO> getQuestionResults(Long quizId) {
+        List<QuestionResultDTO> results = questionAnswerStatsRepository.findResultsByQuizId(quizId);
+        for (QuestionResultDTO result : results) {
+            long[] pending = answerStatsCollector.pendingAnswers(result.getQuestionId());
+            if (pending != null) {
+                result.add(pending[0], pending[1]);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Retrieves the selection counts and rates of every answer option of a quiz.
+     *
+     * @param quizId The ID of the quiz
+     * @return One result per option, ordered by question and option ID
+     */
+    @Transactional(readOnly = true)
+    public List<OptionResultDTO> getOptionResults(Long quizId) {
+        List<OptionResultDTO> results = optionAnswerStatsRepository.findResultsByQuizId(quizId);
+        Map<Long, Long> answersPerQuestion = new HashMap<>();
+        for (OptionResultDTO result : results) {
+            result.add(answerStatsCollector.pendingSelections(result.getQuestionId(), result.getOptionId()));
+            answersPerQuestion.merge(result.getQuestionId(), result.getSelectedCount(), Long::sum);
+        }
+        for (OptionResultDTO result : results) {
+            result.setQuestionAnswerCount(answersPerQuestion.get(result.getQuestionId()));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.quizzerApp.service.analytics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects per-question and per-option answer counts in memory and
+ * periodically adds them to the rollup tables.
+ *
+ * Recording an answer only increments striped counters, so concurrent
+ * submissions of the same question do not contend on a lock or a database
+ * row. A single background thread flushes the collected deltas every
+ * {@code flush-interval-ms}; counts that fail to flush are kept for the next
+ * attempt. Counts not yet flushed are lost if the process dies without a
+ * graceful shutdown.
+ *
+ * Counters of a question are kept after a flush and only dropped once the
+ * question has been found deleted by several flushes in a row, so the map
+ * grows with the number of answered questions, not with the number of
+ * answers.
+ */
+@Component
+public class AnswerStatsCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnswerStatsCollector.class);
+
+    /**
+     * Number of consecutive flushes that must find a question missing before
+     * its counts are dropped. A single miss may be a question whose insert is
+     * not committed yet.
+     */
+    private static final int MISSED_FLUSHES_BEFORE_DROP = 3;
+
+    /**
+     * Writer for the rollup rows
+     */
+    @Autowired
+    private AnswerStatsWriter answerStatsWriter;
+
+    /**
+     * Registry for the flush metrics
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${quizzer.analytics.flush-interval-ms:5000}")
+    private long flushIntervalMillis;
+
+    private final ConcurrentHashMap<Long, QuestionCounters> counters = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    private Timer flushTimer;
+    private Counter failedCounter;
+
+    /**
+     * Counts of one question that have not been flushed yet.
+     */
+    private static class QuestionCounters {
+        final LongAdder correct = new LongAdder();
+        final LongAdder wrong = new LongAdder();
+        final ConcurrentHashMap<Long, LongAdder> selections = new ConcurrentHashMap<>();
+        /**
+         * Consecutive flushes that found the question missing; only read and
+         * written by the synchronized flush
+         */
+        int missedFlushes;
+    }
+
+    /**
+     * Registers the metrics and schedules the flush, unless the interval is 0.
+     */
+    @PostConstruct
+    public void start() {
+        Gauge.builder("quizzer.analytics.questions", counters, Map::size)
+                .description("Questions with answer counters in memory")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("quizzer.analytics.flush")
+                .description("Latency of one flush of the answer counters")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("quizzer.analytics.flush.failed")
+                .description("Questions whose counts could not be flushed")
+                .register(meterRegistry);
+
+        if (flushIntervalMillis > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "answer-stats-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Counts one answer.
+     *
+     * @param questionId The ID of the answered question
+     * @param optionId   The ID of the selected answer option
+     * @param correct    Whether the answer was correct
+     */
+    public void record(long questionId, long optionId, boolean correct) {
+        QuestionCounters question = counters.computeIfAbsent(questionId, id -> new QuestionCounters());
+        (correct ? question.correct : question.wrong).increment();
+        question.selections.computeIfAbsent(optionId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Retrieves the answers to a question that have not been flushed yet.
+     *
+     * @param questionId The ID of the question
+     * @return The correct and wrong answer counts, or null if there are none
+     */
+    public long[] pendingAnswers(long questionId) {
+        QuestionCounters question = counters.get(questionId);
+        return question != null ? new long[] { question.correct.sum(), question.wrong.sum() } : null;
+    }
+
+    /**
+     * Retrieves the selections of an answer option that have not been flushed yet.
+     *
+     * @param questionId The ID of the question the option belongs to
+     * @param optionId   The ID of the answer option
+     * @return The number of selections
+     */
+    public long pendingSelections(long questionId, long optionId) {
+        QuestionCounters question = counters.get(questionId);
+        if (question == null) {
+            return 0;
+        }
+        LongAdder selections = question.selections.get(optionId);
+        return selections != null ? selections.sum() : 0;
+    }
+
+    /**
+     * Adds the collected counts to the rollup tables.
+     * Answers recorded while a question is being flushed stay in memory for
+     * the next flush. Synchronized so that shutdown and the scheduled flush
+     * do not write the same deltas twice.
+     */
+    public synchronized void flush() {
+        flushTimer.record(() -> counters.forEach(this::flush));
+    }
+
+    private void flush(Long questionId, QuestionCounters question) {
+        long correct = question.correct.sumThenReset();
+        long wrong = question.wrong.sumThenReset();
+        Map<Long, Long> selections = new HashMap<>();
+        question.selections.forEach((optionId, count) -> {
+            long delta = count.sumThenReset();
+            if (delta != 0) {
+                selections.put(optionId, delta);
+            }
+        });
+        if (correct == 0 && wrong == 0 && selections.isEmpty()) {
+            return;
+        }
+        try {
+            if (answerStatsWriter.apply(questionId, correct, wrong, selections)) {
+                question.missedFlushes = 0;
+            } else if (++question.missedFlushes < MISSED_FLUSHES_BEFORE_DROP) {
+                restore(question, correct, wrong, selections);
+            } else {
+                // The question was deleted; its counts have nowhere to go
+                counters.remove(questionId, question);
+                logger.debug("Dropped answer counts of deleted question {}", questionId);
+            }
+        } catch (RuntimeException e) {
+            restore(question, correct, wrong, selections);
+            failedCounter.increment();
+            logger.warn("Failed to flush answer counts of question {}, keeping them for the next flush",
+                    questionId, e);
+        }
+    }
+
+    private void restore(QuestionCounters question, long correct, long wrong, Map<Long, Long> selections) {
+        question.correct.add(correct);
+        question.wrong.add(wrong);
+        selections.forEach((optionId, delta) ->
+                question.selections.computeIfAbsent(optionId, id -> new LongAdder()).add(delta));
+    }
+
+    /**
+     * Stops the scheduled flush and writes the remaining counts.
+     */
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(flushIntervalMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to flush answer counts on shutdown", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.quizzerApp.service.analytics;
+
+import com.example.quizzerApp.repository.OptionAnswerStatsRepository;
+import com.example.quizzerApp.repository.QuestionAnswerStatsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * Adds the answer counts collected for one question to its rollup rows.
+ * Each call is one short transaction of single-row updates, so a flush never
+ * holds locks on more than one question at a time.
+ */
+@Component
+public class AnswerStatsWriter {
+
+    /**
+     * Repository for QuestionAnswerStats entity operations
+     */
+    @Autowired
+    private QuestionAnswerStatsRepository questionAnswerStatsRepository;
+
+    /**
+     * Repository for OptionAnswerStats entity operations
+     */
+    @Autowired
+    private OptionAnswerStatsRepository optionAnswerStatsRepository;
+
+    /**
+     * Adds counts to the rollup rows of a question and its options, creating
+     * rows that do not exist yet.
+     *
+     * @param questionId The ID of the question
+     * @param correct    The number of correct answers to add
+     * @param wrong      The number of wrong answers to add
+     * @param selections The number of selections to add, by answer option ID
+     * @return false if the question no longer exists and nothing was written
+     */
+    @Transactional
+    public boolean apply(long questionId, long correct, long wrong, Map<Long, Long> selections) {
+        // The inserts read question and answer_option outside their query
+        // spaces, so Hibernate would not write pending rows of those tables first
+        questionAnswerStatsRepository.flush();
+        if (questionAnswerStatsRepository.applyDelta(questionId, correct, wrong) == 0
+                && questionAnswerStatsRepository.insertIfQuestionExists(questionId, correct, wrong) == 0) {
+            return false;
+        }
+        for (Map.Entry<Long, Long> selection : selections.entrySet()) {
+            // Options deleted since the answer was counted are skipped
+            if (optionAnswerStatsRepository.applyDelta(selection.getKey(), selection.getValue()) == 0) {
+                optionAnswerStatsRepository.insertIfOptionExists(selection.getKey(), selection.getValue());
+            }
+        }
+        return true;
+    }
+}
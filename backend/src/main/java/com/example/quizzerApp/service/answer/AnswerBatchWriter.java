@@ -0,0 +1,49 @@
+package com.example.quizzerApp.service.answer;
+
+import com.example.quizzerApp.model.Answer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Persists already-validated answers as JDBC batches, so that a whole attempt
+ * is written in a few round trips instead of one insert per answer.
+ * Answer ids come from a pooled sequence, which lets Hibernate group the
+ * inserts according to {@code hibernate.jdbc.batch_size}.
+ */
+@Component
+public class AnswerBatchWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Number of answers persisted between flushes; matches the configured
+     * JDBC batch size
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    /**
+     * Inserts the given answers in JDBC batches.
+     *
+     * @param answers The answers to insert; question and selected option must be set
+     */
+    @Transactional
+    public void insertAll(List<Answer> answers) {
+        if (answers.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < answers.size(); i++) {
+            entityManager.persist(answers.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+            }
+        }
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.quizzerApp.service.answer;
+
+/**
+ * Formats quiz answers can be exported in.
+ */
+public enum AnswerExportFormat {
+
+    /** One JSON object per line */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** Comma-separated values with a header row, as in RFC 4180 */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    AnswerExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * Resolves a format from a request parameter.
+     *
+     * @param value The parameter value, case-insensitive
+     * @return The format
+     * @throws IllegalArgumentException if the value is not a known format
+     */
+    public static AnswerExportFormat fromParameter(String value) {
+        for (AnswerExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown format '" + value + "', expected ndjson or csv");
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.quizzerApp.service.answer;
+
+import com.example.quizzerApp.dto.AnswerExportDTO;
+import com.example.quizzerApp.repository.AnswerRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the answers of a quiz to an output stream as they are read from the
+ * database.
+ * Rows come from a forward-only cursor and are encoded one at a time into a
+ * fixed-size buffer, so memory use does not depend on the number of answers.
+ */
+@Component
+public class AnswerExporter {
+
+    private static final String CSV_HEADER =
+            "id,userId,questionId,questionContent,selectedOptionId,selectedOptionText,correct,submittedAt";
+
+    /**
+     * Repository for Answer entity operations
+     */
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    /**
+     * Mapper for the NDJSON rows
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Exports the answers of a quiz.
+     * The transaction keeps the connection, and with it the cursor, open
+     * while the rows are written.
+     *
+     * @param quizId The ID of the quiz
+     * @param format The format to write
+     * @param out    The stream to write to; flushed but not closed
+     * @return The number of exported answers
+     * @throws IOException if the rows cannot be written
+     */
+    @Transactional(readOnly = true)
+    public long export(Long quizId, AnswerExportFormat format, OutputStream out) throws IOException {
+        try (Stream<AnswerExportDTO> rows = answerRepository.streamExportByQuizId(quizId)) {
+            return format == AnswerExportFormat.CSV
+                    ? writeCsv(rows.iterator(), out)
+                    : writeNdjson(rows.iterator(), out);
+        }
+    }
+
+    private long writeNdjson(Iterator<AnswerExportDTO> rows, OutputStream out) throws IOException {
+        ObjectWriter rowWriter = objectMapper.writerFor(AnswerExportDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (rows.hasNext()) {
+                rowWriter.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<AnswerExportDTO> rows, OutputStream out) throws IOException {
+        // Not closed, so that the caller's stream stays open
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        long count = 0;
+        while (rows.hasNext()) {
+            AnswerExportDTO row = rows.next();
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            writeCsvField(writer, row.getUserId());
+            writer.write(',');
+            writer.write(String.valueOf(row.getQuestionId()));
+            writer.write(',');
+            writeCsvField(writer, row.getQuestionContent());
+            writer.write(',');
+            writer.write(String.valueOf(row.getSelectedOptionId()));
+            writer.write(',');
+            writeCsvField(writer, row.getSelectedOptionText());
+            writer.write(',');
+            writer.write(String.valueOf(row.isCorrect()));
+            writer.write(',');
+            writeCsvField(writer, row.getSubmittedAt() != null ? row.getSubmittedAt().toString() : null);
+            writer.write("\r\n");
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Writes a text field, quoted if it contains a separator, quote or line break.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.quizzerApp.service.answer;
+
+import com.example.quizzerApp.dto.KeysetCursor;
+import com.example.quizzerApp.model.Answer;
+import com.example.quizzerApp.repository.AnswerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Reads answer histories of quizzes, users and questions using keyset
+ * pagination, in submission order.
+ * Each page seeks past the last row of the previous one on an index ending
+ * in (submitted_at, id), so reading a deep page costs the same as reading
+ * the first and no request ever loads a whole history.
+ */
+@Service
+public class AnswerHistoryService {
+
+    /**
+     * Sort order recorded in the cursors, so that cursors of other listings
+     * are rejected
+     */
+    private static final String SORT = "SUBMITTED";
+
+    /**
+     * Repository for Answer entity operations
+     */
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    /**
+     * Reads one page of the answers to a quiz, optionally of a single user.
+     *
+     * @param quizId The ID of the quiz
+     * @param userId The ID of the user, or null for all users
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size   The maximum number of answers on the page
+     * @return The page of answers
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public AnswerPage listByQuiz(Long quizId, String userId, String cursor, int size) {
+        // Read one extra row to find out whether there is a next page
+        Limit limit = Limit.of(size + 1);
+        KeysetCursor after = decode(cursor);
+        List<Answer> answers;
+        if (userId != null && !userId.isEmpty()) {
+            answers = after == null
+                    ? answerRepository.findByUserIdAndQuizIdOrderBySubmittedAtAscIdAsc(userId, quizId, limit)
+                    : answerRepository.findByUserIdAndQuizIdAfter(userId, quizId, after.getTimestamp(),
+                            after.getId(), limit);
+        } else {
+            answers = after == null
+                    ? answerRepository.findByQuizIdOrderBySubmittedAtAscIdAsc(quizId, limit)
+                    : answerRepository.findByQuizIdAfter(quizId, after.getTimestamp(), after.getId(), limit);
+        }
+        return toPage(answers, size);
+    }
+
+    /**
+     * Reads one page of the answers of a user across all quizzes.
+     *
+     * @param userId The ID of the user
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size   The maximum number of answers on the page
+     * @return The page of answers
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public AnswerPage listByUser(String userId, String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        KeysetCursor after = decode(cursor);
+        List<Answer> answers = after == null
+                ? answerRepository.findByUserIdOrderBySubmittedAtAscIdAsc(userId, limit)
+                : answerRepository.findByUserIdAfter(userId, after.getTimestamp(), after.getId(), limit);
+        return toPage(answers, size);
+    }
+
+    /**
+     * Reads one page of the answers to a question.
+     *
+     * @param questionId The ID of the question
+     * @param cursor     The cursor returned with the previous page, or null for the first page
+     * @param size       The maximum number of answers on the page
+     * @return The page of answers
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public AnswerPage listByQuestion(Long questionId, String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        KeysetCursor after = decode(cursor);
+        List<Answer> answers = after == null
+                ? answerRepository.findByQuestionIdOrderBySubmittedAtAscIdAsc(questionId, limit)
+                : answerRepository.findByQuestionIdAfter(questionId, after.getTimestamp(), after.getId(), limit);
+        return toPage(answers, size);
+    }
+
+    private KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        return KeysetCursor.decode(cursor, SORT);
+    }
+
+    private AnswerPage toPage(List<Answer> answers, int size) {
+        if (answers.size() <= size) {
+            return new AnswerPage(answers, null);
+        }
+        List<Answer> page = answers.subList(0, size);
+        Answer last = page.get(size - 1);
+        return new AnswerPage(page, new KeysetCursor(SORT, last.getSubmittedAt(), last.getId(), null).encode());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.quizzerApp.service.answer;
+
+import com.example.quizzerApp.model.Answer;
+
+import java.util.List;
+
+/**
+ * One page of an answer history, with the cursor for the following page.
+ */
+public class AnswerPage {
+
+    private final List<Answer> answers;
+    private final String nextCursor;
+
+    /**
+     * Creates a page.
+     *
+     * @param answers    The answers on this page
+     * @param nextCursor Cursor for the next page, or null if this is the last page
+     */
+    public AnswerPage(List<Answer> answers, String nextCursor) {
+        this.answers = answers;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+
+    public List<Answer> getAnswers() {
+        return answers;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.quizzerApp.service.answer;
+
+import com.example.quizzerApp.model.Answer;
+import com.example.quizzerApp.service.analytics.AnswerStatsCollector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.support.SQLExceptionSubclassTranslator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind log for submitted answers.
+ * Validated answers are appended to a bounded in-memory queue and the request
+ * returns immediately; a single background thread drains the queue and
+ * writes the answers in group commits of up to {@code batch-size} rows, or
+ * whatever arrived within {@code max-delay-ms} of the first queued row.
+ *
+ * While the database is unreachable or the commit fails for another
+ * transient reason, the writer retries the same batch with exponential
+ * backoff; the queue fills up meanwhile and new submissions are turned away
+ * with a 503. Only rows the database rejects are dropped. Answers are counted
+ * in the per-question statistics once they are written.
+ *
+ * Answers still in the queue are lost if the process dies without a
+ * graceful shutdown, which is why this mode is opt-in through
+ * {@code quizzer.answers.write-behind.enabled}.
+ */
+@Component
+@ConditionalOnProperty(name = "quizzer.answers.write-behind.enabled", havingValue = "true")
+public class AnswerWriteBehindLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnswerWriteBehindLog.class);
+
+    /**
+     * Writer used for the group commits
+     */
+    @Autowired
+    private AnswerBatchWriter answerBatchWriter;
+
+    /**
+     * Collector for per-question answer counts of written answers
+     */
+    @Autowired
+    private AnswerStatsCollector answerStatsCollector;
+
+    /**
+     * Registry for the queue depth and commit latency metrics
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${quizzer.answers.write-behind.capacity:10000}")
+    private int capacity;
+
+    @Value("${quizzer.answers.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${quizzer.answers.write-behind.max-delay-ms:50}")
+    private long maxDelayMillis;
+
+    @Value("${quizzer.answers.write-behind.offer-timeout-ms:0}")
+    private long offerTimeoutMillis;
+
+    @Value("${quizzer.answers.write-behind.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMillis;
+
+    @Value("${quizzer.answers.write-behind.retry-initial-backoff-ms:100}")
+    private long initialBackoffMillis;
+
+    @Value("${quizzer.answers.write-behind.retry-max-backoff-ms:5000}")
+    private long maxBackoffMillis;
+
+    private final SQLExceptionSubclassTranslator sqlExceptionTranslator = new SQLExceptionSubclassTranslator();
+
+    private BlockingQueue<Answer> queue;
+    private Thread writerThread;
+    private volatile boolean accepting;
+
+    /**
+     * Held shared while an answer is checked and queued, and exclusively
+     * while intake is closed, so that no answer is queued once the writer
+     * may have seen the queue empty and exited.
+     */
+    private final ReadWriteLock intakeLock = new ReentrantReadWriteLock();
+
+    private Timer commitTimer;
+    private Counter rejectedCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+
+    /**
+     * Creates the queue, registers the metrics and starts the writer thread.
+     */
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder("quizzer.answers.write_behind.queue.depth", queue, BlockingQueue::size)
+                .description("Answers waiting to be written")
+                .register(meterRegistry);
+        commitTimer = Timer.builder("quizzer.answers.write_behind.commit")
+                .description("Latency of one group commit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("quizzer.answers.write_behind.rejected")
+                .description("Answers rejected because the queue was full")
+                .register(meterRegistry);
+        retriedCounter = Counter.builder("quizzer.answers.write_behind.retried")
+                .description("Group commits retried after a transient failure")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("quizzer.answers.write_behind.failed")
+                .description("Answers that could not be written")
+                .register(meterRegistry);
+
+        accepting = true;
+        writerThread = new Thread(this::run, "answer-write-behind");
+        writerThread.start();
+    }
+
+    /**
+     * Appends a validated answer to the log.
+     * Waits up to {@code offer-timeout-ms} for space when the queue is full.
+     *
+     * @param answer The answer to write; question and selected option must be set
+     * @return true if the answer was queued, false if the caller should retry later
+     */
+    public boolean append(Answer answer) {
+        boolean queued;
+        intakeLock.readLock().lock();
+        try {
+            queued = accepting && queue.offer(answer, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        } finally {
+            intakeLock.readLock().unlock();
+        }
+        if (!queued) {
+            rejectedCounter.increment();
+        }
+        return queued;
+    }
+
+    /**
+     * Retrieves the number of answers waiting to be written.
+     *
+     * @return The queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Stops accepting answers and waits for the writer to drain the queue.
+     */
+    @PreDestroy
+    public void stop() {
+        // Waits for appends in progress, which the writer will then still drain
+        intakeLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            intakeLock.writeLock().unlock();
+        }
+        try {
+            writerThread.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            logger.warn("Write-behind writer did not drain within {} ms, {} answers left unwritten",
+                    shutdownTimeoutMillis, queue.size());
+            writerThread.interrupt();
+        }
+    }
+
+    private void run() {
+        List<Answer> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for the first answer, then gathers more until the batch is full
+     * or the group commit delay has passed.
+     */
+    private void collect(List<Answer> batch) throws InterruptedException {
+        Answer first = queue.poll(maxDelayMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !accepting) {
+                return;
+            }
+            Answer next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<Answer> batch) {
+        try {
+            insertWithRetry(batch);
+            written(batch);
+            return;
+        } catch (InterruptedException e) {
+            lost(batch.size(), e);
+            return;
+        } catch (RuntimeException e) {
+            // Isolate the offending rows so one bad answer does not lose the whole batch
+            logger.warn("Group commit of {} answers failed, retrying row by row", batch.size(), e);
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Answer answer = batch.get(i);
+            try {
+                insertWithRetry(List.of(answer));
+                written(List.of(answer));
+            } catch (InterruptedException e) {
+                lost(batch.size() - i, e);
+                return;
+            } catch (RuntimeException rowFailure) {
+                failedCounter.increment();
+                logger.error("Dropping answer of user {} to question {}", answer.getUserId(),
+                        answer.getQuestion().getId(), rowFailure);
+            }
+        }
+    }
+
+    /**
+     * Inserts the answers, retrying with exponential backoff as long as the
+     * failure is transient.
+     *
+     * @throws RuntimeException     if the database rejects the answers
+     * @throws InterruptedException if the writer is stopped while waiting to retry
+     */
+    private void insertWithRetry(List<Answer> answers) throws InterruptedException {
+        long backoffMillis = initialBackoffMillis;
+        while (true) {
+            try {
+                commitTimer.record(() -> answerBatchWriter.insertAll(answers));
+                return;
+            } catch (RuntimeException e) {
+                // The rolled back insert has assigned ids that must not be reused
+                answers.forEach(answer -> answer.setId(null));
+                if (!isTransient(e)) {
+                    throw e;
+                }
+                retriedCounter.increment();
+                logger.warn("Commit of {} answers failed transiently, retrying in {} ms", answers.size(),
+                        backoffMillis, e);
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+            }
+        }
+    }
+
+    /**
+     * Tells whether a failed commit may succeed when retried unchanged, such
+     * as when the database is unreachable, the pool is exhausted or the
+     * transaction lost a deadlock.
+     */
+    private boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CannotCreateTransactionException) {
+                return true;
+            }
+            DataAccessException translated = null;
+            if (cause instanceof DataAccessException dataAccessException) {
+                translated = dataAccessException;
+            } else if (cause instanceof SQLException sqlException) {
+                translated = sqlExceptionTranslator.translate("write-behind commit", null, sqlException);
+            }
+            if (translated != null) {
+                return translated instanceof TransientDataAccessException
+                        || translated instanceof RecoverableDataAccessException
+                        || translated instanceof DataAccessResourceFailureException;
+            }
+        }
+        return false;
+    }
+
+    private void written(List<Answer> answers) {
+        for (Answer answer : answers) {
+            answerStatsCollector.record(answer.getQuestion().getId(), answer.getSelectedOption().getId(),
+                    answer.isCorrect());
+        }
+    }
+
+    /**
+     * Gives up on answers whose retries were interrupted by a shutdown that
+     * ran out of time, and keeps the interrupt so the writer exits.
+     */
+    private void lost(int count, InterruptedException cause) {
+        Thread.currentThread().interrupt();
+        failedCounter.increment(count);
+        logger.error("Writer stopped while retrying, {} answers left unwritten", count, cause);
+    }
+}
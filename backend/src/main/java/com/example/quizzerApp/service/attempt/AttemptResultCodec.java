@@ -0,0 +1,111 @@
+package com.example.quizzerApp.service.attempt;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Packs the per-question outcome of a quiz attempt into a byte array.
+ *
+ * Each answer is stored as one unsigned LEB128 varint: the zigzag-encoded
+ * difference between its question ID and the previous one, shifted left by
+ * one, with the correctness in the lowest bit. Question IDs are handed out in
+ * pooled blocks, so the questions of a quiz are close together and most
+ * answers take a single byte.
+ */
+public final class AttemptResultCodec {
+
+    private AttemptResultCodec() {
+    }
+
+    /**
+     * Encodes the outcomes of an attempt.
+     *
+     * @param questionIds Question ID of each answer, in submission order
+     * @param correct     Correctness of each answer, in submission order
+     * @return The packed outcomes
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public static byte[] encode(long[] questionIds, boolean[] correct) {
+        if (questionIds.length != correct.length) {
+            throw new IllegalArgumentException("Expected one outcome per question");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(questionIds.length + 8);
+        long previous = 0;
+        for (int i = 0; i < questionIds.length; i++) {
+            long delta = questionIds[i] - previous;
+            long zigzag = (delta << 1) ^ (delta >> 63);
+            // The shift drops the top bit of the zigzag value, which IDs never reach
+            long value = (zigzag << 1) | (correct[i] ? 1L : 0L);
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+            previous = questionIds[i];
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes the outcomes of an attempt.
+     *
+     * @param packed The packed outcomes
+     * @return The question IDs and their correctness, in submission order
+     * @throws IllegalArgumentException if the bytes end in the middle of a value
+     */
+    public static Outcomes decode(byte[] packed) {
+        int count = 0;
+        for (byte b : packed) {
+            if (b >= 0) {
+                count++;
+            }
+        }
+        long[] questionIds = new long[count];
+        boolean[] correct = new boolean[count];
+        long previous = 0;
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = packed[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            correct[i] = (value & 1L) == 1L;
+            long zigzag = value >>> 1;
+            previous += (zigzag >>> 1) ^ -(zigzag & 1L);
+            questionIds[i] = previous;
+        }
+        if (position != packed.length) {
+            throw new IllegalArgumentException("Truncated attempt results");
+        }
+        return new Outcomes(questionIds, correct);
+    }
+
+    /**
+     * Decoded outcomes of an attempt.
+     */
+    public static final class Outcomes {
+
+        private final long[] questionIds;
+        private final boolean[] correct;
+
+        private Outcomes(long[] questionIds, boolean[] correct) {
+            this.questionIds = questionIds;
+            this.correct = correct;
+        }
+
+        public int size() {
+            return questionIds.length;
+        }
+
+        public long questionId(int index) {
+            return questionIds[index];
+        }
+
+        public boolean isCorrect(int index) {
+            return correct[index];
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.quizzerApp.service.attempt;
+
+import com.example.quizzerApp.exception.ResourceNotFoundException;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.model.QuizAttempt;
+import com.example.quizzerApp.repository.QuizAttemptRepository;
+import com.example.quizzerApp.service.grading.GradingResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Records graded quiz submissions and reads them back.
+ *
+ * An attempt keeps the score and the outcome of every answer in one row, so
+ * a student's or a quiz's results are read with a single indexed lookup
+ * instead of being derived again from individual answers.
+ */
+@Service
+public class QuizAttemptService {
+
+    /**
+     * Repository for QuizAttempt entity operations
+     */
+    @Autowired
+    private QuizAttemptRepository quizAttemptRepository;
+
+    /**
+     * Records a graded submission.
+     *
+     * @param quiz      The graded quiz
+     * @param userId    The ID of the user who submitted it
+     * @param startedAt When the user started the quiz, or null if unknown
+     * @param result    The grading result
+     * @return The saved attempt
+     */
+    @Transactional
+    public QuizAttempt record(Quiz quiz, String userId, Instant startedAt, GradingResult result) {
+        QuizAttempt attempt = new QuizAttempt();
+        attempt.setUserId(userId);
+        attempt.setQuiz(quiz);
+        attempt.setScore(result.getScore());
+        attempt.setCorrectAnswers(result.getCorrectAnswers());
+        attempt.setTotalQuestions(result.getTotalQuestions());
+        attempt.setResults(AttemptResultCodec.encode(result.getAnsweredQuestionIds(), result.getAnsweredCorrectly()));
+        if (startedAt != null) {
+            LocalDateTime started = LocalDateTime.ofInstant(startedAt, ZoneId.systemDefault());
+            // Ignore start times the client's clock put after the submission
+            if (!started.isAfter(attempt.getSubmittedAt())) {
+                attempt.setStartedAt(started);
+            }
+        }
+        return quizAttemptRepository.save(attempt);
+    }
+
+    /**
+     * Retrieves an attempt.
+     *
+     * @param id The ID of the attempt
+     * @return The attempt
+     * @throws ResourceNotFoundException if no attempt exists with the given ID
+     */
+    @Transactional(readOnly = true)
+    public QuizAttempt getAttempt(Long id) {
+        return quizAttemptRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Attempt not found with id " + id));
+    }
+
+    /**
+     * Lists the newest attempts of a user.
+     *
+     * @param userId The ID of the user
+     * @param quizId The ID of a quiz to restrict the attempts to, or null for all quizzes
+     * @param size   The maximum number of attempts
+     * @return The attempts, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<QuizAttempt> listByUser(String userId, Long quizId, int size) {
+        if (quizId != null) {
+            return quizAttemptRepository.findByUserIdAndQuizIdOrderBySubmittedAtDescIdDesc(userId, quizId,
+                    Limit.of(size));
+        }
+        return quizAttemptRepository.findByUserIdOrderBySubmittedAtDescIdDesc(userId, Limit.of(size));
+    }
+
+    /**
+     * Lists the newest attempts at a quiz.
+     *
+     * @param quizId The ID of the quiz
+     * @param size   The maximum number of attempts
+     * @return The attempts, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<QuizAttempt> listByQuiz(Long quizId, int size) {
+        return quizAttemptRepository.findByQuizIdOrderBySubmittedAtDescIdDesc(quizId, Limit.of(size));
+    }
+}
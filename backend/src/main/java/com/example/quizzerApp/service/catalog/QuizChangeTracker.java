@@ -0,0 +1,154 @@
+package com.example.quizzerApp.service.catalog;
+
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.repository.CatalogVersionRepository;
+import com.example.quizzerApp.service.grading.AnswerKeyCache;
+import com.example.quizzerApp.service.review.ReviewService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Single place where writers report changes to quizzes, questions, answer
+ * options and categories.
+ *
+ * Every change increments the catalog version. Changes to a quiz's questions
+ * or options also increment the quiz's own version, because they do not touch
+ * the quiz row, and drop its compiled answer key. Every change to a quiz drops
+ * its cached detail payload. The versions back the entity tags of the read
+ * endpoints, so a writer that skips this tracker leaves clients with stale
+ * copies.
+ */
+@Service
+public class QuizChangeTracker {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Repository for the catalog-wide change counter
+     */
+    @Autowired
+    private CatalogVersionRepository catalogVersionRepository;
+
+    /**
+     * Cache of compiled answer keys used for grading
+     */
+    @Autowired
+    private AnswerKeyCache answerKeyCache;
+
+    /**
+     * Cache of encoded quiz detail responses
+     */
+    @Autowired
+    private QuizPayloadCache quizPayloadCache;
+
+    /**
+     * Service for reviews and their materialised statistics
+     */
+    @Autowired
+    private ReviewService reviewService;
+
+    /**
+     * Reads the current catalog version.
+     *
+     * @return The catalog version, 0 before the first change
+     */
+    @Transactional(readOnly = true)
+    public long currentCatalogVersion() {
+        return catalogVersionRepository.findCurrent().orElse(0L);
+    }
+
+    /**
+     * Records a change that is fully covered by the version of the saved rows,
+     * such as an update of a category row, or a new quiz or category.
+     */
+    @Transactional
+    public void catalogChanged() {
+        catalogVersionRepository.incrementOrCreate();
+    }
+
+    /**
+     * Records an update of a quiz row, whose version Hibernate has already
+     * incremented.
+     *
+     * @param quizId The ID of the quiz
+     */
+    @Transactional
+    public void quizChanged(Long quizId) {
+        quizPayloadCache.evict(quizId);
+        catalogVersionRepository.incrementOrCreate();
+    }
+
+    /**
+     * Records a change to the questions or answer options of a quiz.
+     * The quiz version is incremented unconditionally.
+     *
+     * @param quizId The ID of the quiz, or null for a question without a quiz
+     */
+    @Transactional
+    public void quizContentChanged(Long quizId) {
+        if (quizId != null) {
+            entityManager.createQuery("UPDATE Quiz q SET q.version = q.version + 1 WHERE q.id = :id")
+                    .setParameter("id", quizId)
+                    .executeUpdate();
+            invalidateAnswerKey(quizId);
+            quizPayloadCache.evict(quizId);
+        }
+        catalogVersionRepository.incrementOrCreate();
+    }
+
+    /**
+     * Records a change to the questions or answer options of a quiz that was
+     * loaded in the current transaction. The quiz version is incremented
+     * immediately and only if it still matches the loaded one, so that
+     * concurrent editors of the same quiz cannot overwrite each other.
+     *
+     * @param quiz The quiz, managed by the current persistence context
+     * @throws ObjectOptimisticLockingFailureException if the quiz changed since it was loaded
+     */
+    @Transactional
+    public void quizContentChanged(Quiz quiz) {
+        try {
+            entityManager.lock(quiz, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        } catch (OptimisticLockException e) {
+            throw new ObjectOptimisticLockingFailureException(Quiz.class, quiz.getId(), e);
+        }
+        invalidateAnswerKey(quiz.getId());
+        quizPayloadCache.evict(quiz.getId());
+        catalogVersionRepository.incrementOrCreate();
+    }
+
+    /**
+     * Records the deletion of a quiz and removes its derived state.
+     *
+     * @param quizId The ID of the deleted quiz
+     */
+    @Transactional
+    public void quizDeleted(Long quizId) {
+        reviewService.deleteStats(quizId);
+        invalidateAnswerKey(quizId);
+        quizPayloadCache.evict(quizId);
+        catalogVersionRepository.incrementOrCreate();
+    }
+
+    private void invalidateAnswerKey(Long quizId) {
+        answerKeyCache.invalidate(quizId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A grader may recompile the old key before this transaction commits
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    answerKeyCache.invalidate(quizId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.quizzerApp.service.catalog;
+
+import com.example.quizzerApp.exception.ResourceNotFoundException;
+import com.example.quizzerApp.model.Category;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.repository.CategoryRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Copies a quiz with its questions and answer options inside the database.
+ *
+ * The quiz row is saved through JPA; the questions and the options are each
+ * copied by a single INSERT ... SELECT, so the cost of a copy does not grow
+ * with round trips per question. Copied rows draw their IDs from the entity
+ * sequences. Each row takes a sequence value of its own, which leaves the
+ * rest of that value's block unused but can never collide with a block
+ * Hibernate has allocated.
+ *
+ * Copied options are attached to their copied question by position: the
+ * questions are copied in ID order and take ascending sequence values, so the
+ * n-th question of the copy is the copy of the n-th question of the original.
+ * PostgreSQL evaluates nextval() after the ORDER BY of the same query.
+ */
+@Service
+public class QuizCloner {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Repository for Quiz entity operations
+     */
+    @Autowired
+    private QuizRepository quizRepository;
+
+    /**
+     * Repository for Category entity operations
+     */
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    /**
+     * Tracker of catalog changes
+     */
+    @Autowired
+    private QuizChangeTracker quizChangeTracker;
+
+    private String copyQuestionsSql;
+
+    private String copyOptionsSql;
+
+    @PostConstruct
+    void prepareStatements() {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+        String nextQuestionId = dialect.getSequenceSupport().getSelectSequenceNextValString("question_seq");
+        String nextOptionId = dialect.getSequenceSupport().getSelectSequenceNextValString("answer_option_seq");
+        copyQuestionsSql = "INSERT INTO question (id, version, content, difficulty, quiz_id) "
+                + "SELECT " + nextQuestionId + ", 0, q.content, q.difficulty, :copyId "
+                + "FROM question q WHERE q.quiz_id = :sourceId ORDER BY q.id";
+        copyOptionsSql = "INSERT INTO answer_option (id, version, text, is_correct, question_id) "
+                + "SELECT " + nextOptionId + ", 0, o.text, o.is_correct, dst.id "
+                + "FROM answer_option o "
+                + "JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS pos "
+                + "FROM question WHERE quiz_id = :sourceId) src ON o.question_id = src.id "
+                + "JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS pos "
+                + "FROM question WHERE quiz_id = :copyId) dst ON dst.pos = src.pos "
+                + "ORDER BY o.id";
+    }
+
+    /**
+     * Copies a quiz with its questions and answer options. The copy is
+     * unpublished, so that it can be edited before students see it. Reviews,
+     * answers and statistics are not copied.
+     *
+     * @param quizId     The ID of the quiz to copy
+     * @param categoryId The ID of the category of the copy, or null to keep the quiz's category
+     * @param name       The name of the copy, or null to keep the quiz's name
+     * @return The result of the copy
+     * @throws ResourceNotFoundException if no quiz exists with the given ID
+     * @throws IllegalArgumentException  if no category exists with the given category ID
+     */
+    @Transactional
+    public QuizCopy cloneQuiz(Long quizId, Long categoryId, String name) {
+        Quiz source = quizRepository.findWithCategoryById(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id " + quizId));
+        Category category = source.getCategory();
+        if (categoryId != null) {
+            category = categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new IllegalArgumentException("Category not found with id " + categoryId));
+        }
+
+        Quiz copy = new Quiz();
+        copy.setName(name != null ? name : source.getName());
+        copy.setDescription(source.getDescription());
+        copy.setCourseCode(source.getCourseCode());
+        copy.setPublished(false);
+        copy.setDateAdded(LocalDateTime.now());
+        copy.setCategory(category);
+        // The copied rows reference the quiz row, so it is inserted first
+        copy = quizRepository.saveAndFlush(copy);
+
+        int questions = entityManager.createNativeQuery(copyQuestionsSql)
+                .setParameter("copyId", copy.getId())
+                .setParameter("sourceId", quizId)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "question")
+                .executeUpdate();
+        int options = questions == 0 ? 0 : entityManager.createNativeQuery(copyOptionsSql)
+                .setParameter("copyId", copy.getId())
+                .setParameter("sourceId", quizId)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "answer_option")
+                .executeUpdate();
+
+        // A new quiz, like one created through the API
+        quizChangeTracker.catalogChanged();
+        return new QuizCopy(copy, questions, options);
+    }
+
+    /**
+     * Result of a copy: the new quiz and the number of copied rows.
+     */
+    public static class QuizCopy {
+
+        private final Quiz quiz;
+        private final int questionCount;
+        private final int optionCount;
+
+        QuizCopy(Quiz quiz, int questionCount, int optionCount) {
+            this.quiz = quiz;
+            this.questionCount = questionCount;
+            this.optionCount = optionCount;
+        }
+
+        public Quiz getQuiz() {
+            return quiz;
+        }
+
+        public int getQuestionCount() {
+            return questionCount;
+        }
+
+        public int getOptionCount() {
+            return optionCount;
+        }
+    }
+}
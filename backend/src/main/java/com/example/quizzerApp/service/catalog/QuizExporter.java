@@ -0,0 +1,106 @@
+package com.example.quizzerApp.service.catalog;
+
+import com.example.quizzerApp.dto.QuizExportRowDTO;
+import com.example.quizzerApp.exception.ResourceNotFoundException;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.repository.QuestionRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes a quiz with all of its questions and answer options as a single
+ * JSON document.
+ * The questions and options are read by one query over a forward-only cursor
+ * and written as they arrive, so memory use does not depend on the size of
+ * the quiz. The "questions" array has the shape the JSON question import
+ * reads, so an export can be imported into another quiz as it is.
+ */
+@Component
+public class QuizExporter {
+
+    /**
+     * Repository for Quiz entity operations
+     */
+    @Autowired
+    private QuizRepository quizRepository;
+
+    /**
+     * Repository for Question entity operations
+     */
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    /**
+     * Mapper whose factory creates the generator
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Exports a quiz.
+     * The transaction keeps the connection, and with it the cursor, open
+     * while the document is written.
+     *
+     * @param quizId The ID of the quiz
+     * @param out    The stream to write to; flushed but not closed
+     * @return The number of exported questions
+     * @throws ResourceNotFoundException if no quiz exists with the given ID
+     * @throws IOException               if the document cannot be written
+     */
+    @Transactional(readOnly = true)
+    public long export(Long quizId, OutputStream out) throws IOException {
+        Quiz quiz = quizRepository.findWithCategoryById(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id " + quizId));
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+                Stream<QuizExportRowDTO> rows = questionRepository.streamExportByQuizId(quizId)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("name", quiz.getName());
+            generator.writeStringField("description", quiz.getDescription());
+            generator.writeStringField("courseCode", quiz.getCourseCode());
+            generator.writeStringField("category", quiz.getCategory() != null ? quiz.getCategory().getName() : null);
+            generator.writeArrayFieldStart("questions");
+            Long questionId = null;
+            for (Iterator<QuizExportRowDTO> it = rows.iterator(); it.hasNext();) {
+                QuizExportRowDTO row = it.next();
+                if (!Objects.equals(row.getQuestionId(), questionId)) {
+                    if (questionId != null) {
+                        generator.writeEndArray();
+                        generator.writeEndObject();
+                    }
+                    questionId = row.getQuestionId();
+                    count++;
+                    generator.writeStartObject();
+                    generator.writeStringField("content", row.getContent());
+                    generator.writeStringField("difficulty", row.getDifficulty());
+                    generator.writeArrayFieldStart("answers");
+                }
+                // A question without options has a single row without option columns
+                if (row.getCorrect() != null) {
+                    generator.writeStartObject();
+                    generator.writeStringField("text", row.getOptionText());
+                    generator.writeBooleanField("correct", row.getCorrect());
+                    generator.writeEndObject();
+                }
+            }
+            if (questionId != null) {
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.quizzerApp.service.catalog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Least recently used cache of encoded quiz detail responses of published
+ * quizzes, in identity and gzip form.
+ *
+ * Published quiz content is the same for every student, so a hit skips the
+ * entity reads, the DTO tree and JSON encoding, and the bytes are written to
+ * the response as they are. Each entry carries the entity tag of the quiz it
+ * was encoded from and is only served for that tag, so an entry that was
+ * written concurrently with an edit is never served for the new version.
+ * The change tracker evicts a quiz's entry on every edit to free its memory.
+ *
+ * The cache is bounded by the total size of the cached bytes. It is guarded
+ * by a lock rather than a monitor, so request threads waiting for it do not
+ * pin their carrier when running on virtual threads.
+ */
+@Component
+public class QuizPayloadCache {
+
+    /**
+     * Registry the cache meters are registered with
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${quizzer.payload-cache.max-bytes:16777216}")
+    private long maxBytes;
+
+    private final LinkedHashMap<Long, QuizPayload> payloads = new LinkedHashMap<>(64, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long totalBytes;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter editEvictions;
+    private Counter sizeEvictions;
+
+    /**
+     * Registers the cache meters.
+     */
+    @PostConstruct
+    public void register() {
+        hits = requestCounter("hit");
+        misses = requestCounter("miss");
+        editEvictions = evictionCounter("edit");
+        sizeEvictions = evictionCounter("size");
+        Gauge.builder("quizzer.payload.cache.size", this, QuizPayloadCache::getTotalBytes)
+                .description("Encoded bytes held by the quiz payload cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("quizzer.payload.cache.entries", this, QuizPayloadCache::getEntryCount)
+                .description("Quizzes held by the quiz payload cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retrieves the cached payload of a quiz version.
+     *
+     * @param quizId The ID of the quiz
+     * @param etag   The current entity tag of the quiz detail response
+     * @return The payload, or null if it is not cached for this tag
+     */
+    public QuizPayload get(Long quizId, String etag) {
+        QuizPayload payload;
+        lock.lock();
+        try {
+            payload = payloads.get(quizId);
+        } finally {
+            lock.unlock();
+        }
+        if (payload != null && payload.getEtag().equals(etag)) {
+            hits.increment();
+            return payload;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the payload of a quiz version, replacing any other version of
+     * the quiz and evicting the least recently used quizzes while the cache
+     * is over its size limit. Payloads larger than the limit are not cached.
+     *
+     * @param quizId  The ID of the quiz
+     * @param payload The encoded payload
+     */
+    public void put(Long quizId, QuizPayload payload) {
+        if (payload.getSize() > maxBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            QuizPayload previous = payloads.put(quizId, payload);
+            if (previous != null) {
+                totalBytes -= previous.getSize();
+            }
+            totalBytes += payload.getSize();
+            Iterator<QuizPayload> eldest = payloads.values().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                totalBytes -= eldest.next().getSize();
+                eldest.remove();
+                sizeEvictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the cached payload of a quiz.
+     *
+     * @param quizId The ID of the quiz that changed
+     */
+    public void evict(Long quizId) {
+        if (quizId == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            QuizPayload removed = payloads.remove(quizId);
+            if (removed != null) {
+                totalBytes -= removed.getSize();
+                editEvictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the total size of the cached payloads.
+     *
+     * @return The size in bytes, counting both encodings
+     */
+    public long getTotalBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the number of cached quizzes.
+     *
+     * @return The number of entries
+     */
+    public int getEntryCount() {
+        lock.lock();
+        try {
+            return payloads.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Counter requestCounter(String result) {
+        return Counter.builder("quizzer.payload.cache.requests")
+                .description("Quiz detail payload cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter evictionCounter(String cause) {
+        return Counter.builder("quizzer.payload.cache.evictions")
+                .description("Quiz detail payloads dropped from the cache")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    /**
+     * An encoded quiz detail response in identity and gzip form.
+     */
+    public static final class QuizPayload {
+
+        private final String etag;
+        private final byte[] identity;
+        private final byte[] gzip;
+
+        private QuizPayload(String etag, byte[] identity, byte[] gzip) {
+            this.etag = etag;
+            this.identity = identity;
+            this.gzip = gzip;
+        }
+
+        /**
+         * Creates a payload from an encoded JSON response, compressing it once.
+         *
+         * @param etag The entity tag of the quiz version the response was built from
+         * @param json The encoded response
+         * @return The payload
+         */
+        public static QuizPayload of(String etag, byte[] json) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new QuizPayload(etag, json, compressed.toByteArray());
+        }
+
+        // Getters
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public byte[] getIdentity() {
+            return identity;
+        }
+
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        public long getSize() {
+            return identity.length + gzip.length;
+        }
+    }
+}
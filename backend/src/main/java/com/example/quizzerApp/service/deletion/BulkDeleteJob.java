@@ -0,0 +1,98 @@
+package com.example.quizzerApp.service.deletion;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * State of one bulk deletion of quizzes, read by clients while the deletion
+ * runs. Updated by a single thread, read by any.
+ */
+public class BulkDeleteJob {
+
+    /**
+     * Lifecycle of a job.
+     */
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final List<Long> quizIds;
+    private final Instant createdAt = Instant.now();
+    private final Map<String, Long> deleted = new LinkedHashMap<>();
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    BulkDeleteJob(List<Long> quizIds) {
+        this.quizIds = List.copyOf(quizIds);
+    }
+
+    void started() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    synchronized void recordDeleted(String rows, int count) {
+        deleted.merge(rows, (long) count, Long::sum);
+    }
+
+    void completed() {
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    void failed(String message) {
+        error = message;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    // Getters
+
+    public String getId() {
+        return id;
+    }
+
+    public List<Long> getQuizIds() {
+        return quizIds;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Retrieves the number of deleted rows so far, by kind of row, in the
+     * order they are deleted.
+     *
+     * @return A copy of the counts
+     */
+    public synchronized Map<String, Long> getDeleted() {
+        return new LinkedHashMap<>(deleted);
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.quizzerApp.service.deletion;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes quizzes with everything that belongs to them: submitted answers,
+ * answers, answer statistics, answer options, questions, reviews and
+ * attempts.
+ *
+ * Jobs are queued and run one at a time by a single background thread, so
+ * that deleting a very large quiz neither ties up a request nor competes
+ * with other deletions for locks. Each job deletes its rows in chunks of
+ * {@code chunk-size}, one transaction per chunk. A job that fails part way
+ * leaves the remaining rows in place and can simply be submitted again.
+ * Deletes run in the calling thread are done in a single transaction instead,
+ * so they either complete or leave the quizzes untouched.
+ *
+ * The states of the most recent jobs are kept in memory, so they are lost on
+ * restart, and a job still queued at shutdown is not run.
+ */
+@Component
+public class QuizBulkDeleter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizBulkDeleter.class);
+
+    /**
+     * Number of jobs whose state is kept for clients to read
+     */
+    private static final int RETAINED_JOBS = 100;
+
+    /**
+     * Writer for the chunked deletes
+     */
+    @Autowired
+    private QuizDeletionWriter quizDeletionWriter;
+
+    /**
+     * Registry for the queue depth and job duration metrics
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${quizzer.bulk-delete.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${quizzer.bulk-delete.capacity:100}")
+    private int capacity;
+
+    @Value("${quizzer.bulk-delete.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMillis;
+
+    private BlockingQueue<BulkDeleteJob> queue;
+    private Thread deleterThread;
+    private volatile boolean running;
+
+    private final Map<String, BulkDeleteJob> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<String, BulkDeleteJob>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, BulkDeleteJob> eldest) {
+                    return size() > RETAINED_JOBS;
+                }
+            });
+
+    private Timer jobTimer;
+
+    /**
+     * Creates the queue, registers the metrics and starts the deleter thread.
+     */
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder("quizzer.bulk_delete.queue.depth", queue, BlockingQueue::size)
+                .description("Bulk deletions waiting to run")
+                .register(meterRegistry);
+        jobTimer = Timer.builder("quizzer.bulk_delete.job")
+                .description("Duration of one bulk deletion")
+                .register(meterRegistry);
+
+        running = true;
+        deleterThread = new Thread(this::run, "quiz-bulk-delete");
+        deleterThread.setDaemon(true);
+        deleterThread.start();
+    }
+
+    /**
+     * Queues the deletion of quizzes.
+     *
+     * @param quizIds The IDs of the quizzes
+     * @return The queued job, or null if the queue is full and the caller should retry later
+     */
+    public BulkDeleteJob submit(List<Long> quizIds) {
+        BulkDeleteJob job = new BulkDeleteJob(quizIds);
+        // Readable before the deleter can pick it up
+        jobs.put(job.getId(), job);
+        if (!running || !queue.offer(job)) {
+            jobs.remove(job.getId());
+            return null;
+        }
+        return job;
+    }
+
+    /**
+     * Deletes quizzes in the calling thread, in a single transaction. Nothing
+     * is deleted if the job fails.
+     *
+     * @param quizIds The IDs of the quizzes
+     * @return The finished job
+     */
+    public BulkDeleteJob deleteNow(List<Long> quizIds) {
+        BulkDeleteJob job = new BulkDeleteJob(quizIds);
+        job.started();
+        long start = System.nanoTime();
+        try {
+            quizDeletionWriter.deleteAll(quizIds, chunkSize).forEach(job::recordDeleted);
+            job.completed();
+        } catch (RuntimeException e) {
+            job.failed(e.getMessage());
+            logger.error("Deletion of quizzes {} failed and was rolled back", quizIds, e);
+        } finally {
+            jobTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return job;
+    }
+
+    /**
+     * Retrieves a recent job.
+     *
+     * @param jobId The ID of the job
+     * @return The job, or null if it is unknown or no longer retained
+     */
+    public BulkDeleteJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    /**
+     * Stops taking jobs and waits for the running job to finish.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        try {
+            deleterThread.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (deleterThread.isAlive()) {
+            logger.warn("Bulk deletion did not finish within {} ms", shutdownTimeoutMillis);
+        }
+        for (BulkDeleteJob job : queue) {
+            job.failed("Not run, the server was shut down");
+        }
+    }
+
+    private void run() {
+        while (running) {
+            BulkDeleteJob job;
+            try {
+                job = queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (job != null) {
+                execute(job);
+            }
+        }
+    }
+
+    private void execute(BulkDeleteJob job) {
+        job.started();
+        long start = System.nanoTime();
+        try {
+            for (QuizDeletionWriter.Step step : QuizDeletionWriter.Step.values()) {
+                int deleted;
+                do {
+                    deleted = quizDeletionWriter.deleteChunk(step, job.getQuizIds(), chunkSize);
+                    job.recordDeleted(step.getRows(), deleted);
+                } while (deleted > 0);
+            }
+            job.recordDeleted("quizzes", quizDeletionWriter.deleteQuizzes(job.getQuizIds()));
+            job.completed();
+            logger.info("Deleted quizzes {}: {}", job.getQuizIds(), job.getDeleted());
+        } catch (RuntimeException e) {
+            job.failed(e.getMessage());
+            logger.error("Deletion of quizzes {} failed after deleting {}", job.getQuizIds(), job.getDeleted(), e);
+        } finally {
+            jobTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
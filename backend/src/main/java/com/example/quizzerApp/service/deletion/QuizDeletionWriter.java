@@ -0,0 +1,149 @@
+package com.example.quizzerApp.service.deletion;
+
+import com.example.quizzerApp.service.catalog.QuizChangeTracker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based deletes of the rows that belong to a set of quizzes, each chunk
+ * in a transaction of its own, or all of them in one transaction.
+ *
+ * Dependent rows are deleted before the rows they reference, in chunks of a
+ * bounded number of rows, so that no transaction holds many row locks or
+ * writes a large undo log. Every statement names its table as the query
+ * space, so only the matching second-level cache regions are invalidated.
+ */
+@Component
+public class QuizDeletionWriter {
+
+    /**
+     * Kinds of rows deleted with a quiz, in the order they must be deleted.
+     * Each statement deletes up to :limit rows of the quizzes :quizIds.
+     */
+    public enum Step {
+        SUBMITTED_ANSWERS("submittedAnswers", "submitted_answer",
+                "DELETE FROM submitted_answer WHERE id IN (SELECT s.id FROM submitted_answer s "
+                        + "JOIN answer_option o ON s.answer_option_id = o.id JOIN question q ON o.question_id = q.id "
+                        + "WHERE q.quiz_id IN (:quizIds) FETCH FIRST :limit ROWS ONLY)"),
+        ANSWERS("answers", "answer",
+                "DELETE FROM answer WHERE id IN (SELECT id FROM answer "
+                        + "WHERE quiz_id IN (:quizIds) FETCH FIRST :limit ROWS ONLY)"),
+        OPTION_STATS("optionStats", "option_answer_stats",
+                "DELETE FROM option_answer_stats WHERE answer_option_id IN (SELECT o.id FROM answer_option o "
+                        + "JOIN question q ON o.question_id = q.id JOIN option_answer_stats s ON s.answer_option_id = o.id "
+                        + "WHERE q.quiz_id IN (:quizIds) FETCH FIRST :limit ROWS ONLY)"),
+        QUESTION_STATS("questionStats", "question_answer_stats",
+                "DELETE FROM question_answer_stats WHERE question_id IN (SELECT q.id FROM question q "
+                        + "JOIN question_answer_stats s ON s.question_id = q.id "
+                        + "WHERE q.quiz_id IN (:quizIds) FETCH FIRST :limit ROWS ONLY)"),
+        ANSWER_OPTIONS("answerOptions", "answer_option",
+                "DELETE FROM answer_option WHERE id IN (SELECT o.id FROM answer_option o "
+                        + "JOIN question q ON o.question_id = q.id "
+                        + "WHERE q.quiz_id IN (:quizIds) FETCH FIRST :limit ROWS ONLY)"),
+        QUESTIONS("questions", "question",
+                "DELETE FROM question WHERE id IN (SELECT id FROM question "
+                        + "WHERE quiz_id IN (:quizIds) FETCH FIRST :limit ROWS ONLY)"),
+        REVIEWS("reviews", "review",
+                "DELETE FROM review WHERE id IN (SELECT id FROM review "
+                        + "WHERE quiz_id IN (:quizIds) FETCH FIRST :limit ROWS ONLY)"),
+        ATTEMPTS("attempts", "quiz_attempt",
+                "DELETE FROM quiz_attempt WHERE id IN (SELECT id FROM quiz_attempt "
+                        + "WHERE quiz_id IN (:quizIds) FETCH FIRST :limit ROWS ONLY)");
+
+        private final String rows;
+        private final String table;
+        private final String sql;
+
+        Step(String rows, String table, String sql) {
+            this.rows = rows;
+            this.table = table;
+            this.sql = sql;
+        }
+
+        /**
+         * Retrieves the name the deleted rows are reported under.
+         *
+         * @return The name of the rows
+         */
+        public String getRows() {
+            return rows;
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Tracker of catalog changes
+     */
+    @Autowired
+    private QuizChangeTracker quizChangeTracker;
+
+    /**
+     * Deletes one chunk of rows of a step.
+     *
+     * @param step    The kind of rows to delete
+     * @param quizIds The IDs of the quizzes whose rows are deleted
+     * @param limit   The maximum number of rows to delete
+     * @return The number of deleted rows. A chunk may delete fewer rows than
+     *         the limit before the step is done; only 0 means it is done.
+     */
+    @Transactional
+    public int deleteChunk(Step step, List<Long> quizIds, int limit) {
+        return entityManager.createNativeQuery(step.sql)
+                .setParameter("quizIds", quizIds)
+                .setParameter("limit", limit)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, step.table)
+                .executeUpdate();
+    }
+
+    /**
+     * Deletes quizzes with all their rows in a single transaction, so that
+     * either everything or nothing is deleted. Each step still runs in chunks
+     * of the given size.
+     *
+     * @param quizIds The IDs of the quizzes
+     * @param limit   The maximum number of rows deleted by one statement
+     * @return The number of deleted rows of each kind, quizzes last
+     */
+    @Transactional
+    public Map<String, Integer> deleteAll(List<Long> quizIds, int limit) {
+        Map<String, Integer> deleted = new LinkedHashMap<>();
+        for (Step step : Step.values()) {
+            int total = 0;
+            int chunk;
+            do {
+                chunk = deleteChunk(step, quizIds, limit);
+                total += chunk;
+            } while (chunk > 0);
+            deleted.put(step.getRows(), total);
+        }
+        deleted.put("quizzes", deleteQuizzes(quizIds));
+        return deleted;
+    }
+
+    /**
+     * Deletes the quiz rows, once every row that references them is gone,
+     * and removes their derived state.
+     *
+     * @param quizIds The IDs of the quizzes
+     * @return The number of deleted quizzes
+     */
+    @Transactional
+    public int deleteQuizzes(List<Long> quizIds) {
+        for (Long quizId : quizIds) {
+            quizChangeTracker.quizDeleted(quizId);
+        }
+        return entityManager.createQuery("DELETE FROM Quiz q WHERE q.id IN :quizIds")
+                .setParameter("quizIds", quizIds)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.quizzerApp.service.grading;
+
+import com.example.quizzerApp.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory cache of compiled answer keys, one per quiz.
+ * A key is compiled from a single projection query the first time a quiz is
+ * graded; concurrent graders of the same quiz wait for that one compilation
+ * instead of each hitting the database. Callers that change a quiz's
+ * questions or options must call {@link #invalidate(Long)}.
+ *
+ * The cache is local to this instance, so in a multi-instance deployment an
+ * edit is only visible to other instances once their entry is invalidated
+ * there as well.
+ */
+@Component
+public class AnswerKeyCache {
+
+    /**
+     * Repository for Question entity operations
+     */
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    private final ConcurrentMap<Long, CompletableFuture<CompiledAnswerKey>> keys = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the compiled answer key for a quiz, compiling it if needed.
+     *
+     * @param quizId The ID of the quiz
+     * @return The compiled answer key
+     */
+    public CompiledAnswerKey get(Long quizId) {
+        CompletableFuture<CompiledAnswerKey> future = keys.get(quizId);
+        if (future == null) {
+            CompletableFuture<CompiledAnswerKey> created = new CompletableFuture<>();
+            future = keys.putIfAbsent(quizId, created);
+            if (future == null) {
+                // This thread won the race and compiles outside of any map lock
+                future = created;
+                try {
+                    created.complete(compile(quizId));
+                } catch (RuntimeException e) {
+                    keys.remove(quizId, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Drops the compiled answer key of a quiz so that the next grading run
+     * recompiles it from the database.
+     *
+     * @param quizId The ID of the quiz whose questions or options changed
+     */
+    public void invalidate(Long quizId) {
+        if (quizId != null) {
+            keys.remove(quizId);
+        }
+    }
+
+    private CompiledAnswerKey compile(Long quizId) {
+        CompiledAnswerKey.Builder builder = CompiledAnswerKey.builder();
+        List<Object[]> rows = questionRepository.findAnswerKeyRowsByQuizId(quizId);
+        for (Object[] row : rows) {
+            long questionId = (Long) row[0];
+            if (row[1] == null) {
+                builder.addQuestion(questionId);
+            } else {
+                builder.addOption(questionId, (Long) row[1], Boolean.TRUE.equals(row[2]));
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.quizzerApp.service.grading;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, pre-compiled answer key for a single quiz.
+ * Holds two primitive open-addressing hash tables so that grading an answer
+ * is a constant-time lookup without touching entities or boxing ids:
+ * question id to its first correct option id, and option id to the
+ * question it belongs to together with its correctness flag.
+ */
+public final class CompiledAnswerKey {
+
+    /**
+     * Returned by lookups when there is no matching option.
+     */
+    public static final long NO_OPTION = -1L;
+
+    private final LongLongTable correctOptionByQuestion;
+    private final LongLongTable questionByOption;
+
+    private CompiledAnswerKey(LongLongTable correctOptionByQuestion, LongLongTable questionByOption) {
+        this.correctOptionByQuestion = correctOptionByQuestion;
+        this.questionByOption = questionByOption;
+    }
+
+    /**
+     * Creates a builder for an answer key.
+     *
+     * @return A new, empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieves the number of questions in the quiz.
+     *
+     * @return The question count
+     */
+    public int getQuestionCount() {
+        return correctOptionByQuestion.size();
+    }
+
+    /**
+     * Checks whether a question belongs to the quiz.
+     *
+     * @param questionId The ID of the question
+     * @return true if the question is part of the quiz
+     */
+    public boolean containsQuestion(long questionId) {
+        return correctOptionByQuestion.containsKey(questionId);
+    }
+
+    /**
+     * Checks whether an option is a valid choice for a question.
+     *
+     * @param questionId The ID of the question
+     * @param optionId   The ID of the selected option
+     * @return true if the option belongs to the question
+     */
+    public boolean isValidOption(long questionId, long optionId) {
+        long packed = questionByOption.get(optionId, NO_OPTION);
+        return packed != NO_OPTION && (packed >>> 1) == questionId;
+    }
+
+    /**
+     * Checks whether an option is marked as correct.
+     *
+     * @param optionId The ID of the option
+     * @return true if the option exists and is correct
+     */
+    public boolean isCorrect(long optionId) {
+        long packed = questionByOption.get(optionId, NO_OPTION);
+        return packed != NO_OPTION && (packed & 1L) == 1L;
+    }
+
+    /**
+     * Retrieves the first correct option of a question.
+     *
+     * @param questionId The ID of the question
+     * @return The correct option ID, or {@link #NO_OPTION} if there is none
+     */
+    public long correctOptionFor(long questionId) {
+        return correctOptionByQuestion.get(questionId, NO_OPTION);
+    }
+
+    /**
+     * Collects question and option rows and compiles them into an answer key.
+     * Options must be added in their natural order; the first correct option
+     * of a question becomes its reported correct answer.
+     */
+    public static final class Builder {
+        private long[] questionIds = new long[16];
+        private long[] correctOptionIds = new long[16];
+        private int questionSize;
+        private long[] optionIds = new long[64];
+        private long[] optionValues = new long[64];
+        private int optionSize;
+        private int lastQuestion = -1;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a question, keeping it in the key even if it has no options.
+         *
+         * @param questionId The ID of the question
+         * @return This builder
+         */
+        public Builder addQuestion(long questionId) {
+            questionIndex(questionId);
+            return this;
+        }
+
+        /**
+         * Adds an answer option for a question.
+         *
+         * @param questionId The ID of the question the option belongs to
+         * @param optionId   The ID of the option
+         * @param correct    Whether the option is correct
+         * @return This builder
+         */
+        public Builder addOption(long questionId, long optionId, boolean correct) {
+            int index = questionIndex(questionId);
+            if (correct && correctOptionIds[index] == NO_OPTION) {
+                correctOptionIds[index] = optionId;
+            }
+            if (optionSize == optionIds.length) {
+                optionIds = Arrays.copyOf(optionIds, optionSize * 2);
+                optionValues = Arrays.copyOf(optionValues, optionSize * 2);
+            }
+            optionIds[optionSize] = optionId;
+            optionValues[optionSize] = (questionId << 1) | (correct ? 1L : 0L);
+            optionSize++;
+            return this;
+        }
+
+        /**
+         * Compiles the collected rows into an immutable answer key.
+         *
+         * @return The compiled answer key
+         */
+        public CompiledAnswerKey build() {
+            LongLongTable questions = new LongLongTable(questionSize);
+            for (int i = 0; i < questionSize; i++) {
+                questions.put(questionIds[i], correctOptionIds[i]);
+            }
+            LongLongTable options = new LongLongTable(optionSize);
+            for (int i = 0; i < optionSize; i++) {
+                options.put(optionIds[i], optionValues[i]);
+            }
+            return new CompiledAnswerKey(questions, options);
+        }
+
+        private int questionIndex(long questionId) {
+            // Rows arrive grouped by question, so the last question is almost always the hit
+            if (lastQuestion >= 0 && questionIds[lastQuestion] == questionId) {
+                return lastQuestion;
+            }
+            for (int i = 0; i < questionSize; i++) {
+                if (questionIds[i] == questionId) {
+                    lastQuestion = i;
+                    return i;
+                }
+            }
+            if (questionSize == questionIds.length) {
+                questionIds = Arrays.copyOf(questionIds, questionSize * 2);
+                correctOptionIds = Arrays.copyOf(correctOptionIds, questionSize * 2);
+            }
+            questionIds[questionSize] = questionId;
+            correctOptionIds[questionSize] = NO_OPTION;
+            lastQuestion = questionSize;
+            return questionSize++;
+        }
+    }
+
+    /**
+     * Minimal open-addressing hash table from long to long with linear probing.
+     * Sized once at construction and never resized, since answer keys are
+     * immutable after they are built.
+     */
+    private static final class LongLongTable {
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final long[] keys;
+        private final long[] values;
+        private final int mask;
+        private int size;
+
+        LongLongTable(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+            this.keys = new long[capacity];
+            this.values = new long[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        void put(long key, long value) {
+            int slot = slot(key);
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] = value;
+        }
+
+        long get(long key, long missing) {
+            int slot = slot(key);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return missing;
+        }
+
+        boolean containsKey(long key) {
+            int slot = slot(key);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.quizzerApp.service.grading;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts grading outcomes of quiz submissions and single answers.
+ * Tags only take values from the fixed sets below, so the number of time
+ * series does not grow with quizzes, questions or users.
+ */
+@Component
+public class GradingMetrics {
+
+    /**
+     * Outcomes of a quiz submission
+     */
+    public static final String GRADED = "graded";
+    public static final String NO_ANSWERS = "no_answers";
+    public static final String QUIZ_NOT_FOUND = "quiz_not_found";
+    public static final String NOT_PUBLISHED = "not_published";
+    public static final String NO_QUESTIONS = "no_questions";
+    public static final String INVALID_ANSWER = "invalid_answer";
+
+    /**
+     * Ways answers are submitted
+     */
+    public static final String SINGLE = "single";
+    public static final String BATCH = "batch";
+
+    private static final String[] SUBMISSION_OUTCOMES = {
+            GRADED, NO_ANSWERS, QUIZ_NOT_FOUND, NOT_PUBLISHED, NO_QUESTIONS, INVALID_ANSWER };
+    private static final String[] ANSWER_RESULTS = { "correct", "incorrect", "rejected" };
+
+    /**
+     * Registry the counters are registered with
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private DistributionSummary scoreSummary;
+    private Counter correctGradedAnswers;
+    private Counter incorrectGradedAnswers;
+
+    /**
+     * Registers every counter up front, so each series is exported from zero.
+     */
+    @PostConstruct
+    public void register() {
+        for (String outcome : SUBMISSION_OUTCOMES) {
+            submissionCounter(outcome);
+        }
+        for (String mode : new String[] { SINGLE, BATCH }) {
+            for (String result : ANSWER_RESULTS) {
+                answerCounter(mode, result);
+            }
+        }
+        scoreSummary = DistributionSummary.builder("quizzer.grading.score")
+                .description("Score of graded quiz submissions")
+                .baseUnit("percent")
+                .serviceLevelObjectives(25, 50, 75, 90, 100)
+                .register(meterRegistry);
+        correctGradedAnswers = gradedAnswerCounter("correct");
+        incorrectGradedAnswers = gradedAnswerCounter("incorrect");
+    }
+
+    /**
+     * Records a graded quiz submission.
+     *
+     * @param result The grading result
+     */
+    public void recordGraded(GradingResult result) {
+        submissionCounter(GRADED).increment();
+        scoreSummary.record(result.getScore());
+        correctGradedAnswers.increment(result.getCorrectAnswers());
+        incorrectGradedAnswers.increment(result.getQuestionResults().size() - result.getCorrectAnswers());
+    }
+
+    /**
+     * Records a quiz submission that was not graded.
+     *
+     * @param outcome One of the submission outcome constants other than {@link #GRADED}
+     */
+    public void recordRejected(String outcome) {
+        submissionCounter(outcome).increment();
+    }
+
+    /**
+     * Records an accepted answer.
+     *
+     * @param mode    {@link #SINGLE} or {@link #BATCH}
+     * @param correct Whether the selected option is correct
+     */
+    public void recordAnswer(String mode, boolean correct) {
+        answerCounter(mode, correct ? "correct" : "incorrect").increment();
+    }
+
+    /**
+     * Records a rejected answer.
+     *
+     * @param mode {@link #SINGLE} or {@link #BATCH}
+     */
+    public void recordRejectedAnswer(String mode) {
+        answerCounter(mode, "rejected").increment();
+    }
+
+    private Counter submissionCounter(String outcome) {
+        return Counter.builder("quizzer.grading.submissions")
+                .description("Quiz submissions by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter gradedAnswerCounter(String result) {
+        return Counter.builder("quizzer.grading.answers")
+                .description("Answers in graded quiz submissions")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter answerCounter(String mode, String result) {
+        return Counter.builder("quizzer.answers.submitted")
+                .description("Answers submitted one by one or in batches")
+                .tag("mode", mode)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.quizzerApp.service.grading;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of grading one quiz submission.
+ */
+public class GradingResult {
+
+    private final int correctAnswers;
+    private final int totalQuestions;
+    private final List<Map<String, Object>> questionResults;
+    private final long[] answeredQuestionIds;
+    private final boolean[] answeredCorrectly;
+
+    /**
+     * Creates a grading result.
+     *
+     * @param correctAnswers      Number of correctly answered questions
+     * @param totalQuestions      Number of questions in the quiz
+     * @param questionResults     Per-answer results, in submission order
+     * @param answeredQuestionIds Question ID of each answer, in submission order
+     * @param answeredCorrectly   Correctness of each answer, in submission order
+     */
+    public GradingResult(int correctAnswers, int totalQuestions, List<Map<String, Object>> questionResults,
+            long[] answeredQuestionIds, boolean[] answeredCorrectly) {
+        this.correctAnswers = correctAnswers;
+        this.totalQuestions = totalQuestions;
+        this.questionResults = questionResults;
+        this.answeredQuestionIds = answeredQuestionIds;
+        this.answeredCorrectly = answeredCorrectly;
+    }
+
+    /**
+     * Calculates the score as a percentage of the quiz's questions.
+     *
+     * @return The score between 0 and 100
+     */
+    public int getScore() {
+        return totalQuestions > 0 ? Math.round((float) correctAnswers / totalQuestions * 100) : 0;
+    }
+
+    // Getters
+
+    public int getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    public List<Map<String, Object>> getQuestionResults() {
+        return questionResults;
+    }
+
+    public long[] getAnsweredQuestionIds() {
+        return answeredQuestionIds;
+    }
+
+    public boolean[] getAnsweredCorrectly() {
+        return answeredCorrectly;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.quizzerApp.service.grading;
+
+import com.example.quizzerApp.exception.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Grades quiz submissions against a compiled answer key.
+ * Stateless and free of persistence, so it can also be exercised directly
+ * by benchmarks.
+ */
+public final class QuizGrader {
+
+    private QuizGrader() {
+    }
+
+    /**
+     * Grades the answers of one submission.
+     *
+     * @param answerKey The compiled answer key of the quiz
+     * @param answers   The submitted answers, each with questionId and selectedAnswerId
+     * @return The grading result
+     * @throws ResourceNotFoundException if a question is not part of the quiz
+     *                                   or an option does not belong to its question
+     * @throws IllegalArgumentException  if a question is answered more than once,
+     *                                   which would count it twice towards the score
+     */
+    public static GradingResult grade(CompiledAnswerKey answerKey, List<Map<String, Long>> answers) {
+        int correctCount = 0;
+        List<Map<String, Object>> questionResults = new ArrayList<>(answers.size());
+        long[] answeredQuestionIds = new long[answers.size()];
+        boolean[] answeredCorrectly = new boolean[answers.size()];
+        Set<Long> seenQuestionIds = new HashSet<>(answers.size() * 2);
+
+        for (int i = 0; i < answers.size(); i++) {
+            Map<String, Long> answer = answers.get(i);
+            Long questionId = answer.get("questionId");
+            Long selectedAnswerId = answer.get("selectedAnswerId");
+
+            // Check that the question belongs to the quiz
+            if (questionId == null || !answerKey.containsQuestion(questionId)) {
+                throw new ResourceNotFoundException("Question not found with id " + questionId);
+            }
+            if (!seenQuestionIds.add(questionId)) {
+                throw new IllegalArgumentException("Question " + questionId + " is answered more than once");
+            }
+
+            // Check that the selected answer option belongs to the question
+            if (selectedAnswerId == null || !answerKey.isValidOption(questionId, selectedAnswerId)) {
+                throw new ResourceNotFoundException("Answer option not found with id " + selectedAnswerId);
+            }
+
+            // Check if the answer is correct
+            boolean isCorrect = answerKey.isCorrect(selectedAnswerId);
+            if (isCorrect) {
+                correctCount++;
+            }
+            answeredQuestionIds[i] = questionId;
+            answeredCorrectly[i] = isCorrect;
+
+            // Add result for this question
+            long correctOptionId = answerKey.correctOptionFor(questionId);
+            Map<String, Object> questionResult = new LinkedHashMap<>();
+            questionResult.put("questionId", questionId);
+            questionResult.put("isCorrect", isCorrect);
+            questionResult.put("correctAnswerId",
+                    correctOptionId == CompiledAnswerKey.NO_OPTION ? null : correctOptionId);
+            questionResult.put("explanation", isCorrect ? "Correct answer!" : "The selected answer is incorrect.");
+            questionResults.add(questionResult);
+        }
+
+        return new GradingResult(correctCount, answerKey.getQuestionCount(), questionResults,
+                answeredQuestionIds, answeredCorrectly);
+    }
+}
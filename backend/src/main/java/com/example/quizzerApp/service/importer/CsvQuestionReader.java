@@ -0,0 +1,177 @@
+package com.example.quizzerApp.service.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads questions from CSV as in RFC 4180, one question per row.
+ * The header row names the columns: "content", optionally "difficulty",
+ * "correct" with the 1-based numbers of the correct options separated by
+ * semicolons, and one column per option whose name starts with "option".
+ * Empty option cells are ignored, so questions may have fewer options than
+ * there are columns.
+ */
+class CsvQuestionReader implements QuestionReader {
+
+    /** Longest record accepted, so that an unclosed quote cannot swallow the file */
+    private static final int MAX_RECORD_LENGTH = 65536;
+
+    private final BufferedReader reader;
+    private int contentColumn = -1;
+    private int difficultyColumn = -1;
+    private int correctColumn = -1;
+    private final List<Integer> optionColumns = new ArrayList<>();
+    private long record;
+    private boolean started;
+
+    CsvQuestionReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ImportedQuestion next() throws IOException {
+        if (!started) {
+            started = true;
+            readHeader();
+        }
+        List<String> fields;
+        do {
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty()); // Blank line
+
+        record++;
+        ImportedQuestion question = new ImportedQuestion(record);
+        question.setContent(field(fields, contentColumn));
+        question.setDifficulty(field(fields, difficultyColumn));
+        List<Integer> correct = new ArrayList<>();
+        String correctField = field(fields, correctColumn);
+        if (correctField != null) {
+            for (String number : correctField.split(";")) {
+                if (number.isBlank()) {
+                    continue;
+                }
+                try {
+                    correct.add(Integer.parseInt(number.trim()));
+                } catch (NumberFormatException e) {
+                    question.setError("correct must list option numbers, got '" + correctField + "'");
+                    return question;
+                }
+            }
+        }
+        for (int i = 0; i < optionColumns.size(); i++) {
+            String text = field(fields, optionColumns.get(i));
+            if (text != null) {
+                question.addOption(text, correct.contains(i + 1));
+            }
+        }
+        for (int number : correct) {
+            if (number < 1 || number > optionColumns.size() || field(fields, optionColumns.get(number - 1)) == null) {
+                question.setError("correct refers to option " + number + ", which is empty or does not exist");
+            }
+        }
+        return question;
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new QuestionImportException("Missing header row");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase();
+            // A byte order mark before the first column name
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            if (name.equals("content")) {
+                contentColumn = i;
+            } else if (name.equals("difficulty")) {
+                difficultyColumn = i;
+            } else if (name.equals("correct")) {
+                correctColumn = i;
+            } else if (name.startsWith("option")) {
+                optionColumns.add(i);
+            }
+        }
+        if (contentColumn < 0 || correctColumn < 0 || optionColumns.isEmpty()) {
+            throw new QuestionImportException("Header must name content, correct and at least one option column");
+        }
+    }
+
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Reads one record, which may span lines inside quoted fields.
+     *
+     * @return The fields, or null at the end of the file
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (true) {
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new QuestionImportException("Record " + (record + 1) + " is longer than "
+                        + MAX_RECORD_LENGTH + " characters; is a quote left open?");
+            }
+            if (quoted) {
+                if (c < 0) {
+                    throw new QuestionImportException("Unclosed quote in record " + (record + 1));
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c < 0) {
+                break;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
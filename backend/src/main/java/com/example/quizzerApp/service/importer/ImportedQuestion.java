@@ -0,0 +1,96 @@
+package com.example.quizzerApp.service.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One question read from an import file, before validation.
+ */
+public class ImportedQuestion {
+
+    private final long record;
+    private String content;
+    private String difficulty;
+    private final List<Option> options = new ArrayList<>();
+    private String error;
+
+    /**
+     * One answer option of an imported question.
+     */
+    public static class Option {
+
+        private final String text;
+        private final boolean correct;
+
+        public Option(String text, boolean correct) {
+            this.text = text;
+            this.correct = correct;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public boolean isCorrect() {
+            return correct;
+        }
+    }
+
+    /**
+     * Creates an empty question.
+     *
+     * @param record The 1-based position of the question in the file
+     */
+    public ImportedQuestion(long record) {
+        this.record = record;
+    }
+
+    /**
+     * Adds an answer option.
+     *
+     * @param text    The option text
+     * @param correct Whether the option is correct
+     */
+    public void addOption(String text, boolean correct) {
+        options.add(new Option(text, correct));
+    }
+
+    // Getters and Setters
+
+    public long getRecord() {
+        return record;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(String difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public List<Option> getOptions() {
+        return options;
+    }
+
+    /**
+     * Retrieves the reason the record could not be read, if any.
+     *
+     * @return The error, or null if the record was read
+     */
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.quizzerApp.service.importer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads questions from JSON.
+ * The document is either an array of questions or an object whose
+ * "questions" field is one, such as a quiz export. Each question is an
+ * object with "content", an optional "difficulty" and an "answers" array of
+ * objects with "text" and "correct". Only one question is held as a tree
+ * at a time.
+ */
+class JsonQuestionReader implements QuestionReader {
+
+    private final JsonParser parser;
+    private long record;
+    private boolean started;
+
+    JsonQuestionReader(InputStream in, ObjectMapper objectMapper) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(in);
+    }
+
+    @Override
+    public ImportedQuestion next() throws IOException {
+        try {
+            if (!started) {
+                started = true;
+                seekQuestionArray();
+            }
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) {
+                return null;
+            }
+            record++;
+            JsonNode node = parser.readValueAsTree();
+            return toQuestion(node);
+        } catch (JsonProcessingException e) {
+            throw new QuestionImportException("Malformed JSON after question " + record + ": "
+                    + e.getOriginalMessage(), e);
+        }
+    }
+
+    private void seekQuestionArray() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            return;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("questions".equals(field) && value == JsonToken.START_ARRAY) {
+                    return;
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new QuestionImportException("Expected an array of questions or an object with a \"questions\" array");
+    }
+
+    private ImportedQuestion toQuestion(JsonNode node) {
+        ImportedQuestion question = new ImportedQuestion(record);
+        if (!node.isObject()) {
+            question.setError("Question is not an object");
+            return question;
+        }
+        question.setContent(text(node.get("content")));
+        question.setDifficulty(text(node.get("difficulty")));
+        JsonNode answers = node.get("answers");
+        if (answers != null && !answers.isArray()) {
+            question.setError("answers is not an array");
+            return question;
+        }
+        if (answers != null) {
+            for (JsonNode answer : answers) {
+                JsonNode correct = answer.has("correct") ? answer.get("correct") : answer.get("isCorrect");
+                question.addOption(text(answer.get("text")), correct != null && correct.asBoolean());
+            }
+        }
+        return question;
+    }
+
+    private static String text(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.quizzerApp.service.importer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+
+/**
+ * Reads questions from Moodle XML with a StAX pull parser.
+ * Multichoice and truefalse questions are imported; an answer is correct
+ * if its fraction is positive. Category and description entries are
+ * skipped, and other question types are reported as unsupported. HTML
+ * markup in question and answer texts is removed.
+ *
+ * DTDs and external entities are disabled, so a file cannot make the
+ * server read other files or URLs.
+ */
+class MoodleXmlQuestionReader implements QuestionReader {
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+
+    private final InputStream in;
+    private final XMLStreamReader reader;
+    private long record;
+
+    MoodleXmlQuestionReader(InputStream in) throws IOException {
+        this.in = in;
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try {
+            this.reader = factory.createXMLStreamReader(in);
+        } catch (XMLStreamException e) {
+            throw new QuestionImportException("Malformed XML: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public ImportedQuestion next() throws IOException {
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT || !"question".equals(reader.getLocalName())) {
+                    continue;
+                }
+                String type = reader.getAttributeValue(null, "type");
+                if ("category".equals(type) || "description".equals(type)) {
+                    skipElement();
+                    continue;
+                }
+                record++;
+                ImportedQuestion question = new ImportedQuestion(record);
+                if (!"multichoice".equals(type) && !"truefalse".equals(type)) {
+                    skipElement();
+                    question.setError("Unsupported question type '" + type + "'");
+                    return question;
+                }
+                readQuestion(question);
+                return question;
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw new QuestionImportException("Malformed XML after question " + record + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the children of the current question element up to its end tag.
+     */
+    private void readQuestion(ImportedQuestion question) throws XMLStreamException {
+        int depth = 1;
+        String section = null;
+        boolean correct = false;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                String name = reader.getLocalName();
+                if (depth == 2) {
+                    section = name;
+                    if ("answer".equals(name)) {
+                        correct = fraction(reader.getAttributeValue(null, "fraction")) > 0;
+                    }
+                } else if (depth == 3 && "text".equals(name)) {
+                    // Consumes the end tag of the text element
+                    String text = plain(reader.getElementText());
+                    depth--;
+                    if ("questiontext".equals(section)) {
+                        question.setContent(text);
+                    } else if ("answer".equals(section)) {
+                        question.addOption(text, correct);
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static double fraction(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String plain(String html) {
+        String text = TAG.matcher(html).replaceAll("").trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            // XMLStreamReader.close does not close the underlying stream
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.quizzerApp.service.importer;
+
+import com.example.quizzerApp.exception.ResourceNotFoundException;
+import com.example.quizzerApp.repository.QuizRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Imports question banks into a quiz.
+ *
+ * The file is read one question at a time and every question is validated
+ * on its own; invalid records are reported and skipped. Valid questions
+ * are saved in transactions of {@code quizzer.import.batch-size}, so a
+ * failure never rolls back more than one batch and questions of committed
+ * batches stay imported when a later part of the file turns out to be
+ * malformed.
+ */
+@Service
+public class QuestionBankImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionBankImporter.class);
+
+    /** Length of the question and option text columns */
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    /**
+     * Repository for Quiz entity operations
+     */
+    @Autowired
+    private QuizRepository quizRepository;
+
+    /**
+     * Writer for the batches of validated questions
+     */
+    @Autowired
+    private QuestionBatchWriter questionBatchWriter;
+
+    /**
+     * Mapper for JSON input
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${quizzer.import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Imports the questions of a file into a quiz.
+     *
+     * @param quizId   The ID of the quiz
+     * @param format   The format of the file
+     * @param in       The file contents; closed when the import ends
+     * @param progress Called with the report after every committed batch
+     * @return The report of the import
+     * @throws ResourceNotFoundException if no quiz exists with the given ID
+     */
+    public QuestionImportReport importQuestions(Long quizId, QuestionImportFormat format, InputStream in,
+            Consumer<QuestionImportReport> progress) {
+        if (!quizRepository.existsById(quizId)) {
+            throw new ResourceNotFoundException("Quiz not found with id " + quizId);
+        }
+        QuestionImportReport report = new QuestionImportReport(quizId);
+        List<ImportedQuestion> batch = new ArrayList<>(batchSize);
+        try (QuestionReader reader = format.open(in, objectMapper)) {
+            ImportedQuestion question;
+            while ((question = reader.next()) != null) {
+                report.recordRead();
+                String error = question.getError() != null ? question.getError() : validate(question);
+                if (error != null) {
+                    report.recordFailed(question.getRecord(), error);
+                    continue;
+                }
+                batch.add(question);
+                if (batch.size() == batchSize) {
+                    write(quizId, batch, report, progress);
+                }
+            }
+        } catch (IOException e) {
+            report.setError(e.getMessage());
+        }
+        // Questions read before a malformed part of the file are still valid
+        if (!batch.isEmpty()) {
+            write(quizId, batch, report, progress);
+        }
+        logger.info("Imported {} of {} questions into quiz {}, {} failed{}", report.getImported(),
+                report.getRead(), quizId, report.getFailed(),
+                report.getError() != null ? ", stopped early: " + report.getError() : "");
+        return report;
+    }
+
+    private void write(Long quizId, List<ImportedQuestion> batch, QuestionImportReport report,
+            Consumer<QuestionImportReport> progress) {
+        try {
+            questionBatchWriter.insertAll(quizId, batch);
+            report.recordImported(batch.size());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to save a batch of {} questions into quiz {}", batch.size(), quizId, e);
+            for (ImportedQuestion question : batch) {
+                report.recordFailed(question.getRecord(), "Batch could not be saved: " + e.getMessage());
+            }
+        }
+        batch.clear();
+        logger.debug("Import into quiz {}: {} read, {} imported, {} failed", quizId, report.getRead(),
+                report.getImported(), report.getFailed());
+        progress.accept(report);
+    }
+
+    /**
+     * Checks a question against the constraints of the question and answer
+     * option tables.
+     *
+     * @return The reason the question is invalid, or null if it is valid
+     */
+    private static String validate(ImportedQuestion question) {
+        if (question.getContent() == null || question.getContent().isBlank()) {
+            return "Question has no content";
+        }
+        if (question.getContent().length() > MAX_TEXT_LENGTH) {
+            return "Question content is longer than " + MAX_TEXT_LENGTH + " characters";
+        }
+        if (question.getDifficulty() != null && question.getDifficulty().length() > MAX_TEXT_LENGTH) {
+            return "Difficulty is longer than " + MAX_TEXT_LENGTH + " characters";
+        }
+        boolean hasCorrect = false;
+        for (ImportedQuestion.Option option : question.getOptions()) {
+            if (option.getText() == null || option.getText().isBlank()) {
+                return "Answer option has no text";
+            }
+            if (option.getText().length() > MAX_TEXT_LENGTH) {
+                return "Answer option is longer than " + MAX_TEXT_LENGTH + " characters";
+            }
+            hasCorrect |= option.isCorrect();
+        }
+        if (!hasCorrect) {
+            return "Question has no correct answer option";
+        }
+        return null;
+    }
+}
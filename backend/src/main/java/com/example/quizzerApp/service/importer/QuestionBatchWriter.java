@@ -0,0 +1,57 @@
+package com.example.quizzerApp.service.importer;
+
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.service.catalog.QuizChangeTracker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Saves one batch of validated imported questions in its own transaction.
+ * Question and option ids come from pooled sequences, so Hibernate writes
+ * the batch as a few JDBC batch inserts.
+ */
+@Component
+public class QuestionBatchWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Tracker of catalog and quiz versions
+     */
+    @Autowired
+    private QuizChangeTracker quizChangeTracker;
+
+    /**
+     * Inserts questions with their options into a quiz.
+     *
+     * @param quizId    The ID of the quiz
+     * @param questions The validated questions
+     */
+    @Transactional
+    public void insertAll(Long quizId, List<ImportedQuestion> questions) {
+        Quiz quiz = entityManager.getReference(Quiz.class, quizId);
+        for (ImportedQuestion imported : questions) {
+            Question question = new Question();
+            question.setContent(imported.getContent());
+            question.setDifficulty(imported.getDifficulty());
+            question.setQuiz(quiz);
+            for (ImportedQuestion.Option importedOption : imported.getOptions()) {
+                AnswerOption option = new AnswerOption();
+                option.setText(importedOption.getText());
+                option.setCorrect(importedOption.isCorrect());
+                question.addAnswerOption(option);
+            }
+            entityManager.persist(question);
+        }
+        entityManager.flush();
+        quizChangeTracker.quizContentChanged(quizId);
+    }
+}
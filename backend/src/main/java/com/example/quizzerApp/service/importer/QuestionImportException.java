@@ -0,0 +1,18 @@
+package com.example.quizzerApp.service.importer;
+
+import java.io.IOException;
+
+/**
+ * Thrown when an import file is malformed beyond the current record, so
+ * that no further questions can be read from it.
+ */
+public class QuestionImportException extends IOException {
+
+    public QuestionImportException(String message) {
+        super(message);
+    }
+
+    public QuestionImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.quizzerApp.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Formats question banks can be imported from.
+ */
+public enum QuestionImportFormat {
+
+    /** An array of questions, or an object with a "questions" array */
+    JSON,
+
+    /** A header row, then one question per row */
+    CSV,
+
+    /** Moodle XML; multichoice and truefalse questions are imported */
+    MOODLE_XML;
+
+    /**
+     * Resolves a format from a request parameter.
+     *
+     * @param value The parameter value, case-insensitive
+     * @return The format
+     * @throws IllegalArgumentException if the value is not a known format
+     */
+    public static QuestionImportFormat fromParameter(String value) {
+        return switch (value.toLowerCase()) {
+            case "json" -> JSON;
+            case "csv" -> CSV;
+            case "moodle", "xml" -> MOODLE_XML;
+            default -> throw new IllegalArgumentException(
+                    "Unknown format '" + value + "', expected json, csv or moodle");
+        };
+    }
+
+    /**
+     * Resolves a format from a content type or a file name.
+     *
+     * @param contentTypeOrFileName The content type of a request, or the name of a file
+     * @return The format, or null if it cannot be told
+     */
+    public static QuestionImportFormat detect(String contentTypeOrFileName) {
+        if (contentTypeOrFileName == null) {
+            return null;
+        }
+        String value = contentTypeOrFileName.toLowerCase();
+        if (value.contains("json")) {
+            return JSON;
+        }
+        if (value.contains("csv")) {
+            return CSV;
+        }
+        if (value.contains("xml")) {
+            return MOODLE_XML;
+        }
+        return null;
+    }
+
+    /**
+     * Opens a reader for a stream in this format.
+     *
+     * @param in           The stream to read; closed with the reader
+     * @param objectMapper Mapper used for JSON input
+     * @return The reader
+     * @throws IOException if the stream cannot be opened
+     */
+    public QuestionReader open(InputStream in, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case JSON -> new JsonQuestionReader(in, objectMapper);
+            case CSV -> new CsvQuestionReader(in);
+            case MOODLE_XML -> new MoodleXmlQuestionReader(in);
+        };
+    }
+}
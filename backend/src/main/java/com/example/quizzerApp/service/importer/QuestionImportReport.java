@@ -0,0 +1,115 @@
+package com.example.quizzerApp.service.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Progress and outcome of a question import.
+ * Only the first {@value #MAX_REPORTED_ERRORS} record errors are kept, so a
+ * file full of bad records cannot exhaust memory; {@link #getFailed()}
+ * counts all of them.
+ */
+public class QuestionImportReport {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private final Long quizId;
+    private long read;
+    private long imported;
+    private long failed;
+    private int batches;
+    private final List<RecordError> errors = new ArrayList<>();
+    private String error;
+
+    /**
+     * The reason one record was not imported.
+     */
+    public static class RecordError {
+
+        private final long record;
+        private final String message;
+
+        RecordError(long record, String message) {
+            this.record = record;
+            this.message = message;
+        }
+
+        public long getRecord() {
+            return record;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    QuestionImportReport(Long quizId) {
+        this.quizId = quizId;
+    }
+
+    void recordRead() {
+        read++;
+    }
+
+    void recordImported(int count) {
+        imported += count;
+        batches++;
+    }
+
+    void recordFailed(long record, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RecordError(record, message));
+        }
+    }
+
+    void setError(String error) {
+        this.error = error;
+    }
+
+    // Getters
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    /**
+     * Retrieves the number of records read so far.
+     *
+     * @return The number of records
+     */
+    public long getRead() {
+        return read;
+    }
+
+    /**
+     * Retrieves the number of questions saved so far.
+     *
+     * @return The number of questions in committed batches
+     */
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public int getBatches() {
+        return batches;
+    }
+
+    public List<RecordError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Retrieves the reason the import stopped early, if it did.
+     * Questions of batches committed before that remain imported.
+     *
+     * @return The error, or null if the whole file was read
+     */
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.quizzerApp.service.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pull reader for the questions of an import file.
+ * Implementations read one question at a time from the underlying stream,
+ * so memory use does not depend on the size of the file.
+ */
+public interface QuestionReader extends Closeable {
+
+    /**
+     * Reads the next question.
+     * A record that is well-formed but unusable, such as a CSV row with an
+     * unknown option number, is returned with its error set; reading
+     * continues with the next record.
+     *
+     * @return The next question, or null at the end of the file
+     * @throws QuestionImportException if the file is malformed and cannot be read further
+     * @throws IOException             if the stream cannot be read
+     */
+    ImportedQuestion next() throws IOException;
+}
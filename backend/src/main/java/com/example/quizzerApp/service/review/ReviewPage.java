@@ -0,0 +1,35 @@
+package com.example.quizzerApp.service.review;
+
+import com.example.quizzerApp.model.review.Review;
+
+import java.util.List;
+
+/**
+ * One page of a quiz's reviews, with the cursor for the following page.
+ */
+public class ReviewPage {
+
+    private final List<Review> reviews;
+    private final String nextCursor;
+
+    /**
+     * Creates a page.
+     *
+     * @param reviews    The reviews on this page
+     * @param nextCursor Cursor for the next page, or null if this is the last page
+     */
+    public ReviewPage(List<Review> reviews, String nextCursor) {
+        this.reviews = reviews;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+
+    public List<Review> getReviews() {
+        return reviews;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.quizzerApp.service.review;
+
+import com.example.quizzerApp.dto.KeysetCursor;
+import com.example.quizzerApp.exception.ResourceNotFoundException;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.model.review.QuizReviewStats;
+import com.example.quizzerApp.model.review.Review;
+import com.example.quizzerApp.repository.CatalogVersionRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.repository.QuizReviewStatsRepository;
+import com.example.quizzerApp.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Writes reviews together with the materialised review statistics of their
+ * quiz, so that both always change in the same transaction.
+ *
+ * Changes are applied as atomic deltas. A quiz without a statistics row (for
+ * example one whose reviews predate the statistics table) gets its row built
+ * from its reviews on the first write, under a lock on the quiz.
+ *
+ * Catalog responses include review counts and average ratings, so every
+ * review write also increments the catalog version.
+ */
+@Service
+public class ReviewService {
+
+    /**
+     * Repository for Review entity operations
+     */
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    /**
+     * Repository for QuizReviewStats entity operations
+     */
+    @Autowired
+    private QuizReviewStatsRepository quizReviewStatsRepository;
+
+    /**
+     * Repository for Quiz entity operations
+     */
+    @Autowired
+    private QuizRepository quizRepository;
+
+    /**
+     * Repository for the catalog-wide change counter
+     */
+    @Autowired
+    private CatalogVersionRepository catalogVersionRepository;
+
+    /**
+     * Creates a review for a quiz.
+     *
+     * @param quiz     The quiz being reviewed
+     * @param nickname The reviewer's nickname
+     * @param rating   The rating, between 1 and 5
+     * @param text     The review text
+     * @return The saved review
+     */
+    @Transactional
+    public Review createReview(Quiz quiz, String nickname, int rating, String text) {
+        Review review = new Review();
+        review.setNickname(nickname);
+        review.setRating(rating);
+        review.setText(text);
+        review.setQuiz(quiz);
+        Review savedReview = reviewRepository.saveAndFlush(review);
+
+        long[] histogram = new long[6];
+        histogram[rating]++;
+        applyDelta(quiz.getId(), 1, rating, histogram);
+        catalogVersionRepository.incrementOrCreate();
+        return savedReview;
+    }
+
+    /**
+     * Updates the rating and text of a review.
+     *
+     * @param id     The ID of the review
+     * @param rating The new rating, between 1 and 5
+     * @param text   The new review text
+     * @return The updated review
+     * @throws ResourceNotFoundException if no review exists with the given ID
+     */
+    @Transactional
+    public Review updateReview(Long id, int rating, String text) {
+        Review review = reviewRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Review not found with id " + id));
+        int oldRating = review.getRating();
+        Long quizId = review.getQuiz().getId();
+
+        review.setRating(rating);
+        review.setText(text);
+        Review updatedReview = reviewRepository.saveAndFlush(review);
+
+        if (oldRating != rating) {
+            long[] histogram = new long[6];
+            histogram[oldRating]--;
+            histogram[rating]++;
+            applyDelta(quizId, 0, rating - oldRating, histogram);
+        }
+        catalogVersionRepository.incrementOrCreate();
+        return updatedReview;
+    }
+
+    /**
+     * Deletes a review.
+     *
+     * @param id The ID of the review
+     * @throws ResourceNotFoundException if no review exists with the given ID
+     */
+    @Transactional
+    public void deleteReview(Long id) {
+        Review review = reviewRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Review not found with id " + id));
+        int rating = review.getRating();
+        Long quizId = review.getQuiz().getId();
+
+        reviewRepository.delete(review);
+        reviewRepository.flush();
+
+        long[] histogram = new long[6];
+        histogram[rating]--;
+        applyDelta(quizId, -1, -rating, histogram);
+        catalogVersionRepository.incrementOrCreate();
+    }
+
+    /**
+     * Retrieves the review statistics of a quiz.
+     * Quizzes without a statistics row are aggregated from their reviews
+     * without writing the row.
+     *
+     * @param quizId The ID of the quiz
+     * @return The review statistics
+     */
+    @Transactional(readOnly = true)
+    public QuizReviewStats getStats(Long quizId) {
+        return quizReviewStatsRepository.findById(quizId)
+                .orElseGet(() -> aggregate(quizId));
+    }
+
+    /**
+     * Reads one page of a quiz's reviews using keyset pagination.
+     * Each page seeks past the last row of the previous one, so reading a deep
+     * page costs the same as reading the first.
+     *
+     * @param quizId The ID of the quiz
+     * @param sort   The sort order
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @param size   The maximum number of reviews on the page
+     * @return The page of reviews
+     * @throws IllegalArgumentException if the cursor is malformed or belongs to another sort order
+     */
+    @Transactional(readOnly = true)
+    public ReviewPage listReviews(Long quizId, ReviewSort sort, String cursor, int size) {
+        // Read one extra row to find out whether there is a next page
+        Limit limit = Limit.of(size + 1);
+        List<Review> reviews;
+        if (cursor == null || cursor.isEmpty()) {
+            reviews = switch (sort) {
+                case NEWEST -> reviewRepository.findByQuizIdOrderByCreatedAtDescIdDesc(quizId, limit);
+                case OLDEST -> reviewRepository.findByQuizIdOrderByCreatedAtAscIdAsc(quizId, limit);
+                case HIGHEST -> reviewRepository.findByQuizIdOrderByRatingDescCreatedAtDescIdDesc(quizId, limit);
+                case LOWEST -> reviewRepository.findByQuizIdOrderByRatingAscCreatedAtAscIdAsc(quizId, limit);
+            };
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor, sort.name());
+            if (sort.isByRating() && after.getRank() == null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            reviews = switch (sort) {
+                case NEWEST -> reviewRepository.findNewestAfter(quizId, after.getTimestamp(), after.getId(), limit);
+                case OLDEST -> reviewRepository.findOldestAfter(quizId, after.getTimestamp(), after.getId(), limit);
+                case HIGHEST -> reviewRepository.findHighestAfter(quizId, after.getRank(), after.getTimestamp(),
+                        after.getId(), limit);
+                case LOWEST -> reviewRepository.findLowestAfter(quizId, after.getRank(), after.getTimestamp(),
+                        after.getId(), limit);
+            };
+        }
+
+        if (reviews.size() <= size) {
+            return new ReviewPage(reviews, null);
+        }
+        List<Review> page = reviews.subList(0, size);
+        Review last = page.get(size - 1);
+        String nextCursor = new KeysetCursor(sort.name(), last.getCreatedAt(), last.getId(),
+                sort.isByRating() ? last.getRating() : null).encode();
+        return new ReviewPage(page, nextCursor);
+    }
+
+    /**
+     * Removes the review statistics of a deleted quiz.
+     *
+     * @param quizId The ID of the deleted quiz
+     */
+    @Transactional
+    public void deleteStats(Long quizId) {
+        quizReviewStatsRepository.deleteById(quizId);
+    }
+
+    private void applyDelta(Long quizId, long count, long sum, long[] histogram) {
+        if (update(quizId, count, sum, histogram) > 0) {
+            return;
+        }
+        // No statistics row yet; serialise with other first writers of this quiz
+        quizRepository.findByIdForUpdate(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id " + quizId));
+        if (update(quizId, count, sum, histogram) > 0) {
+            return;
+        }
+        // The aggregate already includes this transaction's flushed change
+        quizReviewStatsRepository.saveAndFlush(aggregate(quizId));
+    }
+
+    private int update(Long quizId, long count, long sum, long[] histogram) {
+        return quizReviewStatsRepository.applyDelta(quizId, count, sum,
+                histogram[1], histogram[2], histogram[3], histogram[4], histogram[5]);
+    }
+
+    private QuizReviewStats aggregate(Long quizId) {
+        QuizReviewStats stats = new QuizReviewStats(quizId);
+        List<Object[]> rows = reviewRepository.countByRating(quizId);
+        for (Object[] row : rows) {
+            stats.add(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.quizzerApp.service.review;
+
+/**
+ * Sort orders for a quiz's review listing.
+ * Every order ends with the review ID so that rows with equal keys still have
+ * a stable position for keyset pagination.
+ */
+public enum ReviewSort {
+
+    /** Most recent first */
+    NEWEST,
+
+    /** Oldest first */
+    OLDEST,
+
+    /** Highest rating first, most recent first within a rating */
+    HIGHEST,
+
+    /** Lowest rating first, oldest first within a rating */
+    LOWEST;
+
+    /**
+     * Resolves a sort order from a request parameter.
+     *
+     * @param value The parameter value, case-insensitive
+     * @return The sort order
+     * @throws IllegalArgumentException if the value is not a known sort order
+     */
+    public static ReviewSort fromParameter(String value) {
+        for (ReviewSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort '" + value + "', expected newest, oldest, highest or lowest");
+    }
+
+    /**
+     * Checks whether the rating is the leading sort key.
+     *
+     * @return true for the rating based orders
+     */
+    public boolean isByRating() {
+        return this == HIGHEST || this == LOWEST;
+    }
+}
@@ -1,21 +1,21 @@
 -- Create backend/src/main/resources/data.sql
 -- Initial Categories
-INSERT INTO category (name, description) VALUES 
-('Programming', 'Programming and coding related quizzes')
+INSERT INTO category (id, name, description, version) VALUES
+(nextval('category_seq'), 'Programming', 'Programming and coding related quizzes', 0)
 ON CONFLICT (name) DO UPDATE SET description = EXCLUDED.description;
 
-INSERT INTO category (name, description) VALUES 
-('Mathematics', 'Math concepts and problem solving')
+INSERT INTO category (id, name, description, version) VALUES
+(nextval('category_seq'), 'Mathematics', 'Math concepts and problem solving', 0)
 ON CONFLICT (name) DO UPDATE SET description = EXCLUDED.description;
 
-INSERT INTO category (name, description) VALUES 
-('Science', 'Scientific theories and experiments')
+INSERT INTO category (id, name, description, version) VALUES
+(nextval('category_seq'), 'Science', 'Scientific theories and experiments', 0)
 ON CONFLICT (name) DO UPDATE SET description = EXCLUDED.description;
 
-INSERT INTO category (name, description) VALUES 
-('Languages', 'Language learning and linguistics')
+INSERT INTO category (id, name, description, version) VALUES
+(nextval('category_seq'), 'Languages', 'Language learning and linguistics', 0)
 ON CONFLICT (name) DO UPDATE SET description = EXCLUDED.description;
 
-INSERT INTO category (name, description) VALUES 
-('History', 'Historical events and figures')
+INSERT INTO category (id, name, description, version) VALUES
+(nextval('category_seq'), 'History', 'Historical events and figures', 0)
 ON CONFLICT (name) DO UPDATE SET description = EXCLUDED.description;
@@ -0,0 +1,30 @@
+-- Keyset pagination of answer histories, ordered by (submitted_at, id) within
+-- a quiz, a user, a user's quiz or a question. answer.quiz_id copies the
+-- question's quiz, so that a quiz's answers are one index range instead of a
+-- join through question.
+ALTER TABLE answer ADD COLUMN IF NOT EXISTS quiz_id BIGINT;
+
+UPDATE answer a
+SET quiz_id = q.quiz_id
+FROM question q
+WHERE a.question_id = q.id
+  AND a.quiz_id IS NULL
+  AND q.quiz_id IS NOT NULL;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_answer_quiz') THEN
+        ALTER TABLE answer ADD CONSTRAINT fk_answer_quiz FOREIGN KEY (quiz_id) REFERENCES quiz (id);
+    END IF;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_answer_quiz_submitted ON answer (quiz_id, submitted_at, id);
+CREATE INDEX IF NOT EXISTS idx_answer_user_submitted ON answer (user_id, submitted_at, id);
+CREATE INDEX IF NOT EXISTS idx_answer_user_quiz_submitted ON answer (user_id, quiz_id, submitted_at, id);
+
+-- Leads with the same column as the foreign key index it replaces
+CREATE INDEX IF NOT EXISTS idx_answer_question_submitted ON answer (question_id, submitted_at, id);
+DROP INDEX IF EXISTS idx_answer_question;
+
+-- Superseded by the user indexes above
+DROP INDEX IF EXISTS idx_answer_user_question;
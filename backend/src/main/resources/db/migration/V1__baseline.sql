@@ -0,0 +1,55 @@
+-- Schema of the catalog and answer tables as it was created by Hibernate
+-- before migrations were introduced, with identity primary keys; V4 moves
+-- them to sequences. Databases created that way already have these tables,
+-- so every statement is safe to run on them.
+
+CREATE TABLE IF NOT EXISTS category (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    CONSTRAINT uk_category_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS quiz (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    course_code VARCHAR(255),
+    published BOOLEAN NOT NULL,
+    date_added TIMESTAMP(6),
+    category_id BIGINT,
+    CONSTRAINT fk_quiz_category FOREIGN KEY (category_id) REFERENCES category (id)
+);
+
+CREATE TABLE IF NOT EXISTS question (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content VARCHAR(255),
+    difficulty VARCHAR(255),
+    quiz_id BIGINT,
+    CONSTRAINT fk_question_quiz FOREIGN KEY (quiz_id) REFERENCES quiz (id)
+);
+
+CREATE TABLE IF NOT EXISTS answer_option (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    text VARCHAR(255),
+    is_correct BOOLEAN NOT NULL,
+    question_id BIGINT,
+    CONSTRAINT fk_answer_option_question FOREIGN KEY (question_id) REFERENCES question (id)
+);
+
+CREATE TABLE IF NOT EXISTS answer (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id VARCHAR(255),
+    question_id BIGINT,
+    answer_option_id BIGINT,
+    correct BOOLEAN NOT NULL,
+    submitted_at TIMESTAMP(6),
+    CONSTRAINT fk_answer_question FOREIGN KEY (question_id) REFERENCES question (id),
+    CONSTRAINT fk_answer_answer_option FOREIGN KEY (answer_option_id) REFERENCES answer_option (id)
+);
+
+CREATE TABLE IF NOT EXISTS submitted_answer (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    answer_option_id BIGINT,
+    CONSTRAINT fk_submitted_answer_answer_option FOREIGN KEY (answer_option_id) REFERENCES answer_option (id)
+);
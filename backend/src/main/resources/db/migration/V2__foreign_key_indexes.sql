@@ -0,0 +1,20 @@
+-- Indexes on every foreign key and on the predicates of the repository
+-- queries. PostgreSQL does not index foreign keys by itself, so without them
+-- each lookup of a quiz's questions, a question's options or a user's answers
+-- scans the whole table. review.quiz_id is covered by the keyset indexes of V6,
+-- which lead with it.
+
+-- Quizzes of a category, and published quizzes with or without a category
+CREATE INDEX IF NOT EXISTS idx_quiz_category ON quiz (category_id);
+CREATE INDEX IF NOT EXISTS idx_quiz_published_category ON quiz (published, category_id);
+
+CREATE INDEX IF NOT EXISTS idx_question_quiz ON question (quiz_id);
+
+CREATE INDEX IF NOT EXISTS idx_answer_option_question ON answer_option (question_id);
+
+-- Answers of a question, of an option, and of a user (optionally within one quiz)
+CREATE INDEX IF NOT EXISTS idx_answer_question ON answer (question_id);
+CREATE INDEX IF NOT EXISTS idx_answer_answer_option ON answer (answer_option_id);
+CREATE INDEX IF NOT EXISTS idx_answer_user_question ON answer (user_id, question_id);
+
+CREATE INDEX IF NOT EXISTS idx_submitted_answer_answer_option ON submitted_answer (answer_option_id);
@@ -1,4 +1,4 @@
-CREATE TABLE review (
+CREATE TABLE IF NOT EXISTS review (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     nickname VARCHAR(255),
     rating INT NOT NULL CHECK (rating BETWEEN 1 AND 5),
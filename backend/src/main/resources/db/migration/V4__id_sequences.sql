@@ -0,0 +1,28 @@
+-- Moves primary key generation from identity columns to pooled sequences.
+-- Hibernate allocates ids in blocks of 50 (allocationSize), so each sequence
+-- increments by 50 and is positioned past the current maximum id: the first
+-- nextval() then hands out the block (max, max + 50]. A sequence that is
+-- already in use is never moved backwards.
+-- Safe to run more than once.
+
+CREATE SEQUENCE IF NOT EXISTS category_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS quiz_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS question_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS answer_option_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS answer_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS review_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('category_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM category) + 50, (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM category_seq)), false);
+SELECT setval('quiz_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM quiz) + 50, (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM quiz_seq)), false);
+SELECT setval('question_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM question) + 50, (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM question_seq)), false);
+SELECT setval('answer_option_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM answer_option) + 50, (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM answer_option_seq)), false);
+SELECT setval('answer_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM answer) + 50, (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM answer_seq)), false);
+SELECT setval('review_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM review) + 50, (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM review_seq)), false);
+
+-- Ids are now always supplied by the application
+ALTER TABLE category ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE quiz ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE question ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE answer_option ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE answer ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE review ALTER COLUMN id DROP IDENTITY IF EXISTS;
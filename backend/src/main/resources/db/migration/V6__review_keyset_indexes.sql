@@ -0,0 +1,5 @@
+-- Indexes backing keyset pagination of a quiz's reviews.
+-- Newest/oldest pages seek on (created_at, id), rating sorted pages on
+-- (rating, created_at, id), always within one quiz.
+CREATE INDEX IF NOT EXISTS idx_review_quiz_created ON review (quiz_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_review_quiz_rating_created ON review (quiz_id, rating, created_at, id);
@@ -0,0 +1,15 @@
+-- Optimistic locking versions of the catalog entities, and a single-row
+-- counter of catalog changes. Together they back the entity tags of the quiz,
+-- question and category endpoints. Existing rows start at version 0.
+ALTER TABLE quiz ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE question ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE answer_option ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE category ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS catalog_version (
+    id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT chk_catalog_version_single_row CHECK (id = 1)
+);
+
+INSERT INTO catalog_version (id, version) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
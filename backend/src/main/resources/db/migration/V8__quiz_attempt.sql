@@ -0,0 +1,21 @@
+-- Graded quiz submissions. results packs the question ID and correctness of
+-- every answer (see AttemptResultCodec), so an attempt is read back from a
+-- single row. Attempts are removed together with their quiz.
+CREATE SEQUENCE IF NOT EXISTS quiz_attempt_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS quiz_attempt (
+    id BIGINT PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL,
+    quiz_id BIGINT NOT NULL,
+    score INT NOT NULL,
+    correct_answers INT NOT NULL,
+    total_questions INT NOT NULL,
+    results BYTEA NOT NULL,
+    started_at TIMESTAMP(6),
+    submitted_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_quiz_attempt_quiz FOREIGN KEY (quiz_id) REFERENCES quiz (id) ON DELETE CASCADE
+);
+
+-- A user's attempts, overall or at one quiz, and a quiz's attempts, newest first
+CREATE INDEX IF NOT EXISTS idx_quiz_attempt_user_quiz_submitted ON quiz_attempt (user_id, quiz_id, submitted_at, id);
+CREATE INDEX IF NOT EXISTS idx_quiz_attempt_quiz_submitted ON quiz_attempt (quiz_id, submitted_at, id);
@@ -0,0 +1,32 @@
+-- Rolled-up answer counts per question and per answer option, incremented by
+-- the application with deltas it collects in memory. Rows are removed
+-- together with their question or option.
+CREATE TABLE IF NOT EXISTS question_answer_stats (
+    question_id BIGINT PRIMARY KEY,
+    correct_count BIGINT NOT NULL DEFAULT 0,
+    wrong_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_question_answer_stats_question FOREIGN KEY (question_id) REFERENCES question (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS option_answer_stats (
+    answer_option_id BIGINT PRIMARY KEY,
+    selected_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_option_answer_stats_answer_option FOREIGN KEY (answer_option_id) REFERENCES answer_option (id) ON DELETE CASCADE
+);
+
+-- Backfill from the existing answers
+INSERT INTO question_answer_stats (question_id, correct_count, wrong_count)
+SELECT question_id,
+       COUNT(*) FILTER (WHERE correct),
+       COUNT(*) FILTER (WHERE NOT correct)
+FROM answer
+WHERE question_id IS NOT NULL
+GROUP BY question_id
+ON CONFLICT (question_id) DO NOTHING;
+
+INSERT INTO option_answer_stats (answer_option_id, selected_count)
+SELECT answer_option_id, COUNT(*)
+FROM answer
+WHERE answer_option_id IS NOT NULL
+GROUP BY answer_option_id
+ON CONFLICT (answer_option_id) DO NOTHING;
@@ -0,0 +1,25 @@
+package com.example.quizzerApp.benchmark;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Submit throughput with the logging settings of the default application
+ * configuration: SQL echoed to stdout and DEBUG for Hibernate, Spring MVC and
+ * the application.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:quizzer-logging-default;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=true",
+        "logging.level.org.springframework.web=DEBUG",
+        "logging.level.org.hibernate=DEBUG",
+        "logging.level.com.example.quizzerApp=DEBUG"
+})
+@AutoConfigureMockMvc
+class DefaultLoggingSubmitBenchmarkTest extends SubmitLoggingBenchmark {
+
+    @Override
+    String configurationName() {
+        return "default logging";
+    }
+}
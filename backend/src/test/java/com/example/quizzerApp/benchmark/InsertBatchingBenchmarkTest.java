@@ -0,0 +1,153 @@
+package com.example.quizzerApp.benchmark;
+
+import com.example.quizzerApp.model.Answer;
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares insert throughput for answer options and answers with and without
+ * JDBC batching. The unbatched mode sends one statement per row, as identity
+ * id generation forced on every insert; the batched mode uses the configured
+ * {@code hibernate.jdbc.batch_size} with ids from the pooled sequences.
+ *
+ * Only runs with {@code mvn test -Pbenchmark}. Numbers are printed to stdout
+ * and depend on the database the test runs against.
+ */
+@SpringBootTest
+@Transactional
+@Tag("benchmark")
+class InsertBatchingBenchmarkTest {
+
+    private static final int QUESTIONS = 250;
+    private static final int OPTIONS_PER_QUESTION = 8;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void answerOptionInsertThroughput() {
+        Quiz quiz = new Quiz();
+        quiz.setName("Benchmark Quiz");
+        entityManager.persist(quiz);
+        entityManager.flush();
+        Long quizId = quiz.getId();
+
+        int rows = QUESTIONS * (OPTIONS_PER_QUESTION + 1);
+        Result unbatched = measure("questions + options, unbatched", rows, 1,
+                () -> insertQuestionsWithOptions(entityManager.getReference(Quiz.class, quizId)));
+        Result batched = measure("questions + options, batched", rows, null,
+                () -> insertQuestionsWithOptions(entityManager.getReference(Quiz.class, quizId)));
+
+        assertThat(batched.statements()).isLessThan(unbatched.statements());
+    }
+
+    @Test
+    void answerInsertThroughput() {
+        Quiz quiz = new Quiz();
+        quiz.setName("Benchmark Quiz");
+        entityManager.persist(quiz);
+        List<Question> questions = insertQuestionsWithOptions(quiz);
+        entityManager.flush();
+        entityManager.clear();
+
+        int rows = QUESTIONS * OPTIONS_PER_QUESTION;
+        Result unbatched = measure("answers, unbatched", rows, 1, () -> insertAnswers(questions));
+        Result batched = measure("answers, batched", rows, null, () -> insertAnswers(questions));
+
+        assertThat(batched.statements()).isLessThan(unbatched.statements());
+    }
+
+    private List<Question> insertQuestionsWithOptions(Quiz quiz) {
+        List<Question> questions = new ArrayList<>(QUESTIONS);
+        for (int q = 0; q < QUESTIONS; q++) {
+            Question question = new Question();
+            question.setContent("Question " + q);
+            question.setQuiz(quiz);
+            for (int o = 0; o < OPTIONS_PER_QUESTION; o++) {
+                AnswerOption option = new AnswerOption();
+                option.setText("Option " + o);
+                option.setCorrect(o == 0);
+                option.setQuestion(question);
+                question.getAnswers().add(option);
+            }
+            // Cascades to the options
+            entityManager.persist(question);
+            questions.add(question);
+        }
+        return questions;
+    }
+
+    private void insertAnswers(List<Question> questions) {
+        // Questions and options are detached; answers only need their ids
+        for (Question question : questions) {
+            for (AnswerOption option : question.getAnswers()) {
+                entityManager.persist(new Answer("benchmark-user", question, option));
+            }
+        }
+    }
+
+    /**
+     * Runs warm-up and measured rounds, flushing and clearing after each one.
+     *
+     * @param label        Label for the printed result line
+     * @param rowsPerRound Number of rows one round inserts
+     * @param jdbcBatchSize Session batch size, or null for the configured one
+     * @param round        The inserts of one round
+     * @return Statement count and elapsed time of the measured rounds
+     */
+    private Result measure(String label, int rowsPerRound, Integer jdbcBatchSize, Runnable round) {
+        Session session = entityManager.unwrap(Session.class);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(jdbcBatchSize);
+        try {
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                runRound(round);
+            }
+
+            statistics.clear();
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                runRound(round);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            long statements = statistics.getPrepareStatementCount();
+            double rowsPerSecond = (double) rowsPerRound * MEASURED_ROUNDS / (elapsed / 1_000_000_000.0);
+            System.out.printf("%-32s %7d rows  %6d statements  %8.1f ms  %10.0f rows/s%n",
+                    label, rowsPerRound * MEASURED_ROUNDS, statements, elapsed / 1_000_000.0, rowsPerSecond);
+            return new Result(statements, elapsed);
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    private void runRound(Runnable round) {
+        round.run();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private record Result(long statements, long elapsedNanos) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.quizzerApp.benchmark;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Submit throughput with the prod logging profile: async structured output,
+ * sampled hot-path debug events and the per-request log budget.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:quizzer-logging-prod;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("prod")
+@AutoConfigureMockMvc
+class ProdLoggingSubmitBenchmarkTest extends SubmitLoggingBenchmark {
+
+    @Override
+    String configurationName() {
+        return "prod logging";
+    }
+}
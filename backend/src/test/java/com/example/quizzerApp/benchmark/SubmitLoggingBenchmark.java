@@ -0,0 +1,116 @@
+package com.example.quizzerApp.benchmark;
+
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.repository.QuestionRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Measures quiz submit throughput from concurrent request threads under a
+ * logging configuration chosen by the subclass. Comparing the subclasses shows
+ * what synchronous console logging costs on the submit path.
+ *
+ * Only runs with {@code mvn test -Pbenchmark}. Numbers are printed to stdout.
+ */
+@Tag("benchmark")
+abstract class SubmitLoggingBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int QUESTIONS = 20;
+    private static final int WARMUP_SUBMITS = 2_000;
+    private static final int MEASURED_SUBMITS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    /**
+     * Names the logging configuration in the printed result.
+     */
+    abstract String configurationName();
+
+    @Test
+    void submitThroughput() throws Exception {
+        Quiz quiz = new Quiz();
+        quiz.setName("Logging Benchmark Quiz");
+        quiz.setPublished(true);
+        quiz = quizRepository.save(quiz);
+
+        StringBuilder body = new StringBuilder("{\"answers\":[");
+        for (int i = 0; i < QUESTIONS; i++) {
+            Question question = new Question();
+            question.setContent("Question " + i);
+            question.setQuiz(quiz);
+            AnswerOption option = new AnswerOption();
+            option.setText("Answer " + i);
+            option.setCorrect(i % 2 == 0);
+            question.addAnswerOption(option);
+            question = questionRepository.save(question);
+            body.append(i == 0 ? "" : ",")
+                    .append("{\"questionId\":").append(question.getId())
+                    .append(",\"selectedAnswerId\":").append(question.getAnswers().get(0).getId())
+                    .append('}');
+        }
+        String submission = body.append("]}").toString();
+        String path = "/api/quizzes/" + quiz.getId() + "/submit";
+
+        run(path, submission, WARMUP_SUBMITS);
+        long start = System.nanoTime();
+        int failures = run(path, submission, MEASURED_SUBMITS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%n[%s] %d submits from %d threads: %.0f submits/s%n%n",
+                configurationName(), MEASURED_SUBMITS, THREADS, MEASURED_SUBMITS / seconds);
+        assertThat(failures).isZero();
+    }
+
+    private int run(String path, String submission, int submits) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int share = submits / THREADS;
+                futures.add(pool.submit(() -> {
+                    int failures = 0;
+                    for (int i = 0; i < share; i++) {
+                        int status = mockMvc.perform(post(path)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(submission))
+                                .andReturn().getResponse().getStatus();
+                        if (status != 200) {
+                            failures++;
+                        }
+                    }
+                    return failures;
+                }));
+            }
+            int failures = 0;
+            for (Future<Integer> future : futures) {
+                failures += future.get();
+            }
+            return failures;
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+}
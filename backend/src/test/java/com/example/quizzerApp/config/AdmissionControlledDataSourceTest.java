@@ -0,0 +1,47 @@
+package com.example.quizzerApp.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlledDataSourceTest {
+
+    private AdmissionControlledDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource target = new JdbcDataSource();
+        target.setURL("jdbc:h2:mem:admission-test;DB_CLOSE_DELAY=-1");
+        dataSource = new AdmissionControlledDataSource(target, 2, 50);
+    }
+
+    @Test
+    void releasesPermitOnceWhenConnectionIsClosed() throws Exception {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertThat(dataSource.getAvailablePermits()).isZero();
+
+        first.close();
+        first.close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+
+        second.close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void failsAfterTimeoutWhenNoPermitIsFree() throws Exception {
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            assertThat(first.isValid(1)).isTrue();
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+        }
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+}
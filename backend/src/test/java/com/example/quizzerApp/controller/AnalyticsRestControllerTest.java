@@ -0,0 +1,200 @@
+package com.example.quizzerApp.controller;
+
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.model.analytics.OptionAnswerStats;
+import com.example.quizzerApp.model.analytics.QuestionAnswerStats;
+import com.example.quizzerApp.repository.OptionAnswerStatsRepository;
+import com.example.quizzerApp.repository.QuestionAnswerStatsRepository;
+import com.example.quizzerApp.repository.QuestionRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.service.analytics.AnswerStatsCollector;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class AnalyticsRestControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private QuestionAnswerStatsRepository questionAnswerStatsRepository;
+    @Autowired
+    private OptionAnswerStatsRepository optionAnswerStatsRepository;
+    @Autowired
+    private AnswerStatsCollector answerStatsCollector;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Quiz quiz;
+    private Question first;
+    private Question second;
+
+    @BeforeEach
+    void setUp() {
+        quiz = new Quiz();
+        quiz.setName("Analysed Quiz");
+        quiz.setPublished(true);
+        quiz = quizRepository.save(quiz);
+        first = saveQuestion("What is 2+2?", "4", "5");
+        second = saveQuestion("What is 3+3?", "6", "7");
+    }
+
+    @Test
+    void countsAnswersFromEverySubmissionPath() throws Exception {
+        submitAnswer(first, 0);
+        submitAnswer(first, 1);
+        mockMvc.perform(post("/api/answers/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"answers\":[" + answer(first, 0) + "," + answer(second, 1) + "]}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"answers\":[{\"questionId\":" + first.getId() + ",\"selectedAnswerId\":"
+                                + optionId(first, 0) + "}]}"))
+                .andExpect(status().isOk());
+
+        // Not flushed yet: the counts come from memory
+        expectResults();
+
+        answerStatsCollector.flush();
+        QuestionAnswerStats stats = questionAnswerStatsRepository.findById(first.getId()).orElseThrow();
+        assertThat(stats.getCorrectCount()).isEqualTo(3);
+        assertThat(stats.getWrongCount()).isEqualTo(1);
+        OptionAnswerStats selections = optionAnswerStatsRepository.findById(optionId(second, 1)).orElseThrow();
+        assertThat(selections.getSelectedCount()).isEqualTo(1);
+
+        // Flushed: the same counts come from the rollup rows
+        expectResults();
+    }
+
+    @Test
+    void repeatedQuestionInSubmissionIsNotCounted() throws Exception {
+        String answer = "{\"questionId\":" + first.getId() + ",\"selectedAnswerId\":" + optionId(first, 0) + "}";
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"answers\":[" + answer + "," + answer + "]}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(answerStatsCollector.pendingAnswers(first.getId())).isNull();
+    }
+
+    @Test
+    void reportsOptionSelectionRates() throws Exception {
+        submitAnswer(first, 0);
+        submitAnswer(first, 0);
+        submitAnswer(first, 0);
+        answerStatsCollector.flush();
+        submitAnswer(first, 1);
+
+        mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/results/options"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].optionId", is(optionId(first, 0).intValue())))
+                .andExpect(jsonPath("$[0].correct", is(true)))
+                .andExpect(jsonPath("$[0].selectedCount", is(3)))
+                .andExpect(jsonPath("$[0].selectionRate", closeTo(0.75, 0.0001)))
+                .andExpect(jsonPath("$[1].selectedCount", is(1)))
+                .andExpect(jsonPath("$[1].selectionRate", closeTo(0.25, 0.0001)))
+                .andExpect(jsonPath("$[2].selectedCount", is(0)))
+                .andExpect(jsonPath("$[2].selectionRate", is(0.0)));
+    }
+
+    @Test
+    void resultsCostTheSameNumberOfStatementsRegardlessOfAnswers() throws Exception {
+        submitAnswer(first, 0);
+        answerStatsCollector.flush();
+        long fewAnswers = countResultStatements();
+
+        for (int i = 0; i < 20; i++) {
+            submitAnswer(i % 2 == 0 ? first : second, i % 3 == 0 ? 0 : 1);
+        }
+        answerStatsCollector.flush();
+        assertThat(countResultStatements()).isEqualTo(fewAnswers);
+    }
+
+    @Test
+    void returnsNotFoundForUnknownQuiz() throws Exception {
+        mockMvc.perform(get("/api/quizzes/99999/results"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error", containsString("99999")));
+        mockMvc.perform(get("/api/quizzes/99999/results/options"))
+                .andExpect(status().isNotFound());
+    }
+
+    private void expectResults() throws Exception {
+        mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/results"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].questionId", is(first.getId().intValue())))
+                .andExpect(jsonPath("$[0].content", is("What is 2+2?")))
+                .andExpect(jsonPath("$[0].correctCount", is(3)))
+                .andExpect(jsonPath("$[0].wrongCount", is(1)))
+                .andExpect(jsonPath("$[0].correctRate", closeTo(0.75, 0.0001)))
+                .andExpect(jsonPath("$[1].correctCount", is(0)))
+                .andExpect(jsonPath("$[1].wrongCount", is(1)));
+    }
+
+    private long countResultStatements() throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/results"))
+                .andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void submitAnswer(Question question, int option) throws Exception {
+        mockMvc.perform(post("/api/answers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(answer(question, option)))
+                .andExpect(status().isCreated());
+    }
+
+    private Question saveQuestion(String content, String right, String wrong) {
+        Question question = new Question();
+        question.setContent(content);
+        question.setQuiz(quiz);
+        AnswerOption correct = new AnswerOption();
+        correct.setText(right);
+        correct.setCorrect(true);
+        question.addAnswerOption(correct);
+        AnswerOption incorrect = new AnswerOption();
+        incorrect.setText(wrong);
+        question.addAnswerOption(incorrect);
+        return questionRepository.save(question);
+    }
+
+    private Long optionId(Question question, int option) {
+        return question.getAnswers().get(option).getId();
+    }
+
+    private String answer(Question question, int option) {
+        return "{\"questionId\":" + question.getId() + ",\"answerOptionId\":" + optionId(question, option) + "}";
+    }
+}
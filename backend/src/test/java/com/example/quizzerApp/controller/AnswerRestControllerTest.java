@@ -1,20 +1,42 @@
 package com.example.quizzerApp.controller;
 
+import com.example.quizzerApp.model.Answer;
 import com.example.quizzerApp.model.Quiz;
 import com.example.quizzerApp.model.Question;
 import com.example.quizzerApp.model.AnswerOption;
 import com.example.quizzerApp.repository.QuizRepository;
 import com.example.quizzerApp.repository.QuestionRepository;
 import com.example.quizzerApp.repository.AnswerOptionRepository;
+import com.example.quizzerApp.repository.AnswerRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -30,6 +52,14 @@ class AnswerRestControllerTest {
         private QuestionRepository questionRepository;
         @Autowired
         private AnswerOptionRepository answerOptionRepository;
+        @Autowired
+        private AnswerRepository answerRepository;
+        @Autowired
+        private EntityManager entityManager;
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+        @Autowired
+        private ObjectMapper objectMapper;
 
         private Quiz quiz;
         private Question question;
@@ -124,4 +154,188 @@ class AnswerRestControllerTest {
                                 .content(submissionJson))
                                 .andExpect(status().isBadRequest());
         }
-}
\ No newline at end of file
+
+        @Test
+        void submitAnswerBatch_ReportsPerItemOutcomes() throws Exception {
+                long answersBefore = answerRepository.count();
+                String batchJson = "{\"userId\":\"testuser\",\"answers\":[" +
+                                "{\"questionId\":" + question.getId() + ",\"answerOptionId\":" + correctOption.getId() + "}," +
+                                "{\"questionId\":" + question.getId() + ",\"answerOptionId\":" + wrongOption.getId() + "}," +
+                                "{\"questionId\":999999,\"answerOptionId\":" + correctOption.getId() + "}," +
+                                "{\"questionId\":" + question.getId() + ",\"answerOptionId\":999999}]}";
+                mockMvc.perform(post("/api/answers/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(batchJson))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.accepted").value(2))
+                                .andExpect(jsonPath("$.rejected").value(2))
+                                .andExpect(jsonPath("$.results[0].index").value(0))
+                                .andExpect(jsonPath("$.results[0].correct").value(true))
+                                .andExpect(jsonPath("$.results[1].correct").value(false))
+                                .andExpect(jsonPath("$.results[2].accepted").value(false))
+                                .andExpect(jsonPath("$.results[2].error")
+                                                .value(org.hamcrest.Matchers.containsString("Question not found")))
+                                .andExpect(jsonPath("$.results[3].error")
+                                                .value(org.hamcrest.Matchers.containsString("Answer option not found")));
+
+                assertEquals(answersBefore + 2, answerRepository.count());
+                assertEquals(2, answerRepository.findByUserIdAndQuizIdOrderBySubmittedAtAscIdAsc("testuser", quiz.getId(),
+                                Limit.of(10)).size());
+        }
+
+        @Test
+        void getAnswersForQuiz_LoadsQuestionsAndOptionsInOneStatement() throws Exception {
+                for (int i = 0; i < 3; i++) {
+                        Question other = new Question();
+                        other.setContent("Question " + i);
+                        other.setQuiz(quiz);
+                        AnswerOption option = new AnswerOption();
+                        option.setText("Option " + i);
+                        option.setCorrect(i % 2 == 0);
+                        other.addAnswerOption(option);
+                        questionRepository.save(other);
+                        answerRepository.save(new Answer("student-" + i, other, option));
+                }
+                answerRepository.save(new Answer("student-0", question, correctOption));
+
+                entityManager.flush();
+                entityManager.clear();
+                entityManagerFactory.getCache().evictAll();
+                Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                statistics.clear();
+                mockMvc.perform(get("/api/answers/quiz/" + quiz.getId()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(4)));
+                // No secondary selects for the questions and selected options
+                assertEquals(1, statistics.getPrepareStatementCount());
+        }
+
+        @Test
+        void submitAnswerBatch_EmptyBatch() throws Exception {
+                mockMvc.perform(post("/api/answers/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"answers\":[]}"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void exportAnswersForQuiz_StreamsNdjsonInOneStatement() throws Exception {
+                answerRepository.save(new Answer("student-1", question, correctOption));
+                answerRepository.save(new Answer("student-2", question, wrongOption));
+
+                entityManager.flush();
+                entityManager.clear();
+                Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                statistics.clear();
+
+                String body = mockMvc.perform(get("/api/answers/quiz/" + quiz.getId() + "/export"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                                .andExpect(header().string("Content-Disposition",
+                                                containsString("quiz-" + quiz.getId() + "-answers.ndjson")))
+                                .andReturn().getResponse().getContentAsString();
+                String[] lines = body.split("\n");
+                assertEquals(2, lines.length);
+                JsonNode first = objectMapper.readTree(lines[0]);
+                assertEquals("student-1", first.get("userId").asText());
+                assertTrue(first.get("correct").asBoolean());
+                assertEquals("5", objectMapper.readTree(lines[1]).get("selectedOptionText").asText());
+                // The quiz lookup and the answer cursor, nothing per row
+                assertEquals(2, statistics.getPrepareStatementCount());
+        }
+
+        @Test
+        void exportAnswersForQuiz_WritesQuotedCsv() throws Exception {
+                question.setContent("Is \"2+2\" 4, or 5?");
+                questionRepository.save(question);
+                answerRepository.save(new Answer("student-1", question, correctOption));
+                entityManager.flush();
+                entityManager.clear();
+
+                String body = mockMvc.perform(get("/api/answers/quiz/" + quiz.getId() + "/export")
+                                .param("format", "csv"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                                .andReturn().getResponse().getContentAsString();
+                String[] lines = body.split("\r\n");
+                assertEquals(2, lines.length);
+                assertEquals("id,userId,questionId,questionContent,selectedOptionId,selectedOptionText,correct,submittedAt",
+                                lines[0]);
+                assertTrue(lines[1].contains(",student-1," + question.getId()
+                                + ",\"Is \"\"2+2\"\" 4, or 5?\"," + correctOption.getId() + ",4,true,"));
+        }
+
+        @Test
+        void exportAnswersForQuiz_RejectsUnknownFormatAndQuiz() throws Exception {
+                mockMvc.perform(get("/api/answers/quiz/" + quiz.getId() + "/export").param("format", "xml"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.error").value(containsString("xml")));
+                mockMvc.perform(get("/api/answers/quiz/999999/export"))
+                                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        void getAnswersForQuiz_PagesThroughEqualTimestampsWithoutGapsOrRepeats() throws Exception {
+                LocalDateTime submittedAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+                List<Long> expected = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                        Answer answer = new Answer("student-" + i, question, i % 2 == 0 ? correctOption : wrongOption);
+                        answer.setSubmittedAt(submittedAt);
+                        expected.add(answerRepository.save(answer).getId());
+                }
+
+                List<Long> seen = new ArrayList<>();
+                String cursor = null;
+                int pages = 0;
+                do {
+                        MockHttpServletRequestBuilder request = get("/api/answers/quiz/" + quiz.getId()).param("size", "2");
+                        if (cursor != null) {
+                                request.param("cursor", cursor);
+                        }
+                        MockHttpServletResponse response = mockMvc.perform(request)
+                                        .andExpect(status().isOk())
+                                        .andReturn().getResponse();
+                        objectMapper.readTree(response.getContentAsString())
+                                        .forEach(answer -> seen.add(answer.get("id").asLong()));
+                        cursor = response.getHeader("X-Next-Cursor");
+                        pages++;
+                } while (cursor != null);
+
+                assertEquals(3, pages);
+                assertEquals(expected, seen);
+        }
+
+        @Test
+        void getAnswersByUserAndQuestion_ArePaged() throws Exception {
+                answerRepository.save(new Answer("student-1", question, correctOption));
+                answerRepository.save(new Answer("student-1", question, wrongOption));
+                answerRepository.save(new Answer("student-2", question, wrongOption));
+
+                mockMvc.perform(get("/api/answers/user/student-1").param("size", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(1)))
+                                .andExpect(jsonPath("$[0].correct").value(true))
+                                .andExpect(header().exists("X-Next-Cursor"))
+                                .andExpect(header().string("Link", allOf(containsString("cursor="),
+                                                containsString("size=1"), endsWith("; rel=\"next\""))));
+                mockMvc.perform(get("/api/answers/quiz/" + quiz.getId()).param("userId", "student-1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(2)));
+                mockMvc.perform(get("/api/answers/question/" + question.getId()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(3)))
+                                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                                .andExpect(header().doesNotExist("Link"));
+        }
+
+        @Test
+        void getAnswersForQuiz_RejectsInvalidSizeAndCursor() throws Exception {
+                mockMvc.perform(get("/api/answers/quiz/" + quiz.getId()).param("size", "0"))
+                                .andExpect(status().isBadRequest());
+                mockMvc.perform(get("/api/answers/user/student-1").param("size", "201"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.error").value(containsString("200")));
+                mockMvc.perform(get("/api/answers/question/" + question.getId()).param("cursor", "not-a-cursor"))
+                                .andExpect(status().isBadRequest());
+        }
+}
@@ -0,0 +1,152 @@
+package com.example.quizzerApp.controller;
+
+import com.example.quizzerApp.model.Answer;
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.repository.AnswerOptionRepository;
+import com.example.quizzerApp.repository.AnswerRepository;
+import com.example.quizzerApp.repository.QuestionRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.service.analytics.AnswerStatsCollector;
+import com.example.quizzerApp.service.answer.AnswerBatchWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Answers submitted in write-behind mode are acknowledged before they are
+ * written, so this test is not transactional and waits for the writer.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:quizzer-write-behind;DB_CLOSE_DELAY=-1",
+        "quizzer.answers.write-behind.enabled=true",
+        "quizzer.answers.write-behind.max-delay-ms=10",
+        "quizzer.answers.write-behind.retry-initial-backoff-ms=200",
+        "quizzer.analytics.flush-interval-ms=0"
+})
+@AutoConfigureMockMvc
+class AnswerWriteBehindTest {
+        @Autowired
+        private MockMvc mockMvc;
+        @Autowired
+        private QuizRepository quizRepository;
+        @Autowired
+        private QuestionRepository questionRepository;
+        @Autowired
+        private AnswerOptionRepository answerOptionRepository;
+        @Autowired
+        private AnswerRepository answerRepository;
+        @Autowired
+        private AnswerStatsCollector answerStatsCollector;
+        @Autowired
+        private FailingAnswerBatchWriter answerBatchWriter;
+
+        private Question question;
+        private AnswerOption correctOption;
+
+        @TestConfiguration
+        static class FailingWriterConfig {
+
+                @Bean
+                @Primary
+                FailingAnswerBatchWriter failingAnswerBatchWriter() {
+                        return new FailingAnswerBatchWriter();
+                }
+        }
+
+        /**
+         * Batch writer that fails as if the database were down for a number
+         * of commits.
+         */
+        static class FailingAnswerBatchWriter extends AnswerBatchWriter {
+
+                private final AtomicInteger failuresLeft = new AtomicInteger();
+
+                @Override
+                public void insertAll(List<Answer> answers) {
+                        if (failuresLeft.getAndUpdate(left -> Math.max(left - 1, 0)) > 0) {
+                                throw new DataAccessResourceFailureException("Connection refused");
+                        }
+                        super.insertAll(answers);
+                }
+        }
+
+        @BeforeEach
+        void setUp() {
+                answerRepository.deleteAll();
+                Quiz quiz = new Quiz();
+                quiz.setName("Write-behind Quiz");
+                quiz = quizRepository.save(quiz);
+                question = new Question();
+                question.setContent("What is 2+2?");
+                question.setQuiz(quiz);
+                question = questionRepository.save(question);
+                correctOption = new AnswerOption();
+                correctOption.setText("4");
+                correctOption.setCorrect(true);
+                correctOption.setQuestion(question);
+                correctOption = answerOptionRepository.save(correctOption);
+        }
+
+        @Test
+        void submitAnswer_IsWrittenAsynchronously() throws Exception {
+                String submissionJson = "{" +
+                                "\"questionId\":" + question.getId() + "," +
+                                "\"answerOptionId\":" + correctOption.getId() + "," +
+                                "\"userId\":\"testuser\"}";
+                for (int i = 0; i < 3; i++) {
+                        mockMvc.perform(post("/api/answers")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(submissionJson))
+                                        .andExpect(status().isCreated())
+                                        .andExpect(jsonPath("$.correct").value(true));
+                }
+
+                long deadline = System.currentTimeMillis() + 5000;
+                while (answerRepository.count() < 3 && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(20);
+                }
+                assertEquals(3, answerRepository.count());
+        }
+
+        @Test
+        void submitAnswer_IsRetriedWhileDatabaseIsDownAndCountedOnceWritten() throws Exception {
+                answerBatchWriter.failuresLeft.set(2);
+                mockMvc.perform(post("/api/answers")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{" +
+                                                "\"questionId\":" + question.getId() + "," +
+                                                "\"answerOptionId\":" + correctOption.getId() + "," +
+                                                "\"userId\":\"testuser\"}"))
+                                .andExpect(status().isCreated());
+                // Not counted while the commit is still being retried
+                assertNull(answerStatsCollector.pendingAnswers(question.getId()));
+
+                long deadline = System.currentTimeMillis() + 5000;
+                while (answerStatsCollector.pendingAnswers(question.getId()) == null
+                                && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(20);
+                }
+                assertEquals(1, answerRepository.count());
+                assertArrayEquals(new long[] { 1, 0 }, answerStatsCollector.pendingAnswers(question.getId()));
+                assertEquals(0, answerBatchWriter.failuresLeft.get());
+        }
+}
@@ -0,0 +1,152 @@
+package com.example.quizzerApp.controller;
+
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.repository.QuestionRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class AttemptRestControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Quiz quiz;
+    private Question first;
+    private Question second;
+
+    @BeforeEach
+    void setUp() {
+        quiz = new Quiz();
+        quiz.setName("Attempted Quiz");
+        quiz.setPublished(true);
+        quiz = quizRepository.save(quiz);
+        first = saveQuestion("What is 2+2?", "4", "5");
+        second = saveQuestion("What is 3+3?", "6", "7");
+    }
+
+    @Test
+    void submitRecordsAttemptThatCanBeReadBack() throws Exception {
+        String body = "{\"userId\":\"student-1\",\"startedAt\":\"2024-05-01T10:00:00Z\",\"answers\":["
+                + answer(first, 0) + "," + answer(second, 1) + "]}";
+        String response = mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId", is("student-1")))
+                .andExpect(jsonPath("$.attemptId", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode submitted = objectMapper.readTree(response);
+        long attemptId = submitted.get("attemptId").asLong();
+
+        mockMvc.perform(get("/api/attempts/" + attemptId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quizId", is(quiz.getId().intValue())))
+                .andExpect(jsonPath("$.userId", is("student-1")))
+                .andExpect(jsonPath("$.score", is(50)))
+                .andExpect(jsonPath("$.correctAnswers", is(1)))
+                .andExpect(jsonPath("$.totalQuestions", is(2)))
+                .andExpect(jsonPath("$.startedAt", notNullValue()))
+                .andExpect(jsonPath("$.submittedAt", notNullValue()))
+                .andExpect(jsonPath("$.questionResults", hasSize(2)))
+                .andExpect(jsonPath("$.questionResults[0].questionId", is(first.getId().intValue())))
+                .andExpect(jsonPath("$.questionResults[0].correct", is(true)))
+                .andExpect(jsonPath("$.questionResults[1].questionId", is(second.getId().intValue())))
+                .andExpect(jsonPath("$.questionResults[1].correct", is(false)));
+    }
+
+    @Test
+    void listsNewestAttemptsOfUserAndQuiz() throws Exception {
+        for (int option : new int[] { 1, 0 }) {
+            mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/submit")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"userId\":\"student-2\",\"answers\":[" + answer(first, option) + "]}"))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"answers\":[" + answer(first, 0) + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId", startsWith("temp-user-")));
+
+        mockMvc.perform(get("/api/attempts/user/student-2").param("quizId", quiz.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].score", is(50)))
+                .andExpect(jsonPath("$[1].score", is(0)));
+        mockMvc.perform(get("/api/attempts/user/student-2").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/api/attempts/quiz/" + quiz.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)));
+    }
+
+    @Test
+    void rejectsSubmissionAnsweringQuestionTwice() throws Exception {
+        // Counting the same correct answer twice would score 100% on half the quiz
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"student-3\",\"answers\":["
+                                + answer(first, 0) + "," + answer(first, 0) + "]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString(first.getId().toString())));
+
+        mockMvc.perform(get("/api/attempts/user/student-3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void rejectsUnknownAttemptAndInvalidPageSize() throws Exception {
+        mockMvc.perform(get("/api/attempts/99999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error", containsString("99999")));
+        mockMvc.perform(get("/api/attempts/quiz/" + quiz.getId()).param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/attempts/user/student-1").param("size", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Question saveQuestion(String content, String right, String wrong) {
+        Question question = new Question();
+        question.setContent(content);
+        question.setQuiz(quiz);
+        AnswerOption correct = new AnswerOption();
+        correct.setText(right);
+        correct.setCorrect(true);
+        question.addAnswerOption(correct);
+        AnswerOption incorrect = new AnswerOption();
+        incorrect.setText(wrong);
+        question.addAnswerOption(incorrect);
+        return questionRepository.save(question);
+    }
+
+    private String answer(Question question, int option) {
+        return "{\"questionId\":" + question.getId() + ",\"selectedAnswerId\":"
+                + question.getAnswers().get(option).getId() + "}";
+    }
+}
@@ -1,7 +1,16 @@
 package com.example.quizzerApp.controller;
 
+import com.example.quizzerApp.model.Category;
+import com.example.quizzerApp.model.Question;
 import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.model.review.Review;
+import com.example.quizzerApp.repository.CategoryRepository;
 import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.service.review.ReviewService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -27,6 +37,14 @@ class ExtraEndpointsTest {
     private com.example.quizzerApp.repository.QuestionRepository questionRepository;
     @Autowired
     private com.example.quizzerApp.repository.AnswerOptionRepository answerOptionRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @BeforeEach
     void setUp() {
@@ -77,6 +95,60 @@ class ExtraEndpointsTest {
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
     }
 
+    @Test
+    void getAllCategoriesAnswersNotModifiedUntilACategoryIsAdded() throws Exception {
+        String etag = mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/categories").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Tagged Category\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/categories").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getQuizzesByCategoryReturnsCatalogRowsWithoutReadingReviews() throws Exception {
+        Category category = categoryRepository.save(new Category("Browsed", "For category tests"));
+        for (int i = 0; i < 3; i++) {
+            Quiz quiz = new Quiz();
+            quiz.setName("Browsed Quiz " + i);
+            quiz.setCategory(category);
+            quiz.setPublished(i > 0);
+            quiz = quizRepository.save(quiz);
+            Question question = new Question();
+            question.setContent("Question " + i);
+            question.setQuiz(quiz);
+            questionRepository.save(question);
+            reviewService.createReview(quiz, "Reviewer", 4, "Review " + i);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/categories/" + category.getId() + "/quizzes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].questionCount", is(1)))
+                .andExpect(jsonPath("$[0].reviewCount", is(1)))
+                .andExpect(jsonPath("$[0].averageRating", is(4.0)))
+                .andExpect(jsonPath("$[0].categoryName", is("Browsed")))
+                .andExpect(jsonPath("$[0].reviews").doesNotExist());
+        // Catalog version, category check and one projection, whatever the number of quizzes
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityStatistics(Review.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getCollectionStatistics(Quiz.class.getName() + ".reviews").getFetchCount()).isZero();
+
+        mockMvc.perform(get("/api/categories/" + category.getId() + "/quizzes").param("published", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
     @Test
     void createQuizWithDetails() throws Exception {
         String quizJson = "{\"name\":\"Detailed Quiz\"}";
@@ -0,0 +1,185 @@
+package com.example.quizzerApp.controller;
+
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.repository.QuestionRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "quizzer.import.batch-size=2")
+@AutoConfigureMockMvc
+@Transactional
+class QuestionImportControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        quiz = new Quiz();
+        quiz.setName("Imported Quiz");
+        quiz = quizRepository.save(quiz);
+    }
+
+    @Test
+    void importsJsonAndReportsInvalidQuestions() throws Exception {
+        String body = "{\"questions\":["
+                + "{\"content\":\"What is 2+2?\",\"difficulty\":\"Easy\",\"answers\":["
+                + "{\"text\":\"4\",\"correct\":true},{\"text\":\"5\",\"correct\":false}]},"
+                + "{\"content\":\"No right answer\",\"answers\":[{\"text\":\"a\"},{\"text\":\"b\"}]},"
+                + "{\"content\":\"What is 3+3?\",\"answers\":[{\"text\":\"6\",\"isCorrect\":true}]}"
+                + "]}";
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/questions/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.read", is(3)))
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.batches", is(1)))
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].record", is(2)))
+                .andExpect(jsonPath("$.errors[0].message", containsString("correct")));
+
+        List<Question> questions = importedQuestions();
+        assertEquals(List.of("What is 2+2?", "What is 3+3?"), questions.stream().map(Question::getContent).toList());
+        assertEquals("Easy", questions.get(0).getDifficulty());
+        List<AnswerOption> options = questions.get(0).getAnswers();
+        assertEquals(2, options.size());
+        assertTrue(options.stream().anyMatch(option -> option.getText().equals("4") && option.isCorrect()));
+        assertTrue(options.stream().anyMatch(option -> option.getText().equals("5") && !option.isCorrect()));
+    }
+
+    @Test
+    void importsCsvWithQuotedFieldsInBatches() throws Exception {
+        String body = "content,difficulty,option1,option2,option3,correct\r\n"
+                + "\"Pick \"\"both\"\", please\",Hard,\"one, two\",three,four,1;3\r\n"
+                + "\"A question\nover two lines\",,yes,no,,1\r\n"
+                + "Third,,x,y,,2\r\n"
+                + "Missing option,,x,y,,3\r\n";
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/questions/import")
+                        .param("format", "csv")
+                        .contentType("text/plain")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.read", is(4)))
+                .andExpect(jsonPath("$.imported", is(3)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.batches", is(2)))
+                .andExpect(jsonPath("$.errors[0].record", is(4)));
+
+        List<Question> questions = importedQuestions();
+        assertEquals(3, questions.size());
+        Question first = questions.get(0);
+        assertEquals("Pick \"both\", please", first.getContent());
+        // Options are inserted in the order of the columns
+        assertEquals(List.of("one, two", "three", "four"), first.getAnswers().stream()
+                .sorted(Comparator.comparing(AnswerOption::getId))
+                .map(AnswerOption::getText)
+                .toList());
+        assertEquals(2, first.getAnswers().stream().filter(AnswerOption::isCorrect).count());
+        assertEquals("A question\nover two lines", questions.get(1).getContent());
+    }
+
+    @Test
+    void importsMoodleXmlAndSkipsUnsupportedTypes() throws Exception {
+        String body = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<quiz>\n"
+                + "  <question type=\"category\"><category><text>$course$/Maths</text></category></question>\n"
+                + "  <question type=\"multichoice\">\n"
+                + "    <name><text>Sum</text></name>\n"
+                + "    <questiontext format=\"html\"><text><![CDATA[<p>What is <b>2+2</b>?</p>]]></text></questiontext>\n"
+                + "    <answer fraction=\"100\"><text>4</text></answer>\n"
+                + "    <answer fraction=\"0\"><text>5</text></answer>\n"
+                + "  </question>\n"
+                + "  <question type=\"essay\"><questiontext><text>Explain.</text></questiontext></question>\n"
+                + "  <question type=\"truefalse\">\n"
+                + "    <questiontext><text>The sky is blue.</text></questiontext>\n"
+                + "    <answer fraction=\"100\"><text>true</text></answer>\n"
+                + "    <answer fraction=\"0\"><text>false</text></answer>\n"
+                + "  </question>\n"
+                + "</quiz>\n";
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/questions/import")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.read", is(3)))
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.errors[0].message", containsString("essay")));
+
+        List<Question> questions = importedQuestions();
+        assertEquals(List.of("What is 2+2?", "The sky is blue."),
+                questions.stream().map(Question::getContent).toList());
+        assertTrue(questions.get(0).getAnswers().stream()
+                .anyMatch(option -> option.getText().equals("4") && option.isCorrect()));
+    }
+
+    @Test
+    void keepsCommittedBatchesOfMalformedFile() throws Exception {
+        String body = "[{\"content\":\"One\",\"answers\":[{\"text\":\"a\",\"correct\":true}]},"
+                + "{\"content\":\"Two\",\"answers\":[{\"text\":\"b\",\"correct\":true}]},"
+                + "{\"content\":\"Three\",\"answers\":[{\"text\":\"c\",\"correct\":true}]},"
+                + "{\"content\":";
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/questions/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.imported", is(3)))
+                .andExpect(jsonPath("$.error", notNullValue()));
+
+        assertEquals(List.of("One", "Two", "Three"),
+                importedQuestions().stream().map(Question::getContent).toList());
+    }
+
+    @Test
+    void rejectsUnknownQuizAndFormat() throws Exception {
+        mockMvc.perform(post("/api/quizzes/99999/questions/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error", containsString("99999")));
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/questions/import")
+                        .param("format", "yaml")
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/questions/import")
+                        .contentType("text/plain")
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+        assertFalse(questionRepository.countByQuizId(quiz.getId()) > 0);
+    }
+
+    private List<Question> importedQuestions() {
+        entityManager.flush();
+        entityManager.clear();
+        return questionRepository.findByQuizId(quiz.getId()).stream()
+                .sorted(Comparator.comparing(Question::getId))
+                .toList();
+    }
+}
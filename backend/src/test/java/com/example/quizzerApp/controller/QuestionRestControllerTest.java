@@ -1,7 +1,16 @@
 package com.example.quizzerApp.controller;
 
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Category;
 import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.repository.CategoryRepository;
 import com.example.quizzerApp.repository.QuestionRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -23,6 +33,14 @@ class QuestionRestControllerTest {
     private MockMvc mockMvc;
     @Autowired
     private QuestionRepository questionRepository;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     private Question question;
 
@@ -48,6 +66,32 @@ class QuestionRestControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getQuestionByIdLoadsQuizCategoryAndOptionsInOneQuery() throws Exception {
+        Quiz quiz = new Quiz();
+        quiz.setName("Edited Quiz");
+        quiz.setCategory(categoryRepository.save(new Category("Edited", "For edit view tests")));
+        question.setQuiz(quizRepository.save(quiz));
+        for (int i = 0; i < 3; i++) {
+            AnswerOption option = new AnswerOption();
+            option.setText("Option " + i);
+            question.addAnswerOption(option);
+        }
+        questionRepository.save(question);
+
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/questions/" + question.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quiz.category.name", is("Edited")))
+                .andExpect(jsonPath("$.answers", hasSize(3)));
+        // The version lookup and one query for the question and everything it embeds
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
     @Test
     void updateQuestionUpdatesText() throws Exception {
         String updatedJson = "{\"content\":\"What is 3+3?\"}";
@@ -57,4 +101,28 @@ class QuestionRestControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", is("What is 3+3?")));
     }
+
+    @Test
+    void updateQuestionWithStaleIfMatchIsRejected() throws Exception {
+        String etag = mockMvc.perform(get("/api/questions/" + question.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/questions/" + question.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/questions/" + question.getId())
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"What is 3+3?\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+
+        mockMvc.perform(put("/api/questions/" + question.getId())
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"What is 4+4?\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/api/questions/" + question.getId()))
+                .andExpect(jsonPath("$.content", is("What is 3+3?")));
+    }
 }
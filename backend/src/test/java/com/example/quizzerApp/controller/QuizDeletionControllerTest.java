@@ -0,0 +1,201 @@
+package com.example.quizzerApp.controller;
+
+import com.example.quizzerApp.model.Answer;
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.model.SubmittedAnswer;
+import com.example.quizzerApp.repository.AnswerRepository;
+import com.example.quizzerApp.repository.OptionAnswerStatsRepository;
+import com.example.quizzerApp.repository.QuestionAnswerStatsRepository;
+import com.example.quizzerApp.repository.QuestionRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.repository.ReviewRepository;
+import com.example.quizzerApp.repository.SubmittedAnswerRepository;
+import com.example.quizzerApp.service.analytics.AnswerStatsCollector;
+import com.example.quizzerApp.service.review.ReviewService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Bulk deletions run on a background thread, which cannot see the data of an
+ * uncommitted test transaction, so this test is not transactional and waits
+ * for the job. The chunk size is small so that every step takes several
+ * chunks.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:quizzer-bulk-delete;DB_CLOSE_DELAY=-1",
+        "quizzer.bulk-delete.chunk-size=2"
+})
+@AutoConfigureMockMvc
+class QuizDeletionControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private AnswerRepository answerRepository;
+    @Autowired
+    private SubmittedAnswerRepository submittedAnswerRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private QuestionAnswerStatsRepository questionAnswerStatsRepository;
+    @Autowired
+    private OptionAnswerStatsRepository optionAnswerStatsRepository;
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private AnswerStatsCollector answerStatsCollector;
+
+    private Quiz first;
+    private Quiz second;
+    private Quiz kept;
+
+    @BeforeEach
+    void setUp() {
+        answerRepository.deleteAll();
+        submittedAnswerRepository.deleteAll();
+        questionAnswerStatsRepository.deleteAll();
+        optionAnswerStatsRepository.deleteAll();
+        questionRepository.deleteAll();
+        quizRepository.deleteAll();
+        first = saveQuiz("First Quiz");
+        second = saveQuiz("Second Quiz");
+        kept = saveQuiz("Kept Quiz");
+    }
+
+    @Test
+    void deletesQuizzesWithAllTheirRowsInBackground() throws Exception {
+        String response = mockMvc.perform(post("/api/quizzes/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quizIds\":[" + first.getId() + "," + second.getId() + "," + first.getId() + "]}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", startsWith("/api/quizzes/bulk-delete/")))
+                .andExpect(jsonPath("$.quizIds", hasSize(2)))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(response).get("id").asText();
+
+        JsonNode job = awaitJob(jobId);
+        assertEquals("COMPLETED", job.get("status").asText(), job.toString());
+        JsonNode deleted = job.get("deleted");
+        assertEquals(6, deleted.get("questions").asInt());
+        assertEquals(12, deleted.get("answerOptions").asInt());
+        assertEquals(12, deleted.get("answers").asInt());
+        assertEquals(6, deleted.get("submittedAnswers").asInt());
+        assertEquals(6, deleted.get("questionStats").asInt());
+        assertEquals(6, deleted.get("optionStats").asInt());
+        assertEquals(2, deleted.get("reviews").asInt());
+        assertEquals(2, deleted.get("quizzes").asInt());
+
+        assertFalse(quizRepository.existsById(first.getId()));
+        assertFalse(quizRepository.existsById(second.getId()));
+        assertTrue(quizRepository.existsById(kept.getId()));
+        assertEquals(3, questionRepository.countByQuizId(kept.getId()));
+        assertEquals(6, answerRepository.count());
+        assertEquals(3, submittedAnswerRepository.count());
+        assertEquals(3, questionAnswerStatsRepository.count());
+        assertEquals(3, optionAnswerStatsRepository.count());
+        assertEquals(1, reviewRepository.count());
+    }
+
+    @Test
+    void rejectsMissingQuizzesAndUnknownJobs() throws Exception {
+        mockMvc.perform(post("/api/quizzes/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quizIds\":[" + first.getId() + ",99999]}"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error", containsString("99999")));
+        mockMvc.perform(post("/api/quizzes/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quizIds\":[]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/quizzes/bulk-delete/unknown"))
+                .andExpect(status().isNotFound());
+        assertTrue(quizRepository.existsById(first.getId()));
+    }
+
+    @Test
+    void adminPageDeletesQuizWithAllItsRows() throws Exception {
+        // The admin page deletes synchronously, through the same steps as a bulk deletion
+        mockMvc.perform(delete("/quizzes/" + first.getId()))
+                .andExpect(status().isOk());
+
+        assertFalse(quizRepository.existsById(first.getId()));
+        assertTrue(quizRepository.existsById(second.getId()));
+        assertEquals(0, questionRepository.countByQuizId(first.getId()));
+        assertEquals(12, answerRepository.count());
+        assertEquals(6, submittedAnswerRepository.count());
+        assertEquals(6, questionAnswerStatsRepository.count());
+        assertEquals(2, reviewRepository.count());
+
+        mockMvc.perform(delete("/quizzes/" + first.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode awaitJob(String jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (true) {
+            String body = mockMvc.perform(get("/api/quizzes/bulk-delete/" + jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode job = objectMapper.readTree(body);
+            if (job.get("finished").asBoolean() || System.currentTimeMillis() > deadline) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * Saves a quiz with three questions of two options, two answers and one
+     * submitted answer per question, answer statistics and a review.
+     */
+    private Quiz saveQuiz(String name) {
+        Quiz quiz = new Quiz();
+        quiz.setName(name);
+        quiz = quizRepository.save(quiz);
+        for (int i = 0; i < 3; i++) {
+            Question question = new Question();
+            question.setContent(name + " question " + i);
+            question.setQuiz(quiz);
+            for (int j = 0; j < 2; j++) {
+                AnswerOption option = new AnswerOption();
+                option.setText("Option " + j);
+                option.setCorrect(j == 0);
+                question.addAnswerOption(option);
+            }
+            question = questionRepository.save(question);
+            AnswerOption correct = question.getAnswers().get(0);
+            answerRepository.save(new Answer("student-1", question, correct));
+            answerRepository.save(new Answer("student-2", question, question.getAnswers().get(1)));
+            SubmittedAnswer submitted = new SubmittedAnswer();
+            submitted.setAnswerOption(correct);
+            submittedAnswerRepository.save(submitted);
+            answerStatsCollector.record(question.getId(), correct.getId(), true);
+        }
+        answerStatsCollector.flush();
+        reviewService.createReview(quiz, "Reviewer", 4, null);
+        return quiz;
+    }
+}
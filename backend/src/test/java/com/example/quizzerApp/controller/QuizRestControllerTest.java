@@ -1,7 +1,21 @@
 package com.example.quizzerApp.controller;
 
+import com.example.quizzerApp.model.Answer;
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.CacheRegions;
+import com.example.quizzerApp.model.Category;
+import com.example.quizzerApp.model.Question;
 import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.repository.CategoryRepository;
+import com.example.quizzerApp.repository.QuestionRepository;
 import com.example.quizzerApp.repository.QuizRepository;
+import com.example.quizzerApp.service.review.ReviewService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,8 +23,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -23,6 +49,22 @@ class QuizRestControllerTest {
     private MockMvc mockMvc;
     @Autowired
     private QuizRepository quizRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
@@ -36,6 +78,17 @@ class QuizRestControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    void responsesCarryCorrelationId() throws Exception {
+        mockMvc.perform(get("/api/quizzes").header("X-Request-Id", "exam-42"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Request-Id", "exam-42"));
+        // Malformed ids are replaced by a generated one
+        mockMvc.perform(get("/api/quizzes").header("X-Request-Id", "bad id\r\n"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Request-Id", not(containsString(" "))));
+    }
+
     @Test
     void createQuizAndGetById() throws Exception {
         String quizJson = "{\"name\":\"Test Quiz\"}";
@@ -60,4 +113,496 @@ class QuizRestControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].name", is("Sample Quiz")));
     }
+
+    @Test
+    void getPublishedQuizzesReturnsCatalogAggregates() throws Exception {
+        Category category = categoryRepository.save(new Category("Catalog Category", "For catalog tests"));
+        Quiz quiz = saveQuiz("Catalog Quiz", category, true, 2);
+        saveReview(quiz, 4);
+        saveReview(quiz, 2);
+        saveQuiz("Draft Quiz", category, false, 1);
+
+        mockMvc.perform(get("/api/quizzes/published"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("Catalog Quiz")))
+                .andExpect(jsonPath("$[0].questionCount", is(2)))
+                .andExpect(jsonPath("$[0].categoryName", is("Catalog Category")))
+                .andExpect(jsonPath("$[0].reviewCount", is(2)))
+                .andExpect(jsonPath("$[0].averageRating", closeTo(3.0, 0.01)));
+    }
+
+    @Test
+    void catalogStatementCountDoesNotGrowWithQuizCount() throws Exception {
+        Category category = categoryRepository.save(new Category("Scaling Category", "For catalog tests"));
+        for (int i = 0; i < 3; i++) {
+            saveReview(saveQuiz("Quiz " + i, category, true, 2), 5);
+        }
+        long allSmall = countStatements("/api/quizzes");
+        long publishedSmall = countStatements("/api/quizzes/published");
+
+        for (int i = 3; i < 40; i++) {
+            saveReview(saveQuiz("Quiz " + i, category, true, 2), 5);
+        }
+        long allLarge = countStatements("/api/quizzes");
+        long publishedLarge = countStatements("/api/quizzes/published");
+
+        assertThat(allLarge).isEqualTo(allSmall);
+        assertThat(publishedLarge).isEqualTo(publishedSmall);
+    }
+
+    @Test
+    void submitQuizAnswersRegradesAfterQuestionUpdate() throws Exception {
+        Quiz quiz = saveQuiz("Graded Quiz", null, true, 0);
+        Question question = new Question();
+        question.setContent("What is 2+2?");
+        question.setQuiz(quiz);
+        AnswerOption right = new AnswerOption();
+        right.setText("4");
+        right.setCorrect(true);
+        question.addAnswerOption(right);
+        AnswerOption wrong = new AnswerOption();
+        wrong.setText("5");
+        question.addAnswerOption(wrong);
+        question = questionRepository.save(question);
+
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(submission(question.getId(), wrong.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.score", is(0)))
+                .andExpect(jsonPath("$.questionResults[0].isCorrect", is(false)))
+                .andExpect(jsonPath("$.questionResults[0].correctAnswerId", is(right.getId().intValue())));
+
+        // Replacing the options must invalidate the compiled answer key
+        mockMvc.perform(put("/api/questions/" + question.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"What is 3+3?\",\"answers\":["
+                                + "{\"text\":\"6\",\"correct\":true},{\"text\":\"7\",\"correct\":false}]}"))
+                .andExpect(status().isOk());
+        entityManager.flush();
+        entityManager.clear();
+        Question updated = questionRepository.findById(question.getId()).orElseThrow();
+        Long newCorrectId = updated.getAnswers().stream()
+                .filter(AnswerOption::isCorrect).findFirst().orElseThrow().getId();
+
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(submission(question.getId(), newCorrectId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.score", is(100)))
+                .andExpect(jsonPath("$.questionResults[0].isCorrect", is(true)));
+
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(submission(question.getId(), wrong.getId())))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void submitQuizAnswersRecordsGradingAndStatementMetrics() throws Exception {
+        Quiz quiz = saveQuiz("Metered Quiz", null, true, 0);
+        Question question = new Question();
+        question.setContent("What is 2+2?");
+        question.setQuiz(quiz);
+        AnswerOption right = new AnswerOption();
+        right.setText("4");
+        right.setCorrect(true);
+        question.addAnswerOption(right);
+        question = questionRepository.save(question);
+        entityManager.flush();
+
+        double graded = counter("quizzer.grading.submissions", "outcome", "graded");
+        double notFound = counter("quizzer.grading.submissions", "outcome", "quiz_not_found");
+        double correct = counter("quizzer.grading.answers", "result", "correct");
+
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(submission(question.getId(), right.getId())))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/quizzes/" + (quiz.getId() + 1000) + "/submit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(submission(question.getId(), right.getId())))
+                .andExpect(status().isNotFound());
+
+        assertThat(counter("quizzer.grading.submissions", "outcome", "graded")).isEqualTo(graded + 1);
+        assertThat(counter("quizzer.grading.submissions", "outcome", "quiz_not_found")).isEqualTo(notFound + 1);
+        assertThat(counter("quizzer.grading.answers", "result", "correct")).isEqualTo(correct + 1);
+        // Tagged with the route pattern, not the quiz id
+        assertThat(meterRegistry.get("quizzer.http.statements")
+                .tag("method", "POST").tag("uri", "/api/quizzes/{id}/submit")
+                .summary().count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void getQuizAnswersNotModifiedUntilItsQuestionsChange() throws Exception {
+        Quiz quiz = saveQuiz("Tagged Quiz", categoryRepository.save(new Category("Tagged", "For tag tests")), true, 1);
+        String path = "/api/quizzes/" + quiz.getId() + "?includeQuestions=true";
+        String etag = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).isNotBlank();
+
+        // The summary view is a different representation with its own tag
+        mockMvc.perform(get("/api/quizzes/" + quiz.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get(path).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        // Only the version row lookup, no quiz, question or option reads
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/questions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"New question\",\"answers\":[{\"text\":\"A\",\"correct\":true}]}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(path).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.questions", hasSize(2)));
+    }
+
+    @Test
+    void publishedCatalogAnswersNotModifiedUntilAReviewChangesIt() throws Exception {
+        Quiz quiz = saveQuiz("Reviewed Quiz", null, true, 1);
+        String etag = mockMvc.perform(get("/api/quizzes/published"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/quizzes/published").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // Catalog rows carry review aggregates
+        saveReview(quiz, 5);
+        mockMvc.perform(get("/api/quizzes/published").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].reviewCount", is(1)));
+    }
+
+    @Test
+    void updateQuizWithStaleIfMatchIsRejected() throws Exception {
+        Quiz quiz = saveQuiz("Contested Quiz", null, false, 0);
+        String etag = mockMvc.perform(get("/api/quizzes/" + quiz.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        String newEtag = mockMvc.perform(put("/api/quizzes/" + quiz.getId())
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"First Edit\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("First Edit")))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(newEtag).isNotEqualTo(etag);
+
+        // A second editor still holding the original copy
+        mockMvc.perform(put("/api/quizzes/" + quiz.getId())
+                        .header("If-Match", etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Second Edit\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string("ETag", newEtag));
+
+        mockMvc.perform(get("/api/quizzes/" + quiz.getId()))
+                .andExpect(jsonPath("$.name", is("First Edit")));
+    }
+
+    @Test
+    void publishedQuizDetailIsServedFromPayloadCache() throws Exception {
+        Quiz quiz = saveQuiz("Cached Quiz", null, true, 2);
+        String path = "/api/quizzes/" + quiz.getId() + "?includeQuestions=true";
+        mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.questions", hasSize(2)));
+
+        double hits = counter("quizzer.payload.cache.requests", "result", "hit");
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        byte[] compressed = mockMvc.perform(get(path).header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andReturn().getResponse().getContentAsByteArray();
+        // Only the version row lookup; the body comes from the cache
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(counter("quizzer.payload.cache.requests", "result", "hit")).isEqualTo(hits + 1);
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).contains("\"name\":\"Cached Quiz\"");
+        }
+
+        mockMvc.perform(put("/api/quizzes/" + quiz.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed Quiz\",\"published\":true}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.name", is("Renamed Quiz")));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void quizContentIsReadFromSecondLevelCache() throws Exception {
+        // Runs outside the test transaction: a session does not read cache
+        // entries put after its transaction began, so each request needs its own
+        TransactionTemplate committed = new TransactionTemplate(transactionManager);
+        Long quizId = committed.execute(status -> saveQuizWithOptions("Shared Quiz", null, false, 2).getId());
+        try {
+            String path = "/api/quizzes/" + quizId;
+            // The committed inserts already filled the regions; start from an empty cache
+            entityManagerFactory.getCache().evictAll();
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+            mockMvc.perform(get(path)).andExpect(status().isOk());
+            long cold = statistics.getPrepareStatementCount();
+
+            statistics.clear();
+            mockMvc.perform(get(path)).andExpect(status().isOk());
+            // The quiz row comes from the cache instead of a query
+            assertThat(statistics.getPrepareStatementCount()).isLessThan(cold);
+            assertThat(meterRegistry.get("quizzer.cache.requests")
+                    .tag("region", CacheRegions.QUIZ).tag("result", "hit")
+                    .functionCounter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("quizzer.cache.hit.ratio")
+                    .tag("region", CacheRegions.QUIZ)
+                    .gauge().value()).isEqualTo(1.0);
+
+            // Option lists loaded lazily, as the question update does, are
+            // cached as ID lists: the first load stores the list, the second reads it
+            Long questionId = committed.execute(status -> questionRepository.findByQuizId(quizId).get(0).getId());
+            entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                    .evictCollectionData(Question.class.getName() + ".answers");
+            statistics.clear();
+            for (int i = 0; i < 2; i++) {
+                int options = committed.execute(status ->
+                        questionRepository.findById(questionId).orElseThrow().getAnswers().size());
+                assertThat(options).isEqualTo(2);
+            }
+            assertThat(meterRegistry.get("quizzer.cache.requests")
+                    .tag("region", CacheRegions.QUESTION_ANSWERS).tag("result", "miss")
+                    .functionCounter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("quizzer.cache.requests")
+                    .tag("region", CacheRegions.QUESTION_ANSWERS).tag("result", "hit")
+                    .functionCounter().count()).isEqualTo(1);
+        } finally {
+            // Quiz does not cascade to its questions, which must go first
+            committed.executeWithoutResult(status -> {
+                questionRepository.deleteAll(questionRepository.findByQuizId(quizId));
+                quizRepository.deleteById(quizId);
+            });
+        }
+    }
+
+    @Test
+    void quizReadsRunInFixedNumberOfStatements() throws Exception {
+        Category category = categoryRepository.save(new Category("Fetched", "For fetch plan tests"));
+        Quiz small = saveQuizWithOptions("Small Quiz", category, true, 2);
+        Quiz large = saveQuizWithOptions("Large Quiz", category, true, 8);
+
+        // Student view, then the admin question list
+        for (String view : new String[] { "?includeQuestions=true", "/questions" }) {
+            long smallCount = countStatements(get("/api/quizzes/" + small.getId() + view));
+            long largeCount = countStatements(get("/api/quizzes/" + large.getId() + view));
+            assertThat(largeCount).isEqualTo(smallCount).isLessThanOrEqualTo(4);
+        }
+
+        // Grading reads the quiz and its answer key rows; the attempt it records
+        // is inserted on flush. The first attempt may draw a block of attempt ids.
+        mockMvc.perform(gradingRequest(small)).andExpect(status().isOk());
+        long smallGrading = countStatements(gradingRequest(small));
+        long largeGrading = countStatements(gradingRequest(large));
+        assertThat(largeGrading).isEqualTo(smallGrading).isLessThanOrEqualTo(2);
+    }
+
+    private double counter(String name, String tag, String value) {
+        return meterRegistry.get(name).tag(tag, value).counter().count();
+    }
+
+    @Test
+    void cloneQuizCopiesQuestionsAndOptionsIntoCategory() throws Exception {
+        Quiz quiz = saveQuizWithOptions("Original Quiz", null, true, 3);
+        Category category = categoryRepository.save(new Category("Next Course", "For clone tests"));
+
+        String response = mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/clone")
+                        .param("categoryId", category.getId().toString())
+                        .param("name", "Copied Quiz"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Copied Quiz")))
+                .andExpect(jsonPath("$.published", is(false)))
+                .andExpect(jsonPath("$.categoryId", is(category.getId().intValue())))
+                .andExpect(jsonPath("$.questionCount", is(3)))
+                .andReturn().getResponse().getContentAsString();
+        long copyId = objectMapper.readTree(response).get("id").asLong();
+
+        entityManager.flush();
+        entityManager.clear();
+        List<Question> original = questionRepository.findByQuizId(quiz.getId()).stream()
+                .sorted(Comparator.comparing(Question::getId)).toList();
+        List<Question> copy = questionRepository.findByQuizId(copyId).stream()
+                .sorted(Comparator.comparing(Question::getId)).toList();
+        assertThat(copy).hasSize(3);
+        for (int i = 0; i < original.size(); i++) {
+            assertThat(copy.get(i).getId()).isNotEqualTo(original.get(i).getId());
+            assertThat(copy.get(i).getContent()).isEqualTo(original.get(i).getContent());
+            assertThat(copy.get(i).getAnswers())
+                    .extracting(AnswerOption::getText, AnswerOption::isCorrect)
+                    .containsExactlyInAnyOrderElementsOf(original.get(i).getAnswers().stream()
+                            .map(option -> tuple(option.getText(), option.isCorrect()))
+                            .toList());
+        }
+    }
+
+    @Test
+    void cloneQuizRunsInFixedNumberOfStatements() throws Exception {
+        Quiz quiz = saveQuizWithOptions("Large Quiz", null, false, 20);
+
+        // Copying 20 questions with 40 options one by one would take at least 60
+        assertThat(countStatements(post("/api/quizzes/" + quiz.getId() + "/clone"))).isLessThanOrEqualTo(8);
+        assertThat(questionRepository.countByQuizId(quiz.getId())).isEqualTo(20);
+    }
+
+    @Test
+    void cloneQuizRejectsUnknownQuizAndCategory() throws Exception {
+        Quiz quiz = saveQuiz("Lonely Quiz", null, false, 1);
+        mockMvc.perform(post("/api/quizzes/99999/clone"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/clone").param("categoryId", "99999"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("99999")));
+    }
+
+    @Test
+    void exportedQuizCanBeImportedIntoAnotherQuiz() throws Exception {
+        Category category = categoryRepository.save(new Category("Exported", "For export tests"));
+        Quiz quiz = saveQuizWithOptions("Exported Quiz", category, true, 2);
+        Question empty = new Question();
+        empty.setContent("Without options");
+        empty.setQuiz(quiz);
+        questionRepository.save(empty);
+
+        byte[] export = mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string("Content-Disposition", containsString("quiz-" + quiz.getId() + ".json")))
+                .andExpect(jsonPath("$.name", is("Exported Quiz")))
+                .andExpect(jsonPath("$.category", is("Exported")))
+                .andExpect(jsonPath("$.questions", hasSize(3)))
+                .andExpect(jsonPath("$.questions[0].content", is("Exported Quiz question 0")))
+                .andExpect(jsonPath("$.questions[0].answers", hasSize(2)))
+                .andExpect(jsonPath("$.questions[0].answers[0].text", is("Option 0")))
+                .andExpect(jsonPath("$.questions[0].answers[0].correct", is(true)))
+                .andExpect(jsonPath("$.questions[2].answers", hasSize(0)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Quiz target = saveQuiz("Imported Quiz", null, false, 0);
+        mockMvc.perform(post("/api/quizzes/" + target.getId() + "/questions/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(export))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.failed", is(1)));
+
+        mockMvc.perform(get("/api/quizzes/99999/export"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteQuizRemovesQuestionsAnswersReviewsAndAttempts() throws Exception {
+        Quiz quiz = saveQuizWithOptions("Doomed Quiz", null, true, 2);
+        Quiz kept = saveQuizWithOptions("Kept Quiz", null, true, 1);
+        saveReview(quiz, 3);
+        mockMvc.perform(gradingRequest(quiz)).andExpect(status().isOk());
+        Question question = questionRepository.findByQuizId(quiz.getId()).get(0);
+        entityManager.persist(new Answer("student", question, question.getAnswers().get(0)));
+        entityManager.flush();
+
+        mockMvc.perform(delete("/api/quizzes/" + quiz.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)));
+
+        entityManager.clear();
+        assertThat(quizRepository.existsById(quiz.getId())).isFalse();
+        assertThat(questionRepository.countByQuizId(quiz.getId())).isZero();
+        assertThat(entityManager.createQuery("SELECT COUNT(a) FROM Answer a WHERE a.quizId = :quizId", Long.class)
+                .setParameter("quizId", quiz.getId()).getSingleResult()).isZero();
+        assertThat(entityManager.createQuery("SELECT COUNT(r) FROM Review r WHERE r.quiz.id = :quizId", Long.class)
+                .setParameter("quizId", quiz.getId()).getSingleResult()).isZero();
+        assertThat(questionRepository.countByQuizId(kept.getId())).isEqualTo(1);
+        mockMvc.perform(get("/api/attempts/quiz/" + quiz.getId()))
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        mockMvc.perform(delete("/api/quizzes/" + quiz.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    private String submission(Long questionId, Long selectedAnswerId) {
+        return "{\"answers\":[{\"questionId\":" + questionId + ",\"selectedAnswerId\":" + selectedAnswerId + "}]}";
+    }
+
+    private Quiz saveQuiz(String name, Category category, boolean published, int questionCount) {
+        Quiz quiz = new Quiz();
+        quiz.setName(name);
+        quiz.setCategory(category);
+        quiz.setPublished(published);
+        quiz = quizRepository.save(quiz);
+        for (int i = 0; i < questionCount; i++) {
+            Question question = new Question();
+            question.setContent(name + " question " + i);
+            question.setQuiz(quiz);
+            questionRepository.save(question);
+        }
+        return quiz;
+    }
+
+    private Quiz saveQuizWithOptions(String name, Category category, boolean published, int questionCount) {
+        Quiz quiz = saveQuiz(name, category, published, 0);
+        for (int i = 0; i < questionCount; i++) {
+            Question question = new Question();
+            question.setContent(name + " question " + i);
+            question.setQuiz(quiz);
+            for (int j = 0; j < 2; j++) {
+                AnswerOption option = new AnswerOption();
+                option.setText("Option " + j);
+                option.setCorrect(j == 0);
+                question.addAnswerOption(option);
+            }
+            questionRepository.save(question);
+        }
+        return quiz;
+    }
+
+    private MockHttpServletRequestBuilder gradingRequest(Quiz quiz) {
+        Question question = questionRepository.findByQuizId(quiz.getId()).get(0);
+        return post("/api/quizzes/" + quiz.getId() + "/submit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(submission(question.getId(), question.getAnswers().get(0).getId()));
+    }
+
+    private void saveReview(Quiz quiz, int rating) {
+        reviewService.createReview(quiz, "Reviewer", rating, null);
+    }
+
+    private long countStatements(String path) throws Exception {
+        return countStatements(get(path));
+    }
+
+    private long countStatements(MockHttpServletRequestBuilder request) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        // Start from an empty second-level cache, so counts do not depend on earlier reads
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
 }
@@ -4,18 +4,22 @@ import com.example.quizzerApp.model.Quiz;
 import com.example.quizzerApp.model.review.Review;
 import com.example.quizzerApp.repository.QuizRepository;
 import com.example.quizzerApp.repository.ReviewRepository;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -70,4 +74,118 @@ class ReviewQueryControllerIntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.error", containsString("Quiz not found")));
     }
+
+    @Test
+    void getReviewStatsFollowsReviewMutations() throws Exception {
+        quiz.setPublished(true);
+        quiz = quizRepository.save(quiz);
+
+        String first = mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nickname\":\"Alice\",\"rating\":5,\"text\":\"Great\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long firstId = ((Number) JsonPath.read(first, "$.id")).longValue();
+        String second = mockMvc.perform(post("/api/quizzes/" + quiz.getId() + "/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nickname\":\"Bob\",\"rating\":2,\"text\":\"Meh\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long secondId = ((Number) JsonPath.read(second, "$.id")).longValue();
+
+        mockMvc.perform(put("/api/reviews/" + firstId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"rating\":4,\"text\":\"Good\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/reviews/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(2)))
+                .andExpect(jsonPath("$.avgRating", is(closeTo(3.0, 0.01))))
+                .andExpect(jsonPath("$.histogram['2']", is(1)))
+                .andExpect(jsonPath("$.histogram['4']", is(1)))
+                .andExpect(jsonPath("$.histogram['5']", is(0)));
+
+        mockMvc.perform(delete("/api/reviews/" + secondId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/reviews/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.avgRating", is(closeTo(4.0, 0.01))))
+                .andExpect(jsonPath("$.histogram['2']", is(0)));
+    }
+
+    @Test
+    void getReviewsWalksPagesWithCursor() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            Review review = new Review();
+            review.setNickname("Reviewer " + i);
+            review.setRating(i);
+            review.setQuiz(quiz);
+            reviewRepository.save(review);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/reviews").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(5)))
+                .andExpect(jsonPath("$.reviews", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        String secondPage = mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/reviews")
+                        .param("size", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews", hasSize(2)))
+                .andReturn().getResponse().getContentAsString();
+        cursor = JsonPath.read(secondPage, "$.nextCursor");
+
+        mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/reviews")
+                        .param("size", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+
+        List<Object> firstIds = JsonPath.read(firstPage, "$.reviews[*].id");
+        List<Object> secondIds = JsonPath.read(secondPage, "$.reviews[*].id");
+        List<Object> seen = new ArrayList<>(firstIds);
+        seen.addAll(secondIds);
+        assertThat(seen).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void getReviewsSortsByRatingAcrossPages() throws Exception {
+        for (int rating : new int[] { 3, 5, 1, 5, 2 }) {
+            Review review = new Review();
+            review.setNickname("Reviewer");
+            review.setRating(rating);
+            review.setQuiz(quiz);
+            reviewRepository.save(review);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/reviews")
+                        .param("sort", "highest").param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews[*].rating", contains(5, 5, 3)))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/reviews")
+                        .param("sort", "highest").param("size", "3").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviews[*].rating", contains(2, 1)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+
+        // A cursor only works with the sort order it was issued for
+        mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/reviews")
+                        .param("sort", "newest").param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getReviewsRejectsUnknownSort() throws Exception {
+        mockMvc.perform(get("/api/quizzes/" + quiz.getId() + "/reviews").param("sort", "random"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,269 @@
+package com.example.quizzerApp.loadtest;
+
+import com.example.quizzerApp.loadtest.ExamDayWorkload.Endpoint;
+import com.example.quizzerApp.loadtest.ExamDayWorkload.SeededQuiz;
+import com.example.quizzerApp.loadtest.LatencyRecorder.Summary;
+import com.example.quizzerApp.model.AnswerOption;
+import com.example.quizzerApp.model.Category;
+import com.example.quizzerApp.model.Question;
+import com.example.quizzerApp.model.Quiz;
+import com.example.quizzerApp.repository.CategoryRepository;
+import com.example.quizzerApp.repository.QuestionRepository;
+import com.example.quizzerApp.repository.QuizRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the application on a random port against H2 in PostgreSQL mode,
+ * seeds a catalog and replays the exam-day request mix from concurrent
+ * virtual users over real HTTP.
+ *
+ * Reports p50/p99 latency and throughput per endpoint, writes them to
+ * {@code target/loadtest/<loadtest.report-name>.csv} and fails when a threshold from
+ * {@code application-loadtest.properties} is exceeded. Every setting can be
+ * overridden with a system property, e.g. {@code -Dloadtest.users=64}.
+ *
+ * Only runs with {@code mvn test -Ploadtest}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@Tag("loadtest")
+class ExamDayLoadTest {
+
+    private static final int OPTIONS_PER_QUESTION = 4;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Test
+    void examDayWorkloadMeetsThresholds() throws Exception {
+        int users = setting("users", Integer.class);
+        int warmupSeconds = setting("warmup-seconds", Integer.class);
+        int durationSeconds = setting("duration-seconds", Integer.class);
+        long thinkTimeMillis = setting("think-time-ms", Long.class);
+        long seed = setting("seed", Long.class);
+
+        ExamDayWorkload workload = seed(seed);
+        Map<Endpoint, LatencyRecorder> results = run(workload, users, warmupSeconds, durationSeconds,
+                thinkTimeMillis, seed);
+
+        Map<Endpoint, Summary> summaries = new EnumMap<>(Endpoint.class);
+        results.forEach((endpoint, recorder) -> summaries.put(endpoint, recorder.summarise(durationSeconds)));
+        report(summaries, users, durationSeconds);
+
+        assertThat(violations(summaries)).as("load test thresholds").isEmpty();
+    }
+
+    private ExamDayWorkload seed(long seed) {
+        Random random = new Random(seed);
+        int categoryCount = setting("categories", Integer.class);
+        int quizCount = setting("quizzes", Integer.class);
+        int questionsPerQuiz = setting("questions-per-quiz", Integer.class);
+
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < categoryCount; i++) {
+            categories.add(new Category("Load test category " + i, "Seeded by the load test"));
+        }
+        categories = categoryRepository.saveAll(categories);
+
+        List<SeededQuiz> quizzes = new ArrayList<>();
+        for (int i = 0; i < quizCount; i++) {
+            Quiz quiz = new Quiz();
+            quiz.setName("Exam " + i);
+            quiz.setDescription("Seeded by the load test");
+            quiz.setCourseCode("LOAD-" + i);
+            quiz.setPublished(true);
+            quiz.setCategory(categories.get(random.nextInt(categories.size())));
+            quiz = quizRepository.save(quiz);
+
+            List<Question> questions = new ArrayList<>();
+            for (int q = 0; q < questionsPerQuiz; q++) {
+                Question question = new Question();
+                question.setContent("Question " + q + " of exam " + i);
+                question.setDifficulty("Normal");
+                question.setQuiz(quiz);
+                for (int o = 0; o < OPTIONS_PER_QUESTION; o++) {
+                    AnswerOption option = new AnswerOption();
+                    option.setText("Option " + o);
+                    option.setCorrect(o == 0);
+                    question.addAnswerOption(option);
+                }
+                questions.add(question);
+            }
+            questions = questionRepository.saveAll(questions);
+
+            long[] questionIds = new long[questions.size()];
+            long[][] optionIds = new long[questions.size()][];
+            for (int q = 0; q < questions.size(); q++) {
+                questionIds[q] = questions.get(q).getId();
+                optionIds[q] = questions.get(q).getAnswers().stream().mapToLong(AnswerOption::getId).toArray();
+            }
+            quizzes.add(new SeededQuiz(quiz.getId(), questionIds, optionIds));
+        }
+
+        Map<Endpoint, Integer> weights = ExamDayWorkload.defaultWeights();
+        weights.replaceAll((endpoint, weight) ->
+                environment.getProperty("loadtest.weights." + endpoint.key(), Integer.class, weight));
+        return new ExamDayWorkload(URI.create("http://localhost:" + port),
+                categories.stream().map(Category::getId).toList(), quizzes, weights);
+    }
+
+    private Map<Endpoint, LatencyRecorder> run(ExamDayWorkload workload, int users, int warmupSeconds,
+            int durationSeconds, long thinkTimeMillis, long seed) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        ExecutorService pool = Executors.newFixedThreadPool(users);
+        try {
+            List<Future<Map<Endpoint, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int user = 0; user < users; user++) {
+                Random random = new Random(seed + user);
+                futures.add(pool.submit(() -> virtualUser(client, workload, random, measureFrom, end,
+                        thinkTimeMillis)));
+            }
+
+            Map<Endpoint, LatencyRecorder> merged = new EnumMap<>(Endpoint.class);
+            for (Endpoint endpoint : Endpoint.values()) {
+                merged.put(endpoint, new LatencyRecorder());
+            }
+            for (Future<Map<Endpoint, LatencyRecorder>> future : futures) {
+                future.get().forEach((endpoint, recorder) -> merged.get(endpoint).merge(recorder));
+            }
+            return merged;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Map<Endpoint, LatencyRecorder> virtualUser(HttpClient client, ExamDayWorkload workload,
+            Random random, long measureFrom, long end, long thinkTimeMillis) throws InterruptedException {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+        while (System.nanoTime() < end) {
+            Endpoint endpoint = workload.next(random);
+            HttpRequest request = workload.request(endpoint, random);
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() == endpoint.expectedStatus();
+            } catch (IOException e) {
+                success = false;
+            }
+            long elapsed = System.nanoTime() - start;
+            // Requests started during warm-up are not measured
+            if (start >= measureFrom && start < end) {
+                recorders.get(endpoint).record(elapsed, success);
+            }
+            if (thinkTimeMillis > 0) {
+                Thread.sleep(thinkTimeMillis);
+            }
+        }
+        return recorders;
+    }
+
+    private void report(Map<Endpoint, Summary> summaries, int users, int durationSeconds) throws IOException {
+        String name = environment.getProperty("loadtest.report-name", "exam-day");
+        Path csv = Path.of("target", "loadtest", name + ".csv");
+        Files.createDirectories(csv.getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(csv))) {
+            writer.println("endpoint,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms");
+            System.out.printf("%nLoad test %s: %d users, %d s measured%n", name, users, durationSeconds);
+            System.out.printf("%-48s %9s %7s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+            int total = 0;
+            for (Map.Entry<Endpoint, Summary> entry : summaries.entrySet()) {
+                Summary s = entry.getValue();
+                total += s.requests();
+                System.out.printf(Locale.ROOT, "%-48s %9d %7d %9.1f %9.2f %9.2f %9.2f%n", entry.getKey().label(),
+                        s.requests(), s.errors(), s.throughput(), s.p50Millis(), s.p99Millis(), s.maxMillis());
+                writer.printf(Locale.ROOT, "%s,%d,%d,%.2f,%.3f,%.3f,%.3f%n", entry.getKey().key(),
+                        s.requests(), s.errors(), s.throughput(), s.p50Millis(), s.p99Millis(), s.maxMillis());
+            }
+            System.out.printf(Locale.ROOT, "%-48s %9d %7s %9.1f%n%n", "total", total, "",
+                    (double) total / durationSeconds);
+        }
+    }
+
+    private List<String> violations(Map<Endpoint, Summary> summaries) {
+        List<String> violations = new ArrayList<>();
+        double maxErrorRate = setting("thresholds.max-error-rate", Double.class);
+        int total = 0;
+        for (Map.Entry<Endpoint, Summary> entry : summaries.entrySet()) {
+            Endpoint endpoint = entry.getKey();
+            Summary s = entry.getValue();
+            total += s.requests();
+            if (s.requests() == 0) {
+                continue;
+            }
+            Double p50 = threshold(endpoint, "p50-ms");
+            Double p99 = threshold(endpoint, "p99-ms");
+            if (p50 != null && s.p50Millis() > p50) {
+                violations.add(String.format(Locale.ROOT, "%s p50 %.2f ms > %.0f ms", endpoint.label(),
+                        s.p50Millis(), p50));
+            }
+            if (p99 != null && s.p99Millis() > p99) {
+                violations.add(String.format(Locale.ROOT, "%s p99 %.2f ms > %.0f ms", endpoint.label(),
+                        s.p99Millis(), p99));
+            }
+            if (s.errorRate() > maxErrorRate) {
+                violations.add(String.format(Locale.ROOT, "%s error rate %.4f > %.4f", endpoint.label(),
+                        s.errorRate(), maxErrorRate));
+            }
+        }
+        double throughput = (double) total / setting("duration-seconds", Integer.class);
+        double minThroughput = setting("thresholds.min-throughput", Double.class);
+        if (throughput < minThroughput) {
+            violations.add(String.format(Locale.ROOT, "total throughput %.1f req/s < %.1f req/s",
+                    throughput, minThroughput));
+        }
+        return violations;
+    }
+
+    private Double threshold(Endpoint endpoint, String name) {
+        return environment.getProperty("loadtest.thresholds." + endpoint.key() + "." + name, Double.class,
+                environment.getProperty("loadtest.thresholds.default." + name, Double.class));
+    }
+
+    private <T> T setting(String name, Class<T> type) {
+        return environment.getRequiredProperty("loadtest." + name, type);
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.quizzerApp.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The request mix of an exam day: students browse the catalog, open a quiz,
+ * answer its questions one by one, submit it and occasionally leave a review.
+ * Requests are drawn at random in proportion to the endpoint weights.
+ */
+class ExamDayWorkload {
+
+    /**
+     * The endpoints exercised by the workload, with their default weights.
+     */
+    enum Endpoint {
+        PUBLISHED_QUIZZES("published", "GET /api/quizzes/published", 15, 200),
+        CATEGORY_QUIZZES("category-quizzes", "GET /api/categories/{id}/quizzes", 10, 200),
+        QUIZ_DETAIL("quiz-detail", "GET /api/quizzes/{id}?includeQuestions=true", 15, 200),
+        ANSWER("answer", "POST /api/answers", 45, 201),
+        SUBMIT("submit", "POST /api/quizzes/{id}/submit", 10, 200),
+        REVIEW("review", "POST /api/quizzes/{id}/reviews", 5, 201);
+
+        private final String key;
+        private final String label;
+        private final int defaultWeight;
+        private final int expectedStatus;
+
+        Endpoint(String key, String label, int defaultWeight, int expectedStatus) {
+            this.key = key;
+            this.label = label;
+            this.defaultWeight = defaultWeight;
+            this.expectedStatus = expectedStatus;
+        }
+
+        /**
+         * The key used for this endpoint in loadtest.* properties.
+         */
+        String key() {
+            return key;
+        }
+
+        String label() {
+            return label;
+        }
+
+        int defaultWeight() {
+            return defaultWeight;
+        }
+
+        int expectedStatus() {
+            return expectedStatus;
+        }
+    }
+
+    /**
+     * A seeded quiz with the ids of its questions and their options.
+     * The first option of every question is the correct one.
+     */
+    record SeededQuiz(long id, long[] questionIds, long[][] optionIds) {
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final List<Long> categoryIds;
+    private final List<SeededQuiz> quizzes;
+    private final Endpoint[] endpoints = Endpoint.values();
+    private final int[] cumulativeWeights;
+
+    /**
+     * Creates the workload.
+     *
+     * @param baseUri     The base URI of the running application
+     * @param categoryIds The IDs of the seeded categories
+     * @param quizzes     The seeded, published quizzes
+     * @param weights     The relative weight of every endpoint
+     */
+    ExamDayWorkload(URI baseUri, List<Long> categoryIds, List<SeededQuiz> quizzes, Map<Endpoint, Integer> weights) {
+        this.baseUri = baseUri;
+        this.categoryIds = categoryIds;
+        this.quizzes = quizzes;
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.getOrDefault(endpoints[i], 0);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one endpoint must have a positive weight");
+        }
+    }
+
+    /**
+     * Creates the default endpoint weights.
+     *
+     * @return Map from endpoint to weight
+     */
+    static Map<Endpoint, Integer> defaultWeights() {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            weights.put(endpoint, endpoint.defaultWeight());
+        }
+        return weights;
+    }
+
+    /**
+     * Picks the next endpoint to call.
+     *
+     * @param random The random source of the calling worker
+     * @return The endpoint
+     */
+    Endpoint next(Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    /**
+     * Builds a request for an endpoint with randomly chosen, valid ids.
+     *
+     * @param endpoint The endpoint to call
+     * @param random   The random source of the calling worker
+     * @return The request
+     */
+    HttpRequest request(Endpoint endpoint, Random random) {
+        SeededQuiz quiz = quizzes.get(random.nextInt(quizzes.size()));
+        return switch (endpoint) {
+            case PUBLISHED_QUIZZES -> get("/api/quizzes/published");
+            case CATEGORY_QUIZZES -> get("/api/categories/"
+                    + categoryIds.get(random.nextInt(categoryIds.size())) + "/quizzes?published=true");
+            case QUIZ_DETAIL -> get("/api/quizzes/" + quiz.id() + "?includeQuestions=true");
+            case ANSWER -> {
+                int q = random.nextInt(quiz.questionIds().length);
+                long[] options = quiz.optionIds()[q];
+                yield post("/api/answers", "{\"questionId\":" + quiz.questionIds()[q]
+                        + ",\"answerOptionId\":" + options[random.nextInt(options.length)] + "}");
+            }
+            case SUBMIT -> post("/api/quizzes/" + quiz.id() + "/submit", submission(quiz, random));
+            case REVIEW -> post("/api/quizzes/" + quiz.id() + "/reviews",
+                    "{\"nickname\":\"student" + random.nextInt(10_000) + "\",\"rating\":" + (1 + random.nextInt(5))
+                            + ",\"text\":\"Load test review\"}");
+        };
+    }
+
+    private static String submission(SeededQuiz quiz, Random random) {
+        StringBuilder body = new StringBuilder("{\"answers\":[");
+        for (int q = 0; q < quiz.questionIds().length; q++) {
+            long[] options = quiz.optionIds()[q];
+            if (q > 0) {
+                body.append(',');
+            }
+            body.append("{\"questionId\":").append(quiz.questionIds()[q])
+                    .append(",\"selectedAnswerId\":").append(options[random.nextInt(options.length)])
+                    .append('}');
+        }
+        return body.append("]}").toString();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
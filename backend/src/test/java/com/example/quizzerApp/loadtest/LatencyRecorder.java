@@ -0,0 +1,80 @@
+package com.example.quizzerApp.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects the latencies of one endpoint.
+ * Each worker thread owns its own recorders, so recording needs no locking;
+ * recorders are merged once the run has finished.
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    /**
+     * Records one request.
+     *
+     * @param nanos   The latency of the request in nanoseconds
+     * @param success Whether the request got the expected status
+     */
+    void record(long nanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * Adds the requests of another recorder to this one.
+     *
+     * @param other The recorder to merge
+     */
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    /**
+     * Summarises the recorded requests.
+     *
+     * @param seconds The length of the measured period
+     * @return The summary
+     */
+    Summary summarise(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Summary(count, errors, count / seconds,
+                percentile(sorted, 50) / 1_000_000.0,
+                percentile(sorted, 99) / 1_000_000.0,
+                count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Latency and throughput of one endpoint over the measured period.
+     */
+    record Summary(int requests, int errors, double throughput, double p50Millis, double p99Millis,
+            double maxMillis) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.quizzerApp.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Baseline for {@link VirtualThreadsLoadTest}: quiz detail reads and answer
+ * posts only, handled on Tomcat's platform thread pool. Uses more users than
+ * Tomcat has request threads, so the thread pool is the bottleneck.
+ */
+@TestPropertySource(properties = {
+        "loadtest.report-name=platform-threads",
+        "loadtest.users=400",
+        "loadtest.weights.published=0",
+        "loadtest.weights.category-quizzes=0",
+        "loadtest.weights.quiz-detail=50",
+        "loadtest.weights.answer=50",
+        "loadtest.weights.submit=0",
+        "loadtest.weights.review=0"
+})
+class PlatformThreadsLoadTest extends ExamDayLoadTest {
+}
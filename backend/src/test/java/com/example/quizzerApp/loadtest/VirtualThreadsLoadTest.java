@@ -0,0 +1,26 @@
+package com.example.quizzerApp.loadtest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * The {@link PlatformThreadsLoadTest} workload with the virtual-threads
+ * profile: requests run on virtual threads and queue for connections on the
+ * admission semaphore. Compare target/loadtest/virtual-threads.csv with
+ * platform-threads.csv.
+ *
+ * H2 synchronises internally, so absolute numbers differ from PostgreSQL;
+ * the comparison shows how each mode behaves once requests outnumber threads.
+ */
+@ActiveProfiles({ "loadtest", "virtual-threads" })
+@TestPropertySource(properties = "loadtest.report-name=virtual-threads")
+class VirtualThreadsLoadTest extends PlatformThreadsLoadTest {
+
+    @BeforeEach
+    void requireVirtualThreads() {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads need a Java 21 runtime");
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.quizzerApp.repository;
+
+import com.example.quizzerApp.metrics.StatementCounter;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the migrations on an embedded PostgreSQL, validates the entities
+ * against the migrated schema and checks that every derived repository query
+ * can be answered through an index.
+ *
+ * Sequential scans are disabled for the EXPLAIN, so the planner only falls
+ * back to one when no index matches the query's predicates or joins. Queries
+ * that a migration added an index for must also be planned with that index.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class MigrationQueryPlanTest {
+
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private EmbeddedPostgres embeddedPostgres;
+    @Autowired
+    private RecordingStatementCounter statements;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private QuizRepository quizRepository;
+    @Autowired
+    private QuizAttemptRepository quizAttemptRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private SubmittedAnswerRepository submittedAnswerRepository;
+
+    @TestConfiguration
+    static class EmbeddedPostgresConfig {
+
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.start();
+        }
+
+        @Bean
+        DataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+            return embeddedPostgres.getPostgresDatabase();
+        }
+
+        @Bean
+        @Primary
+        RecordingStatementCounter recordingStatementCounter() {
+            return new RecordingStatementCounter();
+        }
+    }
+
+    /**
+     * Statement counter that also keeps the SQL Hibernate prepares.
+     */
+    static class RecordingStatementCounter extends StatementCounter {
+
+        private final List<String> sql = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String statement) {
+            sql.add(statement);
+            return super.inspect(statement);
+        }
+
+        List<String> drain() {
+            List<String> recorded = new ArrayList<>(sql);
+            sql.clear();
+            return recorded;
+        }
+    }
+
+    @Test
+    void migrationsAreFullyApplied() {
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void derivedQueriesAreServedByIndexes() throws SQLException {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        Map<String, String> indexes = new LinkedHashMap<>();
+        LocalDateTime after = LocalDateTime.of(2024, 1, 1, 0, 0);
+        queries.put("AnswerRepository.findByQuizIdOrderBySubmittedAtAscIdAsc",
+                () -> answerRepository.findByQuizIdOrderBySubmittedAtAscIdAsc(1L, Limit.of(10)));
+        queries.put("AnswerRepository.findByQuizIdAfter",
+                () -> answerRepository.findByQuizIdAfter(1L, after, 1L, Limit.of(10)));
+        queries.put("AnswerRepository.findByUserIdOrderBySubmittedAtAscIdAsc",
+                () -> answerRepository.findByUserIdOrderBySubmittedAtAscIdAsc("student", Limit.of(10)));
+        queries.put("AnswerRepository.findByUserIdAfter",
+                () -> answerRepository.findByUserIdAfter("student", after, 1L, Limit.of(10)));
+        queries.put("AnswerRepository.findByUserIdAndQuizIdOrderBySubmittedAtAscIdAsc",
+                () -> answerRepository.findByUserIdAndQuizIdOrderBySubmittedAtAscIdAsc("student", 1L, Limit.of(10)));
+        queries.put("AnswerRepository.findByUserIdAndQuizIdAfter",
+                () -> answerRepository.findByUserIdAndQuizIdAfter("student", 1L, after, 1L, Limit.of(10)));
+        queries.put("AnswerRepository.findByQuestionIdOrderBySubmittedAtAscIdAsc",
+                () -> answerRepository.findByQuestionIdOrderBySubmittedAtAscIdAsc(1L, Limit.of(10)));
+        queries.put("AnswerRepository.findByQuestionIdAfter",
+                () -> answerRepository.findByQuestionIdAfter(1L, after, 1L, Limit.of(10)));
+        queries.put("CategoryRepository.findAllByOrderByNameAsc", () -> categoryRepository.findAllByOrderByNameAsc());
+        queries.put("CategoryRepository.existsByName", () -> categoryRepository.existsByName("Math"));
+        queries.put("QuestionRepository.findByQuizId", () -> questionRepository.findByQuizId(1L));
+        queries.put("QuestionRepository.findWithAnswersByQuizId",
+                () -> questionRepository.findWithAnswersByQuizId(1L));
+        queries.put("QuestionRepository.findWithQuizAndAnswersById",
+                () -> questionRepository.findWithQuizAndAnswersById(1L));
+        queries.put("QuestionRepository.countByQuizId", () -> questionRepository.countByQuizId(1L));
+        queries.put("QuizRepository.findByPublishedTrue", () -> quizRepository.findByPublishedTrue());
+        queries.put("QuizRepository.findWithCategoryById", () -> quizRepository.findWithCategoryById(1L));
+        queries.put("QuizRepository.findByCategoryId", () -> quizRepository.findByCategoryId(1L));
+        queries.put("ReviewRepository.findByQuizId", () -> reviewRepository.findByQuizId(1L));
+        queries.put("ReviewRepository.findByQuizIdOrderByCreatedAtDescIdDesc",
+                () -> reviewRepository.findByQuizIdOrderByCreatedAtDescIdDesc(1L, Limit.of(10)));
+        queries.put("ReviewRepository.findByQuizIdOrderByCreatedAtAscIdAsc",
+                () -> reviewRepository.findByQuizIdOrderByCreatedAtAscIdAsc(1L, Limit.of(10)));
+        queries.put("ReviewRepository.findByQuizIdOrderByRatingDescCreatedAtDescIdDesc",
+                () -> reviewRepository.findByQuizIdOrderByRatingDescCreatedAtDescIdDesc(1L, Limit.of(10)));
+        queries.put("ReviewRepository.findByQuizIdOrderByRatingAscCreatedAtAscIdAsc",
+                () -> reviewRepository.findByQuizIdOrderByRatingAscCreatedAtAscIdAsc(1L, Limit.of(10)));
+        queries.put("QuizAttemptRepository.findByUserIdOrderBySubmittedAtDescIdDesc",
+                () -> quizAttemptRepository.findByUserIdOrderBySubmittedAtDescIdDesc("student", Limit.of(10)));
+        queries.put("QuizAttemptRepository.findByUserIdAndQuizIdOrderBySubmittedAtDescIdDesc",
+                () -> quizAttemptRepository.findByUserIdAndQuizIdOrderBySubmittedAtDescIdDesc("student", 1L,
+                        Limit.of(10)));
+        queries.put("QuizAttemptRepository.findByQuizIdOrderBySubmittedAtDescIdDesc",
+                () -> quizAttemptRepository.findByQuizIdOrderBySubmittedAtDescIdDesc(1L, Limit.of(10)));
+        queries.put("SubmittedAnswerRepository.findByAnswerOptionQuestionQuizId",
+                () -> submittedAnswerRepository.findByAnswerOptionQuestionQuizId(1L));
+
+        // V2: foreign keys and the published quiz listing
+        indexes.put("QuestionRepository.findByQuizId", "idx_question_quiz");
+        indexes.put("QuestionRepository.findWithAnswersByQuizId", "idx_question_quiz");
+        indexes.put("QuestionRepository.countByQuizId", "idx_question_quiz");
+        indexes.put("QuizRepository.findByPublishedTrue", "idx_quiz_published_category");
+        indexes.put("QuizRepository.findByCategoryId", "idx_quiz_category");
+        indexes.put("SubmittedAnswerRepository.findByAnswerOptionQuestionQuizId", "idx_question_quiz");
+        // V8: attempts of a user and of a quiz
+        indexes.put("QuizAttemptRepository.findByUserIdOrderBySubmittedAtDescIdDesc",
+                "idx_quiz_attempt_user_quiz_submitted");
+        indexes.put("QuizAttemptRepository.findByUserIdAndQuizIdOrderBySubmittedAtDescIdDesc",
+                "idx_quiz_attempt_user_quiz_submitted");
+        indexes.put("QuizAttemptRepository.findByQuizIdOrderBySubmittedAtDescIdDesc",
+                "idx_quiz_attempt_quiz_submitted");
+        // V10: keyset pages of answer histories
+        indexes.put("AnswerRepository.findByQuizIdOrderBySubmittedAtAscIdAsc", "idx_answer_quiz_submitted");
+        indexes.put("AnswerRepository.findByQuizIdAfter", "idx_answer_quiz_submitted");
+        indexes.put("AnswerRepository.findByUserIdOrderBySubmittedAtAscIdAsc", "idx_answer_user_submitted");
+        indexes.put("AnswerRepository.findByUserIdAfter", "idx_answer_user_submitted");
+        indexes.put("AnswerRepository.findByUserIdAndQuizIdOrderBySubmittedAtAscIdAsc",
+                "idx_answer_user_quiz_submitted");
+        indexes.put("AnswerRepository.findByUserIdAndQuizIdAfter", "idx_answer_user_quiz_submitted");
+        indexes.put("AnswerRepository.findByQuestionIdOrderBySubmittedAtAscIdAsc", "idx_answer_question_submitted");
+        indexes.put("AnswerRepository.findByQuestionIdAfter", "idx_answer_question_submitted");
+
+        // EXPLAIN (GENERIC_PLAN) takes the statement with unbound $n parameters,
+        // which only the simple query protocol passes to the server unchanged
+        DataSource simpleProtocol = embeddedPostgres.getPostgresDatabase(Map.of("preferQueryMode", "simple"));
+        try (Connection connection = simpleProtocol.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+            }
+            for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+                statements.drain();
+                query.getValue().run();
+                List<String> sql = statements.drain();
+                assertFalse(sql.isEmpty(), query.getKey() + " ran no statement");
+                StringBuilder plans = new StringBuilder();
+                for (String statement : sql) {
+                    String plan = explain(connection, statement);
+                    assertFalse(plan.contains("Seq Scan"),
+                            query.getKey() + " scans a table:\n" + statement + "\n" + plan);
+                    plans.append(statement).append('\n').append(plan);
+                }
+                String index = indexes.get(query.getKey());
+                if (index != null) {
+                    assertTrue(plans.toString().contains(index),
+                            query.getKey() + " does not use " + index + ":\n" + plans);
+                }
+            }
+        }
+    }
+
+    /**
+     * Plans a statement for any parameter values, without executing it.
+     */
+    private String explain(Connection connection, String sql) throws SQLException {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numbered)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.quizzerApp.service.attempt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AttemptResultCodecTest {
+
+    @Test
+    void roundTripsQuestionIdsInSubmissionOrder() {
+        long[] questionIds = { 1_000_001L, 1_000_002L, 1_000_051L, 999_990L, 5L };
+        boolean[] correct = { true, false, true, true, false };
+
+        AttemptResultCodec.Outcomes outcomes = AttemptResultCodec.decode(
+                AttemptResultCodec.encode(questionIds, correct));
+
+        assertThat(outcomes.size()).isEqualTo(questionIds.length);
+        for (int i = 0; i < questionIds.length; i++) {
+            assertThat(outcomes.questionId(i)).isEqualTo(questionIds[i]);
+            assertThat(outcomes.isCorrect(i)).isEqualTo(correct[i]);
+        }
+    }
+
+    @Test
+    void storesNeighbouringQuestionsInOneByteEach() {
+        long[] questionIds = new long[50];
+        boolean[] correct = new boolean[50];
+        for (int i = 0; i < questionIds.length; i++) {
+            questionIds[i] = 51 + i;
+            correct[i] = i % 2 == 0;
+        }
+
+        // The first ID takes two bytes, every following delta of 1 one byte
+        assertThat(AttemptResultCodec.encode(questionIds, correct)).hasSize(51);
+    }
+
+    @Test
+    void rejectsTruncatedResults() {
+        byte[] packed = AttemptResultCodec.encode(new long[] { 1_000_000L }, new boolean[] { true });
+        byte[] truncated = Arrays.copyOf(packed, packed.length - 1);
+
+        assertThatThrownBy(() -> AttemptResultCodec.decode(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
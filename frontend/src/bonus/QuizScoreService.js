@@ -1,5 +1,4 @@
 import axios from 'axios';
-import { questionApi } from '../utils/api';
 
 /**
  * Service for fetching quiz score/results data
@@ -19,61 +18,36 @@ class QuizScoreService {
   }
 
   /**
-   * Retrieves the user's personal score for a specific quiz using actual answers
+   * Retrieves the user's personal score for a specific quiz from the attempt
+   * recorded when the answers were submitted
    * @param {number|string} quizId - Quiz ID
    * @returns {Promise<Object>} Score object with correct and wrong counts
    */
   async getMyScore(quizId) {
     try {
-      // Get user answers from session storage
-      const userAnswersKey = `quiz_${quizId}_answers`;
-      const userAnswersJson = sessionStorage.getItem(userAnswersKey);
-
-      if (!userAnswersJson) {
-        throw new Error('No saved answers found for this quiz');
-      }
-
-      const userAnswers = JSON.parse(userAnswersJson);
-
-      // Get all questions for this quiz
-      const questions = await questionApi.getByQuizId(quizId);
-
-      if (!questions || questions.length === 0) {
-        throw new Error('Failed to load quiz questions');
+      // Get the attempt ID and user answers from session storage
+      const attemptId = sessionStorage.getItem(`quiz_${quizId}_attempt`);
+      if (!attemptId) {
+        throw new Error('No submitted attempt found for this quiz');
       }
+      const userAnswersJson = sessionStorage.getItem(`quiz_${quizId}_answers`);
+      const userAnswers = userAnswersJson ? JSON.parse(userAnswersJson) : [];
 
-      // Calculate score by comparing user answers to correct answers
-      let correctCount = 0;
-      let wrongCount = 0;
-
-      questions.forEach(question => {
-        // Find the correct answer for this question
-        const correctAnswerId = question.answers.find(a => a.correct)?.id;
-
-        // Find user's answer for this question
-        const userAnswer = userAnswers.find(a => a.questionId === question.id);
-
-        if (userAnswer && userAnswer.selectedAnswerId === correctAnswerId) {
-          correctCount++;
-        } else {
-          wrongCount++;
-        }
-      });
-
-      const totalQuestions = questions.length;
-      const percentage = totalQuestions > 0 ? Math.round((correctCount / totalQuestions) * 100) : 0;
+      // The server graded the attempt on submission
+      const response = await this.api.get(`/attempts/${attemptId}`);
+      const attempt = response.data;
 
       return {
         quizId: Number(quizId),
-        correctCount,
-        wrongCount,
-        totalQuestions,
-        percentage,
+        correctCount: attempt.correctAnswers,
+        wrongCount: attempt.totalQuestions - attempt.correctAnswers,
+        totalQuestions: attempt.totalQuestions,
+        percentage: attempt.score,
         // Add user answer data for reference
         userAnswers
       };
     } catch (error) {
-      console.error('Error calculating quiz score:', error);
+      console.error('Error loading quiz score:', error);
       throw error;
     }
   }
@@ -13,6 +13,7 @@ function ReviewsList() {
   const { id } = useParams();
   const navigate = useNavigate();
   const [reviews, setReviews] = useState([]);
+  const [summary, setSummary] = useState(null);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);  // Handle edit review
   const handleEdit = (reviewId) => {
@@ -70,6 +71,8 @@ function ReviewsList() {
 
       // Success - optionally show a success message
       console.log('Review deleted successfully');
+      // Refresh the server-side totals
+      fetchReviews();
 
     } catch (err) {
       console.error('Failed to delete review:', err);
@@ -98,6 +101,10 @@ function ReviewsList() {
         reviewsArray = data;
       } else if (data && data.reviews && Array.isArray(data.reviews)) {
         reviewsArray = data.reviews;
+        // The list is paged; total and average come from the server
+        if (typeof data.total === 'number') {
+          setSummary({ total: data.total, avgRating: data.avgRating });
+        }
       } else if (data) {
         console.warn('Unexpected reviews data format:', data);
       }
@@ -119,10 +126,13 @@ function ReviewsList() {
   if (loading) return <div className="loading">Loading reviews...</div>;
   if (error) return <div className="error-message">{error}</div>;
 
-  // Calculate average rating
-  const averageRating = reviews.length
-    ? (reviews.reduce((sum, review) => sum + review.rating, 0) / reviews.length).toFixed(1)
-    : 'No ratings';
+  // Prefer the server's totals, since the list may only hold the first page
+  const totalReviews = summary ? summary.total : reviews.length;
+  const averageRating = summary
+    ? (summary.total ? summary.avgRating.toFixed(1) : 'No ratings')
+    : reviews.length
+      ? (reviews.reduce((sum, review) => sum + review.rating, 0) / reviews.length).toFixed(1)
+      : 'No ratings';
 
   // Generate stars based on rating
   const renderStars = (rating) => {
@@ -142,7 +152,7 @@ function ReviewsList() {
       <div className="reviews-header">
         <h2>Reviews</h2>
         <div className="reviews-summary">
-          <span>{reviews.length} {reviews.length === 1 ? 'Review' : 'Reviews'}</span>
+          <span>{totalReviews} {totalReviews === 1 ? 'Review' : 'Reviews'}</span>
           <span className="average-rating">
             Average Rating: {averageRating}
           </span>
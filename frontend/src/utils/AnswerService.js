@@ -40,15 +40,16 @@ class AnswerService {
    * Submit answers for a quiz and get results
    * @param {number|string} quizId - The ID of the quiz
    * @param {Array} answers - Array of answer objects {questionId, selectedAnswerId}
-   * @returns {Promise<Object>} Results object with score and feedback
+   * @param {string} [startedAt] - ISO timestamp of when the quiz was started
+   * @returns {Promise<Object>} Results object with score, feedback and the recorded attempt ID
    */
-  async submitAnswers(quizId, answers) {
+  async submitAnswers(quizId, answers, startedAt) {
     try {
       // Log the request data
       console.log('Submitting answers for quiz:', quizId);
       console.log('Answers data:', answers);
 
-      const requestData = { answers };
+      const requestData = { answers, startedAt };
       console.log('Request payload:', requestData);
 
       const response = await this.api.post(`/quizzes/${quizId}/submit`, requestData);
@@ -242,21 +242,23 @@ export const quizApi = {
                 if (!confirm) {
                     throw new Error('Delete cancelled by user');
                 }
+            }
 
-                // Delete all questions first - important to prevent foreign key constraint errors
-                console.log(`Deleting ${questions.length} questions before deleting quiz`);
-                for (const question of questions) {
-                    try {
-                        await api.delete(`/questions/${question.id}`);
-                    } catch (questionDeleteError) {
-                        console.error(`Failed to delete question ${question.id}:`, questionDeleteError);
-                        // Continue trying to delete other questions
-                    }
+            // The server deletes the questions, answer options, answers and
+            // reviews with the quiz, in a background job that is polled here
+            const response = await api.post('/quizzes/bulk-delete', { quizIds: [Number(id)] });
+            let job = response.data;
+            const deadline = Date.now() + 60000;
+            while (!job.finished) {
+                if (Date.now() > deadline) {
+                    throw new Error('Deleting the quiz is taking longer than expected. Refresh the page later to check whether it is gone.');
                 }
+                await new Promise(resolve => setTimeout(resolve, 500));
+                job = (await api.get(`/quizzes/bulk-delete/${job.id}`)).data;
+            }
+            if (job.status === 'FAILED') {
+                throw new Error(`Failed to delete quiz: ${job.error}`);
             }
-
-            // Now try to delete the quiz
-            await api.delete(`/quizzes/${id}`);
             return true;
         } catch (error) {
             console.error('Error deleting quiz:', error);
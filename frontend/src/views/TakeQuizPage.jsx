@@ -28,6 +28,7 @@ const TakeQuizPage = () => {
   const [submitting, setSubmitting] = useState(false);
   const [feedbackToast, setFeedbackToast] = useState({ visible: false, isCorrect: false, message: '' });
   const [currentQuestionFeedback, setCurrentQuestionFeedback] = useState(null);
+  const [startedAt, setStartedAt] = useState(null);
 
   const answerService = new AnswerService();
 
@@ -60,6 +61,7 @@ const TakeQuizPage = () => {
 
         setQuiz(quizData);
         setQuestions(questionsData);
+        setStartedAt(new Date().toISOString());
         setLoading(false);
       } catch (error) {
         console.error('Error fetching quiz or questions:', error);
@@ -188,7 +190,10 @@ const TakeQuizPage = () => {
       sessionStorage.setItem(userAnswersKey, JSON.stringify(answers));
 
       // Submit the answers
-      const quizResults = await answerService.submitAnswers(id, answers);
+      const quizResults = await answerService.submitAnswers(id, answers, startedAt);
+
+      // The summary page reads the score from the recorded attempt
+      sessionStorage.setItem(`quiz_${id}_attempt`, String(quizResults.attemptId));
 
       // Update state with results
       setResults(quizResults);
@@ -213,6 +218,7 @@ const TakeQuizPage = () => {
     setCurrentQuestion(0);
     setQuizCompleted(false);
     setResults(null);
+    setStartedAt(new Date().toISOString());
     setCurrentQuestionFeedback(null);
   };
 